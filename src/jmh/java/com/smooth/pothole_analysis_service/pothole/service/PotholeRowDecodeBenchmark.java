@@ -0,0 +1,126 @@
+package com.smooth.pothole_analysis_service.pothole.service;
+
+import com.smooth.pothole_analysis_service.pothole.dto.PotholeRecordBatch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Athena 결과 행 디코딩 비교 (./gradlew jmh, -prof gc 로 행당 할당량 gc.alloc.rate.norm 확인)
+// map: 기존 방식 - 행마다 HashMap 생성, trim + Double.parseDouble 박싱, split + String.matches 로 날짜 추출
+// batch: PotholeRowDecoder 로 재사용 PotholeRecordBatch 에 기록
+// 실제 결과처럼 행마다 타임스탬프가 다르게 만들어, 같은 값이 반복될 때만 드러나지 않는 변환 비용까지 측정
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PotholeRowDecodeBenchmark {
+
+    private static final int ROW_COUNT = 1_000;
+    private static final List<String> COLUMNS =
+            List.of("carid", "speed", "locationx", "locationy", "s3url", "impactforce", "zaxisvibration", "timestamp");
+
+    private List<List<String>> rows;
+    private PotholeRecordBatch batch;
+
+    @Setup
+    public void setUp() {
+        rows = new ArrayList<>(ROW_COUNT);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            rows.add(List.of(
+                    String.valueOf(i % 50 + 1),
+                    String.valueOf(30 + i % 40),
+                    String.valueOf(i * 0.5),
+                    String.valueOf(i * 0.25),
+                    "s3://bucket/images/" + i + ".jpg",
+                    String.valueOf(1.5 + (i % 100) / 10.0),
+                    String.valueOf(0.5 + (i % 30) / 10.0),
+                    timestamp(i)));
+        }
+        batch = new PotholeRecordBatch(ROW_COUNT);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROW_COUNT)
+    public void map(Blackhole blackhole) {
+        for (List<String> fields : rows) {
+            Map<String, String> row = new HashMap<>();
+            for (int j = 0; j < COLUMNS.size(); j++) {
+                row.put(COLUMNS.get(j), fields.get(j));
+            }
+            blackhole.consume(row.get("carid"));
+            blackhole.consume(parseDouble(row.get("speed")));
+            blackhole.consume(parseDouble(row.get("locationx")));
+            blackhole.consume(parseDouble(row.get("locationy")));
+            blackhole.consume(row.get("s3url"));
+            blackhole.consume(parseDouble(row.get("impactforce")));
+            blackhole.consume(parseDouble(row.get("zaxisvibration")));
+            blackhole.consume(formatDateOnly(row.get("timestamp")));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROW_COUNT)
+    public void batch(Blackhole blackhole) {
+        // 실제 적재처럼 결과 집합마다 디코더를 만들고 배치는 재사용
+        PotholeRowDecoder decoder = PotholeRowDecoder.forHeader(COLUMNS);
+        batch.clear();
+        for (List<String> fields : rows) {
+            decoder.decode(fields, batch);
+        }
+        for (int row = 0; row < batch.size(); row++) {
+            blackhole.consume(batch.getCarId(row));
+            blackhole.consume(batch.getNumber(PotholeRecordBatch.SPEED, row));
+            blackhole.consume(batch.getNumber(PotholeRecordBatch.LOCATION_X, row));
+            blackhole.consume(batch.getNumber(PotholeRecordBatch.LOCATION_Y, row));
+            blackhole.consume(batch.getS3Url(row));
+            blackhole.consume(batch.getNumber(PotholeRecordBatch.IMPACT_FORCE, row));
+            blackhole.consume(batch.getNumber(PotholeRecordBatch.Z_AXIS_VIBRATION, row));
+            blackhole.consume(batch.getDetectedAt(row));
+        }
+    }
+
+    // 2025-08-27 부터 행마다 7.3초씩 증가하는 마이크로초 타임스탬프
+    private static String timestamp(int i) {
+        long micros = i * 7_300_123L;
+        long seconds = micros / 1_000_000;
+        return String.format("2025-08-%02d %02d:%02d:%02d.%06d", 27 + seconds / 86_400,
+                seconds / 3_600 % 24, seconds / 60 % 60, seconds % 60, micros % 1_000_000);
+    }
+
+    // 기존 PotholeService.parseDouble
+    private static Double parseDouble(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // 기존 PotholeService.formatDateOnly
+    private static String formatDateOnly(String timestamp) {
+        if (timestamp == null || timestamp.trim().isEmpty()) {
+            return null;
+        }
+        String dateOnly = timestamp.trim();
+        if (dateOnly.contains(" ")) {
+            dateOnly = dateOnly.split(" ")[0];
+        } else if (dateOnly.contains("T")) {
+            dateOnly = dateOnly.split("T")[0];
+        }
+        return dateOnly.matches("\\d{4}-\\d{2}-\\d{2}") ? dateOnly : timestamp;
+    }
+}
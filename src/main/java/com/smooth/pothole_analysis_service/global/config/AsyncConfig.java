@@ -0,0 +1,64 @@
+package com.smooth.pothole_analysis_service.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+// 비동기 작업 실행기 설정
+
+@Configuration
+public class AsyncConfig {
+
+    public static final String INGESTION_EXECUTOR = "ingestionExecutor";
+    public static final String BACKFILL_EXECUTOR = "backfillExecutor";
+    public static final String STREAMING_EXECUTOR = "streamingExecutor";
+
+    // 포트홀 적재 작업 실행기 - 동시 실행 수와 대기열을 제한해 요청 스레드와 DB 커넥션을 보호
+    @Bean(name = INGESTION_EXECUTOR)
+    public ThreadPoolTaskExecutor ingestionExecutor(
+            @Value("${pothole.ingest.jobs.pool-size:2}") int poolSize,
+            @Value("${pothole.ingest.jobs.queue-capacity:20}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("ingest-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    // 백필 구간 저장 실행기 - 스레드 수가 백필 최대 동시 실행 구간 수의 상한
+    @Bean(name = BACKFILL_EXECUTOR)
+    public ThreadPoolTaskExecutor backfillExecutor(
+            @Value("${pothole.backfill.max-parallelism:4}") int maxParallelism) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxParallelism);
+        executor.setMaxPoolSize(maxParallelism);
+        executor.setThreadNamePrefix("backfill-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    // 스트리밍 응답(StreamingResponseBody) 작성 실행기 - 동시 스트림 수가 DB 커넥션을 모두 차지하지 않도록 제한
+    @Bean(name = STREAMING_EXECUTOR)
+    public ThreadPoolTaskExecutor streamingExecutor(
+            @Value("${pothole.stream.pool-size:4}") int poolSize,
+            @Value("${pothole.stream.queue-capacity:50}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("stream-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,21 @@
+package com.smooth.pothole_analysis_service.global.config;
+
+import feign.Request;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+// Feign 클라이언트 공통 설정
+
+@Configuration
+public class FeignConfig {
+
+    // 연결/응답 제한 시간 - 호출 제한 시간을 넘겨 버려진 요청이 동시 호출 수를 오래 차지하지 않도록 같은 값 사용
+    // (기본값은 응답 60초라 user-service 가 응답하지 않으면 요청이 계속 남아 있음)
+    @Bean
+    public Request.Options feignRequestOptions(@Value("${user.service.call-timeout-ms:1000}") long callTimeoutMs) {
+        return new Request.Options(callTimeoutMs, TimeUnit.MILLISECONDS, callTimeoutMs, TimeUnit.MILLISECONDS, true);
+    }
+}
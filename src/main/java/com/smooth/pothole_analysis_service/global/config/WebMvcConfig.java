@@ -0,0 +1,29 @@
+package com.smooth.pothole_analysis_service.global.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// 비동기 응답 설정 - 스트리밍 응답은 전용 실행기에서 작성하고, 대량 데이터 전송이 끝날 수 있도록 제한 시간을 늘림
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final ThreadPoolTaskExecutor streamingExecutor;
+    private final long asyncTimeoutMs;
+
+    public WebMvcConfig(@Qualifier(AsyncConfig.STREAMING_EXECUTOR) ThreadPoolTaskExecutor streamingExecutor,
+                        @Value("${pothole.stream.timeout-ms:600000}") long asyncTimeoutMs) {
+        this.streamingExecutor = streamingExecutor;
+        this.asyncTimeoutMs = asyncTimeoutMs;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(streamingExecutor);
+        configurer.setDefaultTimeout(asyncTimeoutMs);
+    }
+}
@@ -0,0 +1,91 @@
+package com.smooth.pothole_analysis_service.global.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+
+// 연속 실패 횟수 기반 서킷 브레이커
+// CLOSED: 모든 호출 허용, 연속 failure-threshold 회 실패하면 OPEN
+// OPEN: open-duration 동안 호출하지 않음, 이후 HALF_OPEN
+// HALF_OPEN: 시험 호출 한 건만 허용 - 성공하면 CLOSED, 실패하면 다시 OPEN
+// 호출을 허용받았으면 결과에 따라 반드시 onSuccess / onFailure 중 하나를 호출해야 함
+
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openDurationNanos;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    public CircuitBreaker(String name, int failureThreshold, Duration openDuration) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("failureThreshold must be positive: " + failureThreshold);
+        }
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+    }
+
+    // 호출 허용 여부
+    public synchronized boolean tryAcquirePermission() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (System.nanoTime() - openedAt < openDurationNanos) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                log.info("서킷 브레이커 HALF_OPEN - 시험 호출 허용: {}", name);
+                trialInFlight = true;
+                return true;
+            default:
+                if (trialInFlight) {
+                    return false;
+                }
+                trialInFlight = true;
+                return true;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        if (state != State.CLOSED) {
+            log.info("서킷 브레이커 CLOSED - 호출 재개: {}", name);
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    public synchronized void onFailure() {
+        trialInFlight = false;
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        consecutiveFailures++;
+        if (state == State.CLOSED && consecutiveFailures >= failureThreshold) {
+            open();
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.nanoTime();
+        log.warn("서킷 브레이커 OPEN - {}ms 동안 호출 중단: {} (연속 실패 {}회)",
+                openDurationNanos / 1_000_000, name, consecutiveFailures);
+    }
+}
@@ -0,0 +1,138 @@
+package com.smooth.pothole_analysis_service.global.util;
+
+// 10진수 문자열 → double 변환기 (중간 String/박싱 객체를 만들지 않음)
+// 유효 숫자 15자리 이하, 10의 지수 ±22 이내인 일반적인 값은 long 가수와 10의 거듭제곱 한 번의 곱셈/나눗셈으로 계산하며,
+// 두 값이 모두 double 로 정확히 표현되므로 결과는 Double.parseDouble 과 같음 (Clinger fast path)
+// 그 밖의 값(NaN, Infinity, 긴 가수, 큰 지수, 16진수 표기 등)은 Double.parseDouble 로 처리
+
+public final class DecimalParser {
+
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    // 이보다 작은 가수는 double 로 정확히 표현됨
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    // long 에 넘치지 않고 누적할 수 있는 최대 자릿수
+    private static final int MAX_MANTISSA_DIGITS = 18;
+
+    private DecimalParser() {
+    }
+
+    // 앞뒤 공백을 제외하면 비어 있는지 여부
+    public static boolean isBlank(CharSequence value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 앞뒤 공백을 무시하고 double 로 변환, 숫자가 아니면 NumberFormatException
+    public static double parseDouble(CharSequence value) {
+        int start = 0;
+        int end = value.length();
+        while (start < end && value.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            throw new NumberFormatException("empty String");
+        }
+
+        int i = start;
+        boolean negative = false;
+        char c = value.charAt(i);
+        if (c == '-' || c == '+') {
+            negative = c == '-';
+            i++;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean sawDigit = false;
+        boolean sawDot = false;
+
+        for (; i < end; i++) {
+            c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                sawDigit = true;
+                if (mantissa == 0 && c == '0') {
+                    // 앞자리 0 은 가수에 넣지 않고 소수점 이후라면 지수만 조정
+                    if (sawDot) {
+                        exponent--;
+                    }
+                    continue;
+                }
+                if (digits >= MAX_MANTISSA_DIGITS) {
+                    return fallback(value, start, end);
+                }
+                mantissa = mantissa * 10 + (c - '0');
+                digits++;
+                if (sawDot) {
+                    exponent--;
+                }
+            } else if (c == '.' && !sawDot) {
+                sawDot = true;
+            } else {
+                break;
+            }
+        }
+
+        if (!sawDigit) {
+            return fallback(value, start, end);
+        }
+
+        if (i < end) {
+            c = value.charAt(i);
+            if (c != 'e' && c != 'E') {
+                return fallback(value, start, end);
+            }
+            i++;
+
+            boolean negativeExponent = false;
+            if (i < end && (value.charAt(i) == '-' || value.charAt(i) == '+')) {
+                negativeExponent = value.charAt(i) == '-';
+                i++;
+            }
+
+            int exponentStart = i;
+            int explicitExponent = 0;
+            for (; i < end; i++) {
+                c = value.charAt(i);
+                if (c < '0' || c > '9') {
+                    return fallback(value, start, end);
+                }
+                if (explicitExponent < 10_000) {
+                    explicitExponent = explicitExponent * 10 + (c - '0');
+                }
+            }
+            if (i == exponentStart) {
+                return fallback(value, start, end);
+            }
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+
+        double result;
+        if (mantissa == 0) {
+            result = 0.0;
+        } else if (mantissa < MAX_EXACT_MANTISSA && exponent >= -22 && exponent <= 22) {
+            result = exponent >= 0
+                    ? mantissa * POWERS_OF_TEN[exponent]
+                    : mantissa / POWERS_OF_TEN[-exponent];
+        } else {
+            return fallback(value, start, end);
+        }
+        return negative ? -result : result;
+    }
+
+    private static double fallback(CharSequence value, int start, int end) {
+        return Double.parseDouble(value.subSequence(start, end).toString());
+    }
+}
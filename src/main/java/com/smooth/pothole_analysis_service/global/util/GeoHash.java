@@ -0,0 +1,163 @@
+package com.smooth.pothole_analysis_service.global.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 위도/경도 ↔ 지오해시 변환기
+// 지오해시는 앞부분이 같으면 같은 격자 칸 안에 있으므로, 일반 B-tree 인덱스의 접두사 범위 조회로
+// 영역 검색을 할 수 있음 (MySQL/H2 모두 동작)
+
+public final class GeoHash {
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+    // pothole_data.geohash 에 저장하는 자릿수 (약 4.8m x 4.8m)
+    public static final int STORED_PRECISION = 9;
+
+    private GeoHash() {
+    }
+
+    public static String encode(double latitude, double longitude, int precision) {
+        double minLat = -90.0, maxLat = 90.0;
+        double minLon = -180.0, maxLon = 180.0;
+        char[] hash = new char[precision];
+        boolean lonBit = true;
+
+        for (int i = 0; i < precision; i++) {
+            int value = 0;
+            for (int bit = 0; bit < 5; bit++) {
+                value <<= 1;
+                if (lonBit) {
+                    double mid = (minLon + maxLon) / 2;
+                    if (longitude >= mid) {
+                        value |= 1;
+                        minLon = mid;
+                    } else {
+                        maxLon = mid;
+                    }
+                } else {
+                    double mid = (minLat + maxLat) / 2;
+                    if (latitude >= mid) {
+                        value |= 1;
+                        minLat = mid;
+                    } else {
+                        maxLat = mid;
+                    }
+                }
+                lonBit = !lonBit;
+            }
+            hash[i] = BASE32[value];
+        }
+        return new String(hash);
+    }
+
+    // 영역을 덮는 지오해시 접두사 목록 - 칸 수가 maxCells 이하가 되는 가장 긴 자릿수를 사용
+    // (1자리는 32칸이므로 maxCells 가 32 미만이면 1자리 전체를 반환할 수 있음)
+    public static List<String> coveringPrefixes(double minLat, double minLon, double maxLat, double maxLon,
+                                                int maxCells) {
+        for (int precision = STORED_PRECISION; precision > 1; precision--) {
+            List<String> prefixes = cells(minLat, minLon, maxLat, maxLon, precision, maxCells);
+            if (prefixes != null) {
+                return prefixes;
+            }
+        }
+        return cells(minLat, minLon, maxLat, maxLon, 1, Integer.MAX_VALUE);
+    }
+
+    // 영역을 precision 자리 칸으로 나눌 때 걸치는 칸 수
+    public static long cellCount(double minLat, double minLon, double maxLat, double maxLon, int precision) {
+        int bits = precision * 5;
+        int lonBits = (bits + 1) / 2;
+        int latBits = bits / 2;
+        double cellWidth = 360.0 / (1L << lonBits);
+        double cellHeight = 180.0 / (1L << latBits);
+
+        long columns = cellIndex(maxLon + 180.0, cellWidth, lonBits) - cellIndex(minLon + 180.0, cellWidth, lonBits) + 1;
+        long rows = cellIndex(maxLat + 90.0, cellHeight, latBits) - cellIndex(minLat + 90.0, cellHeight, latBits) + 1;
+        return columns * rows;
+    }
+
+    // 지오해시 칸의 경계 {minLat, minLon, maxLat, maxLon}
+    public static double[] bounds(String geohash) {
+        double minLat = -90.0, maxLat = 90.0;
+        double minLon = -180.0, maxLon = 180.0;
+        boolean lonBit = true;
+
+        for (int i = 0; i < geohash.length(); i++) {
+            int value = indexOf(geohash.charAt(i));
+            for (int bit = 4; bit >= 0; bit--) {
+                boolean set = (value & (1 << bit)) != 0;
+                if (lonBit) {
+                    double mid = (minLon + maxLon) / 2;
+                    if (set) {
+                        minLon = mid;
+                    } else {
+                        maxLon = mid;
+                    }
+                } else {
+                    double mid = (minLat + maxLat) / 2;
+                    if (set) {
+                        minLat = mid;
+                    } else {
+                        maxLat = mid;
+                    }
+                }
+                lonBit = !lonBit;
+            }
+        }
+        return new double[]{minLat, minLon, maxLat, maxLon};
+    }
+
+    // 지오해시 칸이 영역과 겹치는지 여부
+    public static boolean intersects(String geohash, double minLat, double minLon, double maxLat, double maxLon) {
+        double[] cell = bounds(geohash);
+        return cell[0] <= maxLat && cell[2] >= minLat && cell[1] <= maxLon && cell[3] >= minLon;
+    }
+
+    // 접두사로 시작하는 모든 지오해시보다 큰 가장 작은 문자열 (접두사 범위 조회의 상한, 배타적)
+    public static String prefixUpperBound(String prefix) {
+        // BASE32 의 마지막 문자 'z' 다음 문자
+        return prefix + '{';
+    }
+
+    private static List<String> cells(double minLat, double minLon, double maxLat, double maxLon,
+                                      int precision, int maxCells) {
+        int bits = precision * 5;
+        int lonBits = (bits + 1) / 2;
+        int latBits = bits / 2;
+        double cellWidth = 360.0 / (1L << lonBits);
+        double cellHeight = 180.0 / (1L << latBits);
+
+        if (cellCount(minLat, minLon, maxLat, maxLon, precision) > maxCells) {
+            return null;
+        }
+
+        long x0 = cellIndex(minLon + 180.0, cellWidth, lonBits);
+        long x1 = cellIndex(maxLon + 180.0, cellWidth, lonBits);
+        long y0 = cellIndex(minLat + 90.0, cellHeight, latBits);
+        long y1 = cellIndex(maxLat + 90.0, cellHeight, latBits);
+
+        List<String> prefixes = new ArrayList<>();
+        for (long x = x0; x <= x1; x++) {
+            for (long y = y0; y <= y1; y++) {
+                // 칸 중심 좌표로 인코딩해 경계 오차를 피함
+                prefixes.add(encode((y + 0.5) * cellHeight - 90.0, (x + 0.5) * cellWidth - 180.0, precision));
+            }
+        }
+        return prefixes;
+    }
+
+    private static int indexOf(char c) {
+        for (int i = 0; i < BASE32.length; i++) {
+            if (BASE32[i] == c) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("invalid geohash character: " + c);
+    }
+
+    private static long cellIndex(double offset, double cellSize, int bits) {
+        long index = (long) Math.floor(offset / cellSize);
+        return Math.max(0, Math.min(index, (1L << bits) - 1));
+    }
+}
@@ -0,0 +1,113 @@
+package com.smooth.pothole_analysis_service.global.util;
+
+import java.util.Arrays;
+
+// long 값 전용 해시 셋 (오픈 어드레싱, 선형 탐사)
+// Long 박싱과 엔트리 객체가 없어 HashSet<Long> 대비 원소당 메모리가 약 1/6 수준
+// 스레드 안전하지 않음
+
+public class LongHashSet {
+
+    private static final long EMPTY = 0L;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] table;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+
+    // 0 은 빈 슬롯 표시로 쓰므로 별도 플래그로 관리
+    private boolean containsZero;
+
+    public LongHashSet() {
+        this(1024);
+    }
+
+    public LongHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    // 새로 추가되었으면 true, 이미 있었으면 false
+    public boolean add(long value) {
+        if (value == EMPTY) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+
+        int index = indexOf(value);
+        while (table[index] != EMPTY) {
+            if (table[index] == value) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+
+        table[index] = value;
+        if (++size > resizeThreshold) {
+            resize();
+        }
+        return true;
+    }
+
+    public boolean contains(long value) {
+        if (value == EMPTY) {
+            return containsZero;
+        }
+
+        int index = indexOf(value);
+        while (table[index] != EMPTY) {
+            if (table[index] == value) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // 용량은 유지한 채 모두 비움
+    public void clear() {
+        Arrays.fill(table, EMPTY);
+        containsZero = false;
+        size = 0;
+    }
+
+    private int indexOf(long value) {
+        // Fibonacci hashing - 상위 비트까지 고르게 섞어서 인덱스 계산
+        long mixed = value * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32)) & mask;
+    }
+
+    private void allocate(int capacity) {
+        table = new long[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private void resize() {
+        long[] oldTable = table;
+        allocate(oldTable.length << 1);
+        for (long value : oldTable) {
+            if (value == EMPTY) {
+                continue;
+            }
+            int index = indexOf(value);
+            while (table[index] != EMPTY) {
+                index = (index + 1) & mask;
+            }
+            table[index] = value;
+        }
+    }
+}
@@ -4,10 +4,17 @@ import com.smooth.pothole_analysis_service.pothole.dto.UserResponseDto;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
 
 @FeignClient(name = "user-service", url = "${user.service.url}")
 public interface UserServiceClient {
 
     @GetMapping("/internal/v1/users/{userId}/admin-info")
     UserResponseDto getUserById(@PathVariable("userId") Long userId);
+
+    // 여러 사용자 정보 일괄 조회 (없는 사용자는 결과에서 빠짐)
+    @GetMapping("/internal/v1/users/admin-info")
+    List<UserResponseDto> getUsersByIds(@RequestParam("userIds") List<Long> userIds);
 }
@@ -0,0 +1,167 @@
+package com.smooth.pothole_analysis_service.pothole.client;
+
+import com.smooth.pothole_analysis_service.global.util.CircuitBreaker;
+import com.smooth.pothole_analysis_service.pothole.dto.UserResponseDto;
+import feign.FeignException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// user-service 호출 게이트웨이
+// batch-size 개씩 나눈 요청을 가상 스레드에서 동시에 보내고, 호출마다 call-timeout-ms 안에 끝나지 않으면 결과 없이 진행
+// 동시 호출 수는 max-concurrency 로 제한하고, 연속 실패가 쌓이면 서킷 브레이커가 열려 open-duration 동안 호출하지 않음
+// 실패하거나 제한 시간을 넘긴 요청의 사용자는 결과에서 빠짐 (호출한 쪽에서 "알 수 없음" 으로 표시)
+// user-service 에 일괄 조회 API 가 없으면(404/405) 이후로는 사용자별 조회로 대체
+
+@Slf4j
+@Component
+public class UserServiceGateway {
+
+    // 일괄 조회 API 미지원 응답 표시 (사용자별 조회로 다시 요청)
+    private static final List<UserResponseDto> BATCH_UNSUPPORTED = new ArrayList<>(0);
+
+    private final UserServiceClient userServiceClient;
+    private final int batchSize;
+    private final long callTimeoutMs;
+    private final Semaphore concurrencyLimit;
+    private final CircuitBreaker circuitBreaker;
+    private final ExecutorService lookupExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private volatile boolean batchUnsupported = false;
+
+    public UserServiceGateway(UserServiceClient userServiceClient,
+                              @Value("${user.service.batch-size:100}") int batchSize,
+                              @Value("${user.service.call-timeout-ms:1000}") long callTimeoutMs,
+                              @Value("${user.service.max-concurrency:16}") int maxConcurrency,
+                              @Value("${user.service.circuit.failure-threshold:5}") int failureThreshold,
+                              @Value("${user.service.circuit.open-duration-seconds:30}") long openDurationSeconds) {
+        this.userServiceClient = userServiceClient;
+        this.batchSize = batchSize;
+        this.callTimeoutMs = callTimeoutMs;
+        this.concurrencyLimit = new Semaphore(maxConcurrency);
+        this.circuitBreaker = new CircuitBreaker("user-service", failureThreshold, Duration.ofSeconds(openDurationSeconds));
+    }
+
+    // 사용자 정보 조회 - 모든 요청이 끝나거나 제한 시간을 넘길 때까지 대기 (없거나 조회하지 못한 사용자는 결과에서 빠짐)
+    public List<UserResponseDto> fetchUsers(List<Long> userIds) {
+        List<CompletableFuture<List<UserResponseDto>>> calls = new ArrayList<>();
+        for (int from = 0; from < userIds.size(); from += batchSize) {
+            calls.add(fetchChunk(List.copyOf(userIds.subList(from, Math.min(from + batchSize, userIds.size())))));
+        }
+
+        List<UserResponseDto> users = new ArrayList<>(userIds.size());
+        for (CompletableFuture<List<UserResponseDto>> call : calls) {
+            users.addAll(call.join());
+        }
+        return users;
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        lookupExecutor.shutdownNow();
+    }
+
+    private CompletableFuture<List<UserResponseDto>> fetchChunk(List<Long> userIds) {
+        if (batchUnsupported) {
+            return fetchOneByOne(userIds);
+        }
+        return call(() -> {
+            try {
+                List<UserResponseDto> users = userServiceClient.getUsersByIds(userIds);
+                return users != null ? users : List.of();
+            } catch (FeignException.NotFound | FeignException.MethodNotAllowed e) {
+                batchUnsupported = true;
+                log.warn("user-service 일괄 조회 API 미지원 - 이후 사용자별 조회로 대체: {}", e.getMessage());
+                return BATCH_UNSUPPORTED;
+            }
+        }, userIds.size()).thenCompose(users ->
+                users == BATCH_UNSUPPORTED ? fetchOneByOne(userIds) : CompletableFuture.completedFuture(users));
+    }
+
+    private CompletableFuture<List<UserResponseDto>> fetchOneByOne(List<Long> userIds) {
+        List<CompletableFuture<List<UserResponseDto>>> calls = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            calls.add(call(() -> {
+                try {
+                    UserResponseDto user = userServiceClient.getUserById(userId);
+                    return user != null ? List.of(user) : List.of();
+                } catch (FeignException.NotFound e) {
+                    // 없는 사용자 - user-service 는 정상 응답
+                    return List.of();
+                }
+            }, 1));
+        }
+        return CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    List<UserResponseDto> users = new ArrayList<>(userIds.size());
+                    for (CompletableFuture<List<UserResponseDto>> call : calls) {
+                        users.addAll(call.join());
+                    }
+                    return users;
+                });
+    }
+
+    // user-service 호출 한 건을 가상 스레드에서 실행
+    // 동시 호출 수 대기 시간을 포함해 call-timeout-ms 를 넘기면 결과 없이 완료 (실패로 보고 서킷 브레이커에 반영)
+    private CompletableFuture<List<UserResponseDto>> call(Callable<List<UserResponseDto>> request, int userCount) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            log.debug("user-service 서킷 브레이커 열림 - 조회 생략: {}건", userCount);
+            return CompletableFuture.completedFuture(List.of());
+        }
+
+        return CompletableFuture.supplyAsync(() -> execute(request), lookupExecutor)
+                .orTimeout(callTimeoutMs, TimeUnit.MILLISECONDS)
+                .handle((users, e) -> {
+                    if (e == null) {
+                        circuitBreaker.onSuccess();
+                        return users;
+                    }
+                    circuitBreaker.onFailure();
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (cause instanceof TimeoutException) {
+                        log.warn("사용자 정보 조회 시간 초과 ({}ms): {}건", callTimeoutMs, userCount);
+                    } else {
+                        log.warn("사용자 정보 조회 실패: {}건 - {}", userCount, cause.toString());
+                    }
+                    return List.<UserResponseDto>of();
+                });
+    }
+
+    private List<UserResponseDto> execute(Callable<List<UserResponseDto>> request) {
+        try {
+            if (!concurrencyLimit.tryAcquire(callTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new RejectedExecutionException("user-service 동시 호출 수 초과");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+        try {
+            return request.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new CompletionException(e);
+        } finally {
+            concurrencyLimit.release();
+        }
+    }
+}
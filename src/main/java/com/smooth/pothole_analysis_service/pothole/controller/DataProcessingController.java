@@ -3,20 +3,40 @@ package com.smooth.pothole_analysis_service.pothole.controller;
 import com.smooth.pothole_analysis_service.global.auth.AuthenticationUtils;
 import com.smooth.pothole_analysis_service.global.common.ApiResponse;
 import com.smooth.pothole_analysis_service.global.exception.BusinessException;
+import com.smooth.pothole_analysis_service.pothole.dto.BackfillRequestDto;
+import com.smooth.pothole_analysis_service.pothole.dto.BackfillResponseDto;
 import com.smooth.pothole_analysis_service.pothole.dto.DataProcessingRequestDto;
-import com.smooth.pothole_analysis_service.pothole.dto.DataProcessingResponseDto;
+import com.smooth.pothole_analysis_service.pothole.dto.DatasetWatermark;
+import com.smooth.pothole_analysis_service.pothole.dto.IngestionJobResponseDto;
+import com.smooth.pothole_analysis_service.pothole.dto.PotholeClusterResponseDto;
+import com.smooth.pothole_analysis_service.pothole.dto.PotholeCursorPageResponseDto;
 import com.smooth.pothole_analysis_service.pothole.dto.PotholeQueryResponseDto;
 import com.smooth.pothole_analysis_service.pothole.dto.PotholeConfirmRequestDto;
+import com.smooth.pothole_analysis_service.pothole.dto.PotholeTileResponseDto;
+import com.smooth.pothole_analysis_service.pothole.dto.UserCacheStatsDto;
 import com.smooth.pothole_analysis_service.pothole.exception.PotholeErrorCode;
-import com.smooth.pothole_analysis_service.pothole.service.DataProcessingService;
+import com.smooth.pothole_analysis_service.pothole.service.BackfillService;
+import com.smooth.pothole_analysis_service.pothole.service.DatasetVersionService;
+import com.smooth.pothole_analysis_service.pothole.service.IngestionJob;
+import com.smooth.pothole_analysis_service.pothole.service.IngestionJobService;
 import com.smooth.pothole_analysis_service.pothole.service.PotholeQueryService;
 import com.smooth.pothole_analysis_service.pothole.service.PotholeService;
+import com.smooth.pothole_analysis_service.pothole.service.PotholeTileService;
+import com.smooth.pothole_analysis_service.pothole.service.UserLookupService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.net.URI;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 
 // 포트홀 데이터 처리 컨트롤러 [S3 데이터 → Athena 쿼리 → RDS 저장 파이프라인]
@@ -26,30 +46,69 @@ import java.util.List;
 @RequiredArgsConstructor
 public class DataProcessingController {
 
-    private final DataProcessingService dataProcessingService;
+    // 영역 조회 최대 건수와 최대 반경 (m)
+    private static final int MAX_AREA_LIMIT = 5000;
+    private static final double MAX_AREA_RADIUS_METERS = 50_000;
+    private static final int MAX_TILE_ZOOM = 22;
+    private static final String NDJSON_VALUE = "application/x-ndjson";
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+    // 조회 기간 기본값 - 시작일은 서비스 시작일, 종료일은 페이지 조회는 오늘(한국 시간), 전체/스트리밍/영역 조회는 상한 없음
+    private static final LocalDate DEFAULT_START = LocalDate.of(2025, 8, 1);
+    private static final LocalDate OPEN_END = LocalDate.of(2099, 12, 31);
+    private static final ZoneId SERVICE_ZONE = ZoneId.of("Asia/Seoul");
+
+    private final IngestionJobService ingestionJobService;
+    private final BackfillService backfillService;
     private final PotholeQueryService potholeQueryService;
     private final PotholeService potholeService;
+    private final PotholeTileService potholeTileService;
+    private final UserLookupService userLookupService;
+    private final DatasetVersionService datasetVersionService;
 
-    // Athena 쿼리 실행 후 결과를 RDS에 저장
+    // Athena 쿼리 실행 후 결과를 RDS에 저장하는 적재 작업 등록 (202 + 작업 ID 즉시 반환)
     @PostMapping("/athena/result-save")
-    public ResponseEntity<ApiResponse<DataProcessingResponseDto>> queryAndSaveToRds(
+    public ResponseEntity<ApiResponse<IngestionJobResponseDto>> queryAndSaveToRds(
             @RequestBody DataProcessingRequestDto requestDto) {
-        try {
-            Double impact = requestDto.getImpactForceMin();
-            Double zVib = requestDto.getZAxisVibrationMin();
+        Double impact = requestDto.getImpactForceMin();
+        Double zVib = requestDto.getZAxisVibrationMin();
 
-            String whereClause = String.format("impactForce >= %s AND zAxisVibration >= %s", impact, zVib);
+        String whereClause = String.format("impactForce >= %s AND zAxisVibration >= %s", impact, zVib);
 
-            log.info("S3 → Athena → RDS 파이프라인 시작: {}", whereClause);
+        log.info("S3 → Athena → RDS 적재 작업 요청: {}", whereClause);
 
-            DataProcessingResponseDto result = dataProcessingService.queryAndSaveToRds(whereClause);
-            return ResponseEntity.ok(ApiResponse.success("데이터 처리가 완료되었습니다.", result));
+        IngestionJob job = ingestionJobService.submit(whereClause);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/pothole/jobs/" + job.getJobId()))
+                .body(ApiResponse.success(HttpStatus.ACCEPTED, "데이터 처리 작업이 등록되었습니다.",
+                        IngestionJobResponseDto.from(job)));
+    }
 
-        } catch (Exception e) {
-            log.error("데이터 처리 파이프라인 실행 중 오류 발생", e);
-            return ResponseEntity.internalServerError()
-                    .body(ApiResponse.error(PotholeErrorCode.DATA_PROCESSING_FAILED));
-        }
+    // 적재 작업 상태/진행률 조회
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<ApiResponse<IngestionJobResponseDto>> getIngestionJob(@PathVariable String jobId) {
+        IngestionJob job = ingestionJobService.getJob(jobId);
+        return ResponseEntity.ok(ApiResponse.success("적재 작업 조회 성공", IngestionJobResponseDto.from(job)));
+    }
+
+    // 기간 백필 시작 (같은 기간으로 다시 요청하면 완료되지 않은 구간부터 재개)
+    @PostMapping("/backfill")
+    public ResponseEntity<ApiResponse<BackfillResponseDto>> startBackfill(
+            @Valid @RequestBody BackfillRequestDto requestDto) {
+        log.info("백필 요청: start={}, end={}, parallelism={}",
+                requestDto.getStartDate(), requestDto.getEndDate(), requestDto.getParallelism());
+
+        BackfillResponseDto backfill = backfillService.start(
+                requestDto.getStartDate(), requestDto.getEndDate(), requestDto.getParallelism());
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/pothole/backfill/" + backfill.getBackfillId()))
+                .body(ApiResponse.success(HttpStatus.ACCEPTED, "백필 작업이 등록되었습니다.", backfill));
+    }
+
+    // 백필 진행 상황 및 구간별 소요 시간 조회
+    @GetMapping("/backfill/{backfillId}")
+    public ResponseEntity<ApiResponse<BackfillResponseDto>> getBackfill(@PathVariable String backfillId) {
+        return ResponseEntity.ok(ApiResponse.success("백필 작업 조회 성공", backfillService.getBackfill(backfillId)));
     }
 
     @GetMapping("/data")
@@ -57,19 +116,17 @@ public class DataProcessingController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(required = false) String start,
             @RequestParam(required = false) String end,
-            @RequestParam(required = false) String confirmed) {
+            @RequestParam(required = false) String confirmed,
+            WebRequest webRequest) {
+
+        LocalDate defaultStart = parseDate(start, DEFAULT_START);
+        LocalDate defaultEnd = parseDate(end, today());
+        Boolean confirmedValue = parseConfirmed(confirmed);
 
         try {
-            LocalDate defaultStart = (start != null && !"null".equalsIgnoreCase(start) && !start.isBlank())
-                    ? LocalDate.parse(start)
-                    : LocalDate.of(2025, 8, 1);
-            LocalDate defaultEnd = (end != null && !"null".equalsIgnoreCase(end) && !end.isBlank())
-                    ? LocalDate.parse(end)
-                    : LocalDate.now(ZoneId.of("Asia/Seoul"));
-
-            Boolean confirmedValue = (confirmed != null && !"null".equalsIgnoreCase(confirmed))
-                    ? Boolean.parseBoolean(confirmed)
-                    : null;
+            if (notModified(webRequest)) {
+                return null;
+            }
             log.info("포트홀 데이터 조회 요청: page={}, start={}, end={}, confirmed={}",
                     page, defaultStart, defaultEnd, confirmedValue);
             PotholeQueryResponseDto data =
@@ -82,24 +139,60 @@ public class DataProcessingController {
         }
     }
 
-    @GetMapping("/data/all")
-    public ResponseEntity<ApiResponse<List<PotholeQueryResponseDto.PotholeContentDto>>> getAllPotholeData(
+    // 커서 기반 포트홀 목록 조회 - 응답의 nextCursor 를 다음 요청의 cursor 로 전달 (깊은 페이지도 첫 페이지와 같은 비용)
+    @GetMapping("/data/cursor")
+    public ResponseEntity<ApiResponse<PotholeCursorPageResponseDto>> getPotholeDataByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false) String start,
             @RequestParam(required = false) String end,
-            @RequestParam(required = false) String confirmed) {
+            @RequestParam(required = false) String confirmed,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            WebRequest webRequest) {
+
+        if (size <= 0 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new BusinessException(PotholeErrorCode.INVALID_REQUEST_PARAMETER);
+        }
+
+        LocalDate defaultStart = parseDate(start, DEFAULT_START);
+        LocalDate defaultEnd = parseDate(end, today());
+        Boolean confirmedValue = parseConfirmed(confirmed);
 
         try {
-            LocalDate defaultStart = (start != null && !"null".equalsIgnoreCase(start) && !start.isBlank())
-                    ? LocalDate.parse(start)
-                    : LocalDate.of(2025, 8, 1);
-            LocalDate defaultEnd = (end != null && !"null".equalsIgnoreCase(end) && !end.isBlank())
-                    ? LocalDate.parse(end)
-                    : LocalDate.of(2099, 12, 31);
+            String cursorValue = (cursor != null && !cursor.isBlank()) ? cursor : null;
+            if (notModified(webRequest)) {
+                return null;
+            }
+
+            log.info("포트홀 데이터 커서 조회 요청: cursor={}, size={}, start={}, end={}, confirmed={}, includeTotal={}",
+                    cursorValue, size, defaultStart, defaultEnd, confirmedValue, includeTotal);
+            PotholeCursorPageResponseDto data = potholeQueryService.getPotholeDataByCursor(
+                    cursorValue, size, defaultStart, defaultEnd, confirmedValue, includeTotal);
+
+            return ResponseEntity.ok(ApiResponse.success("포트홀 목록 조회 성공", data));
+        } catch (BusinessException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("포트홀 데이터 커서 조회 중 오류 발생", e);
+            throw new BusinessException(PotholeErrorCode.DATA_PROCESSING_FAILED);
+        }
+    }
+
+    @GetMapping("/data/all")
+    public ResponseEntity<ApiResponse<List<PotholeQueryResponseDto.PotholeContentDto>>> getAllPotholeData(
+            @RequestParam(required = false) String start,
+            @RequestParam(required = false) String end,
+            @RequestParam(required = false) String confirmed,
+            WebRequest webRequest) {
 
-            Boolean confirmedValue = (confirmed != null && !"null".equalsIgnoreCase(confirmed))
-                    ? Boolean.parseBoolean(confirmed)
-                    : null;
+        LocalDate defaultStart = parseDate(start, DEFAULT_START);
+        LocalDate defaultEnd = parseDate(end, OPEN_END);
+        Boolean confirmedValue = parseConfirmed(confirmed);
 
+        try {
+            if (notModified(webRequest)) {
+                return null;
+            }
             log.info("전체 포트홀 데이터 조회 요청: start={}, end={}, confirmed={}",
                     defaultStart, defaultEnd, confirmedValue);
 
@@ -113,6 +206,151 @@ public class DataProcessingController {
         }
     }
 
+    // 전체 포트홀 데이터 스트리밍 조회 - 한 줄에 한 건씩 NDJSON 으로 전송 (첫 행부터 바로 전송되며 서버 메모리 사용량 일정)
+    @GetMapping(value = "/data/all/stream", produces = NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllPotholeData(
+            @RequestParam(required = false) String start,
+            @RequestParam(required = false) String end,
+            @RequestParam(required = false) String confirmed,
+            WebRequest webRequest) {
+
+        LocalDate defaultStart = parseDate(start, DEFAULT_START);
+        LocalDate defaultEnd = parseDate(end, OPEN_END);
+        Boolean confirmedValue = parseConfirmed(confirmed);
+
+        if (notModified(webRequest)) {
+            return null;
+        }
+        log.info("전체 포트홀 데이터 스트리밍 요청: start={}, end={}, confirmed={}",
+                defaultStart, defaultEnd, confirmedValue);
+
+        StreamingResponseBody body = out -> {
+            long startNanos = System.nanoTime();
+            try {
+                long count = potholeQueryService.streamAllPotholeData(defaultStart, defaultEnd, confirmedValue, out);
+                log.info("전체 포트홀 데이터 스트리밍 완료 - {}건, {}ms", count, (System.nanoTime() - startNanos) / 1_000_000);
+            } catch (RuntimeException e) {
+                // 응답 전송이 시작된 뒤라 오류 응답으로 바꿀 수 없으므로 연결만 끊음
+                log.error("전체 포트홀 데이터 스트리밍 중 오류 발생", e);
+                throw e;
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON_VALUE))
+                .body(body);
+    }
+
+    // 지도 화면 영역 조회 - bbox=최소경도,최소위도,최대경도,최대위도 또는 lat, lon, radius(m) 로 지정
+    @GetMapping("/data/area")
+    public ResponseEntity<ApiResponse<List<PotholeQueryResponseDto.PotholeContentDto>>> getPotholeDataInArea(
+            @RequestParam(required = false) String bbox,
+            @RequestParam(required = false) Double lat,
+            @RequestParam(required = false) Double lon,
+            @RequestParam(required = false) Double radius,
+            @RequestParam(required = false) String start,
+            @RequestParam(required = false) String end,
+            @RequestParam(required = false) String confirmed,
+            @RequestParam(defaultValue = "1000") int limit,
+            WebRequest webRequest) {
+
+        if (limit <= 0 || limit > MAX_AREA_LIMIT) {
+            throw new BusinessException(PotholeErrorCode.INVALID_REQUEST_PARAMETER);
+        }
+
+        LocalDate defaultStart = parseDate(start, DEFAULT_START);
+        LocalDate defaultEnd = parseDate(end, OPEN_END);
+        Boolean confirmedValue = parseConfirmed(confirmed);
+
+        try {
+            if (notModified(webRequest)) {
+                return null;
+            }
+            List<PotholeQueryResponseDto.PotholeContentDto> data;
+            if (bbox != null && !bbox.isBlank()) {
+                double[] box = parseBoundingBox(bbox);
+                log.info("영역 포트홀 데이터 조회 요청: bbox={}, start={}, end={}, confirmed={}, limit={}",
+                        bbox, defaultStart, defaultEnd, confirmedValue, limit);
+                data = potholeQueryService.getPotholeDataInBox(box[1], box[0], box[3], box[2],
+                        defaultStart, defaultEnd, confirmedValue, limit);
+            } else if (lat != null && lon != null && radius != null
+                    && Math.abs(lat) <= 90 && Math.abs(lon) <= 180 && radius > 0 && radius <= MAX_AREA_RADIUS_METERS) {
+                log.info("반경 포트홀 데이터 조회 요청: lat={}, lon={}, radius={}, start={}, end={}, confirmed={}, limit={}",
+                        lat, lon, radius, defaultStart, defaultEnd, confirmedValue, limit);
+                data = potholeQueryService.getPotholeDataInRadius(lat, lon, radius,
+                        defaultStart, defaultEnd, confirmedValue, limit);
+            } else {
+                throw new BusinessException(PotholeErrorCode.INVALID_REQUEST_PARAMETER);
+            }
+
+            return ResponseEntity.ok(ApiResponse.success("영역 포트홀 목록 조회 성공", data));
+        } catch (BusinessException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("영역 포트홀 데이터 조회 중 오류 발생", e);
+            throw new BusinessException(PotholeErrorCode.DATA_PROCESSING_FAILED);
+        }
+    }
+
+    // 지도 타일 집계 조회 - 줌 레벨에 맞는 크기의 칸별 포트홀 수, 최대 충격량, 확정 비율 (bbox=최소경도,최소위도,최대경도,최대위도)
+    @GetMapping("/tiles")
+    public ResponseEntity<ApiResponse<PotholeTileResponseDto>> getPotholeTiles(
+            @RequestParam int zoom,
+            @RequestParam String bbox,
+            WebRequest webRequest) {
+
+        if (zoom < 0 || zoom > MAX_TILE_ZOOM) {
+            throw new BusinessException(PotholeErrorCode.INVALID_REQUEST_PARAMETER);
+        }
+        double[] box = parseBoundingBox(bbox);
+
+        try {
+            if (notModified(webRequest)) {
+                return null;
+            }
+            log.debug("지도 타일 집계 조회 요청: zoom={}, bbox={}", zoom, bbox);
+            PotholeTileResponseDto data = potholeTileService.getTiles(zoom, box[1], box[0], box[3], box[2]);
+            return ResponseEntity.ok(ApiResponse.success("지도 타일 집계 조회 성공", data));
+        } catch (Exception e) {
+            log.error("지도 타일 집계 조회 중 오류 발생", e);
+            throw new BusinessException(PotholeErrorCode.DATA_PROCESSING_FAILED);
+        }
+    }
+
+    // 같은 위치의 반복 감지를 하나로 묶은 포트홀 군집 조회 (감지 횟수 많은 순)
+    @GetMapping("/clusters")
+    public ResponseEntity<ApiResponse<PotholeClusterResponseDto>> getPotholeClusters(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) String start,
+            @RequestParam(required = false) String end,
+            @RequestParam(defaultValue = "1") int minHits,
+            WebRequest webRequest) {
+
+        LocalDate defaultStart = parseDate(start, DEFAULT_START);
+        LocalDate defaultEnd = parseDate(end, today());
+
+        try {
+            if (notModified(webRequest)) {
+                return null;
+            }
+            log.info("포트홀 군집 조회 요청: page={}, start={}, end={}, minHits={}",
+                    page, defaultStart, defaultEnd, minHits);
+            PotholeClusterResponseDto data =
+                    potholeQueryService.getClusters(page, defaultStart, defaultEnd, minHits);
+
+            return ResponseEntity.ok(ApiResponse.success("포트홀 군집 조회 성공", data));
+        } catch (Exception e) {
+            log.error("포트홀 군집 조회 중 오류 발생", e);
+            throw new BusinessException(PotholeErrorCode.DATA_PROCESSING_FAILED);
+        }
+    }
+
+    // 사용자 정보 캐시 적중률/크기 조회
+    @GetMapping("/cache/users/stats")
+    public ResponseEntity<ApiResponse<UserCacheStatsDto>> getUserCacheStats() {
+        return ResponseEntity.ok(ApiResponse.success("사용자 정보 캐시 통계 조회 성공", userLookupService.getCacheStats()));
+    }
+
     // 포트홀 확정 처리 API
     @PostMapping("/data/confirm")
     public ResponseEntity<ApiResponse<Void>> confirmPothole(@RequestBody PotholeConfirmRequestDto requestDto) {
@@ -128,4 +366,54 @@ public class DataProcessingController {
         
         return ResponseEntity.ok(ApiResponse.success("포트홀 상태 처리가 완료되었습니다."));
     }
+
+    // 데이터셋 워터마크로 ETag / Last-Modified 헤더를 설정하고, 요청의 If-None-Match(If-Modified-Since) 와 같으면 true
+    // true 이면 304 응답이 이미 설정되었으므로 조회 없이 null 을 반환
+    private boolean notModified(WebRequest webRequest) {
+        DatasetWatermark watermark = datasetVersionService.currentWatermark();
+        return webRequest.checkNotModified(watermark.eTag(), watermark.lastModifiedMillis());
+    }
+
+    // 날짜 파라미터(yyyy-MM-dd) 변환 - 없거나 빈 값, "null" 이면 기본값, 형식이 잘못되면 INVALID_REQUEST_PARAMETER
+    private static LocalDate parseDate(String value, LocalDate defaultValue) {
+        if (value == null || "null".equalsIgnoreCase(value) || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new BusinessException(PotholeErrorCode.INVALID_REQUEST_PARAMETER);
+        }
+    }
+
+    // 확정 여부 파라미터 - 없거나 "null" 이면 상태 조건 없음(null)
+    private static Boolean parseConfirmed(String value) {
+        return (value != null && !"null".equalsIgnoreCase(value)) ? Boolean.parseBoolean(value) : null;
+    }
+
+    private static LocalDate today() {
+        return LocalDate.now(SERVICE_ZONE);
+    }
+
+    // bbox 문자열(최소경도,최소위도,최대경도,최대위도)을 [minLon, minLat, maxLon, maxLat] 로 변환
+    private double[] parseBoundingBox(String bbox) {
+        String[] parts = bbox.split(",");
+        if (parts.length != 4) {
+            throw new BusinessException(PotholeErrorCode.INVALID_REQUEST_PARAMETER);
+        }
+
+        double[] box = new double[4];
+        try {
+            for (int i = 0; i < 4; i++) {
+                box[i] = Double.parseDouble(parts[i].trim());
+            }
+        } catch (NumberFormatException e) {
+            throw new BusinessException(PotholeErrorCode.INVALID_REQUEST_PARAMETER);
+        }
+
+        if (box[0] > box[2] || box[1] > box[3] || box[0] < -180 || box[2] > 180 || box[1] < -90 || box[3] > 90) {
+            throw new BusinessException(PotholeErrorCode.INVALID_REQUEST_PARAMETER);
+        }
+        return box;
+    }
 }
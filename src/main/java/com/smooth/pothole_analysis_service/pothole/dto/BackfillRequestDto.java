@@ -0,0 +1,26 @@
+package com.smooth.pothole_analysis_service.pothole.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BackfillRequestDto {
+    @NotNull(message = "startDate 값은 필수입니다")
+    @JsonProperty("startDate")
+    private LocalDate startDate;
+
+    @NotNull(message = "endDate 값은 필수입니다")
+    @JsonProperty("endDate")
+    private LocalDate endDate;
+
+    // 동시에 실행할 구간 수 (미지정 시 기본값)
+    @JsonProperty("parallelism")
+    private Integer parallelism;
+}
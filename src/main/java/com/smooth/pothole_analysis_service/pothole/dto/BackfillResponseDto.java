@@ -0,0 +1,65 @@
+package com.smooth.pothole_analysis_service.pothole.dto;
+
+import com.smooth.pothole_analysis_service.pothole.entity.BackfillSlice;
+import com.smooth.pothole_analysis_service.pothole.entity.BackfillSliceStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BackfillResponseDto {
+
+    private String backfillId;
+    private boolean running;
+    private int totalSlices;
+    private long completedSlices;
+    private long failedSlices;
+    private long pendingSlices;
+    private List<SliceDto> slices;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SliceDto {
+        private String date;
+        private String status;
+        private String queryExecutionId;
+        private Integer processedCount;
+        private Long durationMs;
+        private String errorMessage;
+    }
+
+    public static BackfillResponseDto of(String backfillId, boolean running, List<BackfillSlice> slices) {
+        List<SliceDto> sliceDtos = slices.stream()
+                .map(slice -> SliceDto.builder()
+                        .date(slice.getSliceDate().toString())
+                        .status(slice.getStatus().name())
+                        .queryExecutionId(slice.getQueryExecutionId())
+                        .processedCount(slice.getProcessedCount())
+                        .durationMs(slice.getDurationMs())
+                        .errorMessage(slice.getErrorMessage())
+                        .build())
+                .toList();
+
+        return BackfillResponseDto.builder()
+                .backfillId(backfillId)
+                .running(running)
+                .totalSlices(slices.size())
+                .completedSlices(count(slices, BackfillSliceStatus.COMPLETED))
+                .failedSlices(count(slices, BackfillSliceStatus.FAILED))
+                .pendingSlices(count(slices, BackfillSliceStatus.PENDING) + count(slices, BackfillSliceStatus.RUNNING))
+                .slices(sliceDtos)
+                .build();
+    }
+
+    private static long count(List<BackfillSlice> slices, BackfillSliceStatus status) {
+        return slices.stream().filter(slice -> slice.getStatus() == status).count();
+    }
+}
@@ -18,22 +18,35 @@ public class DataProcessingResponseDto {
     
     @JsonProperty("totalDataCount")
     private long totalDataCount;
+
+    // Athena 쿼리가 스캔한 바이트 수 (필요한 컬럼만 조회한 쿼리의 값 그대로이며, SELECT * 기준과 비교한 값은 아님)
+    @JsonProperty("dataScannedBytes")
+    private Long dataScannedBytes;
+
+    // Athena 에서 조회한 컬럼 수
+    @JsonProperty("selectedColumnCount")
+    private int selectedColumnCount;
     
     // 데이터가 없는 경우를 위한 생성자
-    public static DataProcessingResponseDto noData(String queryExecutionId) {
+    public static DataProcessingResponseDto noData(String queryExecutionId, Long dataScannedBytes, int selectedColumnCount) {
         return new DataProcessingResponseDto(
             queryExecutionId, 
             0, 
-            0L
+            0L,
+            dataScannedBytes,
+            selectedColumnCount
         );
     }
     
     // 정상 처리된 경우를 위한 생성자
-    public static DataProcessingResponseDto success(String queryExecutionId, int processedCount, long totalCount) {
+    public static DataProcessingResponseDto success(String queryExecutionId, int processedCount, long totalCount,
+                                                    Long dataScannedBytes, int selectedColumnCount) {
         return new DataProcessingResponseDto(
             queryExecutionId,
             processedCount,
-            totalCount
+            totalCount,
+            dataScannedBytes,
+            selectedColumnCount
         );
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,18 @@
+package com.smooth.pothole_analysis_service.pothole.dto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+// 포트홀 데이터셋 워터마크 - 마지막 행 id 와 데이터셋 버전(적재/상태 변경마다 증가)
+// 둘 다 같으면 조회 결과도 같으므로 조건부 GET 의 ETag / Last-Modified 로 사용
+public record DatasetWatermark(long maxId, long version, LocalDateTime updatedAt) {
+
+    public String eTag() {
+        return "\"" + maxId + "-" + version + "\"";
+    }
+
+    // Last-Modified (epoch ms, 아직 쓰기가 없었으면 -1)
+    public long lastModifiedMillis() {
+        return updatedAt != null ? updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1;
+    }
+}
@@ -0,0 +1,50 @@
+package com.smooth.pothole_analysis_service.pothole.dto;
+
+import com.smooth.pothole_analysis_service.pothole.service.IngestionJob;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IngestionJobResponseDto {
+
+    private String jobId;
+    private String state;
+    private String queryExecutionId;
+    private long rowsFetched;
+    private long rowsPersisted;
+    private long duplicateRows;
+    private long errorRows;
+    private String createdAt;
+    private String startedAt;
+    private String finishedAt;
+    private DataProcessingResponseDto result;
+    private String errorMessage;
+
+    public static IngestionJobResponseDto from(IngestionJob job) {
+        return IngestionJobResponseDto.builder()
+                .jobId(job.getJobId())
+                .state(job.getState().name())
+                .queryExecutionId(job.getQueryExecutionId())
+                .rowsFetched(job.getRowsFetched().get())
+                .rowsPersisted(job.getRowsPersisted().get())
+                .duplicateRows(job.getDuplicateRows().get())
+                .errorRows(job.getErrorRows().get())
+                .createdAt(format(job.getCreatedAt()))
+                .startedAt(format(job.getStartedAt()))
+                .finishedAt(format(job.getFinishedAt()))
+                .result(job.getResult())
+                .errorMessage(job.getErrorMessage())
+                .build();
+    }
+
+    private static String format(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.toString() : null;
+    }
+}
@@ -0,0 +1,35 @@
+package com.smooth.pothole_analysis_service.pothole.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PotholeClusterResponseDto {
+
+    private List<ClusterContentDto> content;
+    private int page;
+    private int totalPages;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ClusterContentDto {
+        private String clusterId;
+        private PotholeQueryResponseDto.LocationDto location;
+        private int hitCount;
+        private Double maxImpact;
+        private Double avgImpact;
+        private Double maxShake;
+        private LocalDateTime firstDetectedAt;
+        private LocalDateTime lastDetectedAt;
+    }
+}
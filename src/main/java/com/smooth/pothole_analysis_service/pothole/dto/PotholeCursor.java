@@ -0,0 +1,36 @@
+package com.smooth.pothole_analysis_service.pothole.dto;
+
+import com.smooth.pothole_analysis_service.global.exception.BusinessException;
+import com.smooth.pothole_analysis_service.pothole.exception.PotholeErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 키셋 페이지네이션 커서 - 마지막으로 반환한 행의 (detectedAt, id)
+// 클라이언트에는 내용을 알 수 없는 토큰(Base64 URL)으로 전달
+public record PotholeCursor(LocalDateTime detectedAt, long id) {
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((detectedAt.toString() + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PotholeCursor decode(String token) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = value.lastIndexOf(SEPARATOR);
+            if (separator <= 0) {
+                throw new BusinessException(PotholeErrorCode.INVALID_REQUEST_PARAMETER);
+            }
+            return new PotholeCursor(LocalDateTime.parse(value.substring(0, separator)),
+                    Long.parseLong(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            // Base64 형식 오류, 날짜/숫자 변환 실패
+            throw new BusinessException(PotholeErrorCode.INVALID_REQUEST_PARAMETER);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.smooth.pothole_analysis_service.pothole.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PotholeCursorPageResponseDto {
+
+    private List<PotholeQueryResponseDto.PotholeContentDto> content;
+    // 다음 페이지 요청 시 cursor 로 전달 (마지막 페이지면 null)
+    private String nextCursor;
+    private boolean hasNext;
+    // includeTotal=true 로 요청한 경우에만 채움
+    private Long totalCount;
+}
@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Data
@@ -25,7 +26,7 @@ public class PotholeQueryResponseDto {
         private String potholeId;
         private UserDto user;
         private LocationDto location;
-        private String detectedAt;
+        private LocalDateTime detectedAt;
         private Double impact;
         private Double shake;
         private Double speed;
@@ -0,0 +1,231 @@
+package com.smooth.pothole_analysis_service.pothole.dto;
+
+import com.smooth.pothole_analysis_service.global.util.GeoHash;
+import com.smooth.pothole_analysis_service.pothole.entity.PotholeData;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+// Athena 결과 행을 담는 재사용 컬럼형 배치
+// 숫자 컬럼은 double 배열에 박싱 없이 저장하고, 값이 없는(NULL/빈 값/변환 실패) 경우는 행별 비트마스크로 구분
+// 감지 시각도 LocalDateTime 대신 epoch 마이크로초(UTC 기준 벽시계 값)로 저장하고, 객체는 꺼낼 때만 만듦
+// 한 번 만든 배치를 clear() 후 다음 청크에 다시 사용하므로 청크마다 행 객체를 새로 만들지 않음
+// 스레드 안전하지 않음
+
+public class PotholeRecordBatch {
+
+    // 숫자 컬럼 인덱스
+    public static final int SPEED = 0;
+    public static final int LOCATION_X = 1;
+    public static final int LOCATION_Y = 2;
+    public static final int IMPACT_FORCE = 3;
+    public static final int Z_AXIS_VIBRATION = 4;
+    private static final int NUMBER_COLUMN_COUNT = 5;
+
+    // 문자열 컬럼 인덱스
+    public static final int CAR_ID = 0;
+    public static final int S3_URL = 1;
+    private static final int STRING_COLUMN_COUNT = 2;
+
+    // 값 존재 비트마스크에서 감지 시각 비트 (숫자 컬럼 비트 다음)
+    private static final int DETECTED_AT_BIT = 1 << NUMBER_COLUMN_COUNT;
+
+    public static final long MICROS_PER_SECOND = 1_000_000L;
+    public static final long MICROS_PER_DAY = 86_400L * MICROS_PER_SECOND;
+
+    private final int capacity;
+    private int size;
+
+    private final String[][] strings;
+    private final String[] carIds;
+    private final String[] s3Urls;
+    private final long[] detectedAtMicros;
+    private final double[][] numbers;
+    private final int[] presentFields;
+
+    // 변환된 경도/위도 (좌표 변환 전에는 0)
+    private final double[] longitudes;
+    private final double[] latitudes;
+
+    public PotholeRecordBatch(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.strings = new String[STRING_COLUMN_COUNT][capacity];
+        this.carIds = strings[CAR_ID];
+        this.s3Urls = strings[S3_URL];
+        this.detectedAtMicros = new long[capacity];
+        this.numbers = new double[NUMBER_COLUMN_COUNT][capacity];
+        this.presentFields = new int[capacity];
+        this.longitudes = new double[capacity];
+        this.latitudes = new double[capacity];
+    }
+
+    // 빈 행을 하나 추가하고 인덱스를 반환
+    public int addRow() {
+        if (size >= capacity) {
+            throw new IllegalStateException("batch is full: " + capacity);
+        }
+        int row = size++;
+        carIds[row] = null;
+        s3Urls[row] = null;
+        presentFields[row] = 0;
+        longitudes[row] = 0.0;
+        latitudes[row] = 0.0;
+        return row;
+    }
+
+    // 다음 청크에 재사용하기 위해 비움 (문자열 참조는 남은 행 수만큼만 정리)
+    public void clear() {
+        Arrays.fill(carIds, 0, size, null);
+        Arrays.fill(s3Urls, 0, size, null);
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean isFull() {
+        return size == capacity;
+    }
+
+    public void setCarId(int row, String carId) {
+        carIds[row] = carId;
+    }
+
+    public void setS3Url(int row, String s3Url) {
+        s3Urls[row] = s3Url;
+    }
+
+    public void setString(int column, int row, String value) {
+        strings[column][row] = value;
+    }
+
+    // null 이면 값 없음으로 둠
+    public void setDetectedAt(int row, LocalDateTime detectedAt) {
+        if (detectedAt == null) {
+            presentFields[row] &= ~DETECTED_AT_BIT;
+        } else {
+            setDetectedAtMicros(row, toEpochMicros(detectedAt));
+        }
+    }
+
+    public void setDetectedAtMicros(int row, long epochMicros) {
+        detectedAtMicros[row] = epochMicros;
+        presentFields[row] |= DETECTED_AT_BIT;
+    }
+
+    public void setNumber(int column, int row, double value) {
+        numbers[column][row] = value;
+        presentFields[row] |= 1 << column;
+    }
+
+    public void setCoordinates(int row, double longitude, double latitude) {
+        longitudes[row] = longitude;
+        latitudes[row] = latitude;
+    }
+
+    public String getCarId(int row) {
+        return carIds[row];
+    }
+
+    public String getS3Url(int row) {
+        return s3Urls[row];
+    }
+
+    // 값이 없으면 null (호출할 때마다 새 LocalDateTime 을 만들므로 반복 비교에는 getDetectedAtMicros 사용)
+    public LocalDateTime getDetectedAt(int row) {
+        return hasDetectedAt(row) ? fromEpochMicros(detectedAtMicros[row]) : null;
+    }
+
+    public boolean hasDetectedAt(int row) {
+        return (presentFields[row] & DETECTED_AT_BIT) != 0;
+    }
+
+    // 값이 없으면 0 (hasDetectedAt 으로 먼저 확인)
+    public long getDetectedAtMicros(int row) {
+        return detectedAtMicros[row];
+    }
+
+    public boolean hasNumber(int column, int row) {
+        return (presentFields[row] & (1 << column)) != 0;
+    }
+
+    // 값이 없으면 0.0 (hasNumber 로 먼저 확인)
+    public double getNumber(int column, int row) {
+        return numbers[column][row];
+    }
+
+    // 일괄 변환용 숫자 컬럼 배열 (앞 size() 개만 유효, 값이 없는 행은 hasNumber 로 확인)
+    public double[] numberColumn(int column) {
+        return numbers[column];
+    }
+
+    // 일괄 변환용 경도/위도 배열 (앞 size() 개만 유효)
+    public double[] longitudeColumn() {
+        return longitudes;
+    }
+
+    public double[] latitudeColumn() {
+        return latitudes;
+    }
+
+    public double getLongitude(int row) {
+        return longitudes[row];
+    }
+
+    public double getLatitude(int row) {
+        return latitudes[row];
+    }
+
+    // 위도/경도의 지오해시 (Carla 좌표가 없어 위치를 모르는 행은 null)
+    public String getGeohash(int row) {
+        if (!hasNumber(LOCATION_X, row) || !hasNumber(LOCATION_Y, row)) {
+            return null;
+        }
+        return GeoHash.encode(latitudes[row], longitudes[row], GeoHash.STORED_PRECISION);
+    }
+
+    // 행을 PotholeData 엔티티로 변환 (JPA 저장 경로에서만 사용)
+    public PotholeData toEntity(int row) {
+        return PotholeData.builder()
+                .carId(carIds[row])
+                .speed(boxed(SPEED, row))
+                .locationX(boxed(LOCATION_X, row))
+                .locationY(boxed(LOCATION_Y, row))
+                .longitude(longitudes[row])
+                .latitude(latitudes[row])
+                .geohash(getGeohash(row))
+                .s3Url(s3Urls[row])
+                .impactForce(boxed(IMPACT_FORCE, row))
+                .zAxisVibration(boxed(Z_AXIS_VIBRATION, row))
+                .detectedAt(getDetectedAt(row))
+                .status(false) // 기본 상태 (false = 미확정)
+                .build();
+    }
+
+    private Double boxed(int column, int row) {
+        return hasNumber(column, row) ? numbers[column][row] : null;
+    }
+
+    // DATETIME(6) 과 같은 마이크로초 단위로 자름
+    public static long toEpochMicros(LocalDateTime value) {
+        return value.toEpochSecond(ZoneOffset.UTC) * MICROS_PER_SECOND + value.getNano() / 1_000;
+    }
+
+    public static LocalDateTime fromEpochMicros(long epochMicros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochMicros, MICROS_PER_SECOND),
+                (int) Math.floorMod(epochMicros, MICROS_PER_SECOND) * 1_000, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,35 @@
+package com.smooth.pothole_analysis_service.pothole.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PotholeTileResponseDto {
+
+    private int zoom;
+    // 집계 칸의 지오해시 자릿수
+    private int precision;
+    private List<TileCellDto> cells;
+    // 칸이 너무 많아 감지 수가 많은 칸만 반환했는지 여부
+    private boolean truncated;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TileCellDto {
+        private String cell;
+        // 칸 안 감지 위치의 평균 좌표
+        private PotholeQueryResponseDto.LocationDto location;
+        private long count;
+        private Double maxImpact;
+        private double confirmedRatio;
+    }
+}
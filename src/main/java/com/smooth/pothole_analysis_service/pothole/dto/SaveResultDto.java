@@ -0,0 +1,32 @@
+package com.smooth.pothole_analysis_service.pothole.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// RDS 저장 결과 집계 (청크 단위 결과를 누적해서 사용)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SaveResultDto {
+
+    private int savedCount;
+    private int duplicateCount;
+    private int errorCount;
+
+    public static SaveResultDto empty() {
+        return new SaveResultDto(0, 0, 0);
+    }
+
+    // 다른 청크의 저장 결과를 누적
+    public SaveResultDto add(SaveResultDto other) {
+        this.savedCount += other.savedCount;
+        this.duplicateCount += other.duplicateCount;
+        this.errorCount += other.errorCount;
+        return this;
+    }
+
+    public int getProcessedCount() {
+        return savedCount + duplicateCount + errorCount;
+    }
+}
@@ -0,0 +1,28 @@
+package com.smooth.pothole_analysis_service.pothole.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 사용자 정보 캐시 통계 (애플리케이션 시작 이후 누적)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserCacheStatsDto {
+
+    private long size;
+    // 없거나 조회에 실패해 짧게 보관 중인 항목 수
+    private long negativeEntries;
+    private long hitCount;
+    private long missCount;
+    private double hitRate;
+    // 캐시 적재(user-service 조회) 횟수 - 일괄 조회는 한 번으로 집계
+    private long loadCount;
+    private long loadFailureCount;
+    private double averageLoadPenaltyMs;
+    private long evictionCount;
+    // user-service 서킷 브레이커 상태 (CLOSED / OPEN / HALF_OPEN)
+    private String circuitState;
+}
@@ -0,0 +1,53 @@
+package com.smooth.pothole_analysis_service.pothole.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 백필 작업의 하루 단위 구간과 처리 결과 (완료된 구간은 재실행 시 건너뜀)
+@Entity
+@Table(name = "backfill_slice",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"backfill_id", "slice_date"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BackfillSlice {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "backfill_id", nullable = false, length = 64)
+    private String backfillId;
+
+    @Column(name = "slice_date", nullable = false)
+    private LocalDate sliceDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 16)
+    private BackfillSliceStatus status;
+
+    @Column(name = "query_execution_id")
+    private String queryExecutionId;
+
+    @Column(name = "processed_count")
+    private Integer processedCount;
+
+    @Column(name = "duration_ms")
+    private Long durationMs;
+
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,8 @@
+package com.smooth.pothole_analysis_service.pothole.entity;
+
+public enum BackfillSliceStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
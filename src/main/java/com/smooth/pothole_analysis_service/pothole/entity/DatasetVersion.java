@@ -0,0 +1,29 @@
+package com.smooth.pothole_analysis_service.pothole.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 데이터셋 버전 - 데이터가 바뀌는 쓰기(적재, 상태 변경)마다 1씩 증가
+@Entity
+@Table(name = "dataset_version")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DatasetVersion {
+
+    @Id
+    @Column(name = "dataset", length = 64)
+    private String dataset;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,28 @@
+package com.smooth.pothole_analysis_service.pothole.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// detected_at 을 날짜만 저장하던 마지막 날짜 (V3 마이그레이션이 한 행으로 기록, 없으면 null)
+@Entity
+@Table(name = "detected_at_cutover")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DetectedAtCutover {
+
+    public static final int ID = 1;
+
+    @Id
+    @Column(name = "id")
+    private Integer id;
+
+    @Column(name = "date_only_through")
+    private LocalDate dateOnlyThrough;
+}
@@ -0,0 +1,60 @@
+package com.smooth.pothole_analysis_service.pothole.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 조회 조건별 적재 진행 위치 (Athena 결과의 앞 committed_rows 행은 RDS 커밋 완료)
+// 같은 조건으로 다시 실행하면 같은 쿼리 결과를 이 위치부터 이어서 저장
+@Entity
+@Table(name = "ingestion_checkpoint")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IngestionCheckpoint {
+
+    // 정규화한 조회 조건의 SHA-256
+    @Id
+    @Column(name = "job_key", length = 64)
+    private String jobKey;
+
+    @Column(name = "where_clause", nullable = false, length = 1000)
+    private String whereClause;
+
+    @Column(name = "query_execution_id", nullable = false)
+    private String queryExecutionId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 16)
+    private IngestionCheckpointStatus status;
+
+    @Column(name = "committed_rows", nullable = false)
+    private long committedRows;
+
+    @Column(name = "saved_count", nullable = false)
+    private int savedCount;
+
+    @Column(name = "duplicate_count", nullable = false)
+    private int duplicateCount;
+
+    @Column(name = "error_count", nullable = false)
+    private int errorCount;
+
+    // 같은 쿼리 결과로 시작한 횟수 (재개할 때마다 증가)
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
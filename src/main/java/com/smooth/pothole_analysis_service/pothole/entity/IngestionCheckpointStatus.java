@@ -0,0 +1,7 @@
+package com.smooth.pothole_analysis_service.pothole.entity;
+
+public enum IngestionCheckpointStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,39 @@
+package com.smooth.pothole_analysis_service.pothole.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 여러 인스턴스가 나눠 처리하는 적재 구간의 임대 (expires_at 까지 owner 만 처리, 완료된 구간은 다시 임대하지 않음)
+@Entity
+@Table(name = "ingestion_lease")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IngestionLease {
+
+    @Id
+    @Column(name = "lease_key", length = 128)
+    private String leaseKey;
+
+    @Column(name = "owner", nullable = false, length = 128)
+    private String owner;
+
+    // 증분 적재 구간의 끝 (처음 임대할 때 정해지며, 다음 구간은 여기서 시작)
+    @Column(name = "slice_end")
+    private LocalDateTime sliceEnd;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
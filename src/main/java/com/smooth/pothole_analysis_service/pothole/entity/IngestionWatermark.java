@@ -0,0 +1,29 @@
+package com.smooth.pothole_analysis_service.pothole.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 원천 테이블별 증분 적재 위치 (이 시각 이전 데이터는 적재 완료)
+@Entity
+@Table(name = "ingestion_watermark")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IngestionWatermark {
+
+    @Id
+    @Column(name = "source_table", length = 128)
+    private String sourceTable;
+
+    @Column(name = "last_processed_at", nullable = false)
+    private LocalDateTime lastProcessedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
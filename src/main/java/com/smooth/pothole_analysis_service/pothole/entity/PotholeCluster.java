@@ -0,0 +1,60 @@
+package com.smooth.pothole_analysis_service.pothole.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 같은 위치에서 반복 감지된 포트홀 데이터를 하나로 묶은 물리적 포트홀
+// cell_key 는 중심 좌표가 속한 격자 칸으로, 적재 시 주변 칸만 조회해 가까운 군집을 찾는 데 사용
+@Entity
+@Table(name = "pothole_cluster",
+       indexes = @Index(name = "idx_pothole_cluster_cell_key", columnList = "cell_key"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PotholeCluster {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "cell_key", nullable = false)
+    private Long cellKey;
+
+    // 감지 위치의 평균 (중심 좌표)
+    @Column(name = "longitude", nullable = false)
+    private Double longitude;
+
+    @Column(name = "latitude", nullable = false)
+    private Double latitude;
+
+    @Column(name = "hit_count", nullable = false)
+    private Integer hitCount;
+
+    @Column(name = "max_impact_force")
+    private Double maxImpactForce;
+
+    // 평균 충격량 계산용 합계 (충격량이 있는 감지만 합산)
+    @Column(name = "impact_force_sum")
+    private Double impactForceSum;
+
+    @Column(name = "impact_force_count")
+    private Integer impactForceCount;
+
+    @Column(name = "max_z_axis_vibration")
+    private Double maxZAxisVibration;
+
+    @Column(name = "first_detected_at")
+    private LocalDateTime firstDetectedAt;
+
+    @Column(name = "last_detected_at")
+    private LocalDateTime lastDetectedAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -6,11 +6,18 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Table(name = "pothole_data", 
        uniqueConstraints = @UniqueConstraint(
            columnNames = {"car_id", "location_x", "location_y", "detected_at", "impact_force"}
-       ))
+       ),
+       indexes = {
+           @Index(name = "idx_pothole_data_geohash", columnList = "geohash"),
+           @Index(name = "idx_pothole_data_detected_at_id", columnList = "detected_at, id"),
+           @Index(name = "idx_pothole_data_status_detected_at_id", columnList = "status, detected_at, id")
+       })
 @Data
 @Builder
 @NoArgsConstructor
@@ -39,6 +46,10 @@ public class PotholeData {
     @Column(name = "latitude")
     private Double latitude;
 
+    // 위도/경도의 지오해시 (영역 조회 시 접두사 범위로 인덱스 검색)
+    @Column(name = "geohash", length = 12)
+    private String geohash;
+
     @Column(name = "s3_url")
     private String s3Url;
 
@@ -49,7 +60,7 @@ public class PotholeData {
     private Double zAxisVibration;
 
     @Column(name = "detected_at")
-    private String detectedAt;
+    private LocalDateTime detectedAt;
 
     @Column(name = "status", columnDefinition = "TINYINT(1)")
     private Boolean status;
@@ -0,0 +1,45 @@
+package com.smooth.pothole_analysis_service.pothole.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 지도 타일 집계 칸 - 지오해시 접두사(precision_level 자리) 단위로 포트홀 데이터 수와 심각도를 미리 집계
+// 적재와 확정 상태 변경 시 함께 갱신되므로 지도 조회는 pothole_data 를 읽지 않음
+@Entity
+@Table(name = "pothole_tile_cell",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"precision_level", "cell"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PotholeTileCell {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "precision_level", nullable = false)
+    private Integer precisionLevel;
+
+    @Column(name = "cell", nullable = false, length = 12)
+    private String cell;
+
+    @Column(name = "hit_count", nullable = false)
+    private Long hitCount;
+
+    @Column(name = "confirmed_count", nullable = false)
+    private Long confirmedCount;
+
+    @Column(name = "max_impact_force")
+    private Double maxImpactForce;
+
+    // 칸 안 감지 위치의 평균 좌표 계산용 합계
+    @Column(name = "latitude_sum", nullable = false)
+    private Double latitudeSum;
+
+    @Column(name = "longitude_sum", nullable = false)
+    private Double longitudeSum;
+}
@@ -30,6 +30,7 @@ public enum PotholeErrorCode implements ErrorCode {
     EMPTY_QUERY_RESULT(HttpStatus.NO_CONTENT, 5032, "쿼리 결과가 비어있습니다."),
     DATA_PROCESSING_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, 5033, "데이터 처리 중 오류가 발생했습니다."),
     DUPLICATE_DATA_DETECTED(HttpStatus.CONFLICT, 5034, "중복된 데이터가 감지되었습니다."),
+    ALL_ROWS_SAVE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, 5035, "조회된 모든 데이터의 저장에 실패했습니다."),
 
     // AWS 서비스 관련
     AWS_CREDENTIALS_INVALID(HttpStatus.UNAUTHORIZED, 5041, "AWS 인증 정보가 유효하지 않습니다."),
@@ -49,7 +50,15 @@ public enum PotholeErrorCode implements ErrorCode {
 
     // 사용자 권한 관련
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, 5081, "인증되지 않은 사용자입니다."),
-    ADMIN_PERMISSION_REQUIRED(HttpStatus.FORBIDDEN, 5082, "관리자 권한이 필요합니다.");
+    ADMIN_PERMISSION_REQUIRED(HttpStatus.FORBIDDEN, 5082, "관리자 권한이 필요합니다."),
+
+    // 비동기 적재 작업 관련
+    INGESTION_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, 5091, "적재 작업을 찾을 수 없습니다."),
+    INGESTION_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, 5092, "적재 작업 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요."),
+    BACKFILL_NOT_FOUND(HttpStatus.NOT_FOUND, 5093, "백필 작업을 찾을 수 없습니다."),
+    BACKFILL_ALREADY_RUNNING(HttpStatus.CONFLICT, 5094, "같은 기간의 백필 작업이 이미 실행 중입니다."),
+    INVALID_BACKFILL_RANGE(HttpStatus.BAD_REQUEST, 5095, "잘못된 백필 기간입니다."),
+    INGESTION_ALREADY_RUNNING(HttpStatus.CONFLICT, 5096, "같은 조건의 적재가 이미 실행 중입니다.");
 
     private final HttpStatus httpStatus;
     private final Integer code;
@@ -0,0 +1,17 @@
+package com.smooth.pothole_analysis_service.pothole.repository;
+
+import com.smooth.pothole_analysis_service.pothole.entity.BackfillSlice;
+import com.smooth.pothole_analysis_service.pothole.entity.BackfillSliceStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface BackfillSliceRepository extends JpaRepository<BackfillSlice, Long> {
+
+    List<BackfillSlice> findByBackfillIdOrderBySliceDateAsc(String backfillId);
+
+    List<BackfillSlice> findByStatusInOrderBySliceDateAsc(Collection<BackfillSliceStatus> statuses);
+}
@@ -0,0 +1,59 @@
+package com.smooth.pothole_analysis_service.pothole.repository;
+
+import com.smooth.pothole_analysis_service.pothole.dto.DatasetWatermark;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+// 데이터셋 버전 리포지토리
+// 증가는 호출한 쪽의 트랜잭션에 포함되므로 데이터 변경과 같이 커밋되어야 다른 인스턴스에 보임
+
+@Repository
+@RequiredArgsConstructor
+public class DatasetVersionRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<Long> findVersion(String dataset) {
+        List<Long> versions = jdbcTemplate.queryForList(
+                "SELECT version FROM dataset_version WHERE dataset = ?", Long.class, dataset);
+        return versions.stream().findFirst();
+    }
+
+    // 포트홀 데이터의 마지막 id 와 데이터셋 버전을 한 번에 조회 (MAX(id) 는 기본 키 인덱스 끝만 읽음)
+    public DatasetWatermark findWatermark(String dataset) {
+        return jdbcTemplate.queryForObject(
+                "SELECT (SELECT MAX(id) FROM pothole_data), " +
+                "(SELECT version FROM dataset_version WHERE dataset = ?), " +
+                "(SELECT updated_at FROM dataset_version WHERE dataset = ?)",
+                (rs, rowNum) -> new DatasetWatermark(
+                        rs.getLong(1),
+                        rs.getLong(2),
+                        rs.getObject(3, LocalDateTime.class)),
+                dataset, dataset);
+    }
+
+    // 버전 1 증가 - 행이 없으면 false
+    public boolean increment(String dataset, LocalDateTime now) {
+        return jdbcTemplate.update(
+                "UPDATE dataset_version SET version = version + 1, updated_at = ? WHERE dataset = ?",
+                now, dataset) == 1;
+    }
+
+    // 버전 1 로 새 행 생성 - 다른 트랜잭션이 먼저 만들었으면 false
+    public boolean insert(String dataset, LocalDateTime now) {
+        try {
+            jdbcTemplate.update(
+                    "INSERT INTO dataset_version (dataset, version, updated_at) VALUES (?, 1, ?)",
+                    dataset, now);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+}
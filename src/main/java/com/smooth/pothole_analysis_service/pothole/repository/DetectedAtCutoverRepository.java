@@ -0,0 +1,9 @@
+package com.smooth.pothole_analysis_service.pothole.repository;
+
+import com.smooth.pothole_analysis_service.pothole.entity.DetectedAtCutover;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DetectedAtCutoverRepository extends JpaRepository<DetectedAtCutover, Integer> {
+}
@@ -0,0 +1,30 @@
+package com.smooth.pothole_analysis_service.pothole.repository;
+
+import com.smooth.pothole_analysis_service.pothole.entity.IngestionCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface IngestionCheckpointRepository extends JpaRepository<IngestionCheckpoint, String> {
+
+    // 커밋된 청크만큼 진행 위치와 집계를 전진 (청크 저장과 같은 트랜잭션에서 호출)
+    @Modifying
+    @Query("UPDATE IngestionCheckpoint c SET " +
+            "c.committedRows = c.committedRows + :rows, " +
+            "c.savedCount = c.savedCount + :saved, " +
+            "c.duplicateCount = c.duplicateCount + :duplicates, " +
+            "c.errorCount = c.errorCount + :errors, " +
+            "c.updatedAt = :updatedAt " +
+            "WHERE c.jobKey = :jobKey")
+    int advance(@Param("jobKey") String jobKey,
+                @Param("rows") long rows,
+                @Param("saved") int saved,
+                @Param("duplicates") int duplicates,
+                @Param("errors") int errors,
+                @Param("updatedAt") LocalDateTime updatedAt);
+}
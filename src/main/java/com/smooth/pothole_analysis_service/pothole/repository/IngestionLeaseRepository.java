@@ -0,0 +1,119 @@
+package com.smooth.pothole_analysis_service.pothole.repository;
+
+import com.smooth.pothole_analysis_service.pothole.entity.IngestionLease;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+// 적재 구간 임대 리포지토리
+// 임대 획득은 조건부 UPDATE / INSERT 한 문장으로 판정하므로 트랜잭션 없이(자동 커밋) 호출해야
+// 다른 인스턴스에 바로 보임
+
+@Repository
+@RequiredArgsConstructor
+public class IngestionLeaseRepository {
+
+    private static final String SELECT_COLUMNS =
+            "SELECT lease_key, owner, slice_end, expires_at, completed_at, updated_at FROM ingestion_lease ";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 미완료 임대 중 만료되었거나 이미 자신이 가진 임대를 가져감
+    public boolean claimExisting(String leaseKey, String owner, LocalDateTime now, LocalDateTime expiresAt) {
+        return jdbcTemplate.update(
+                "UPDATE ingestion_lease SET owner = ?, expires_at = ?, updated_at = ? " +
+                "WHERE lease_key = ? AND completed_at IS NULL AND (owner = ? OR expires_at < ?)",
+                owner, expiresAt, now, leaseKey, owner, now) == 1;
+    }
+
+    // 새 임대 생성 - 다른 인스턴스가 먼저 만들었으면 false
+    public boolean insert(String leaseKey, String owner, LocalDateTime sliceEnd,
+                          LocalDateTime now, LocalDateTime expiresAt) {
+        try {
+            jdbcTemplate.update(
+                    "INSERT INTO ingestion_lease (lease_key, owner, slice_end, expires_at, updated_at) " +
+                    "VALUES (?, ?, ?, ?, ?)",
+                    leaseKey, owner, sliceEnd, expiresAt, now);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    public Optional<IngestionLease> findById(String leaseKey) {
+        List<IngestionLease> leases = jdbcTemplate.query(SELECT_COLUMNS + "WHERE lease_key = ?",
+                (rs, rowNum) -> toLease(rs), leaseKey);
+        return leases.stream().findFirst();
+    }
+
+    // 자신이 가진 미완료 임대의 만료 시각 연장 - 연장된 임대 수 반환
+    public int renew(String owner, Collection<String> leaseKeys, LocalDateTime now, LocalDateTime expiresAt) {
+        if (leaseKeys.isEmpty()) {
+            return 0;
+        }
+
+        List<Object> args = new ArrayList<>(leaseKeys.size() + 3);
+        args.add(expiresAt);
+        args.add(now);
+        args.add(owner);
+        args.addAll(leaseKeys);
+
+        String placeholders = String.join(", ", Collections.nCopies(leaseKeys.size(), "?"));
+        return jdbcTemplate.update(
+                "UPDATE ingestion_lease SET expires_at = ?, updated_at = ? " +
+                "WHERE owner = ? AND completed_at IS NULL AND lease_key IN (" + placeholders + ")",
+                args.toArray());
+    }
+
+    public boolean complete(String leaseKey, String owner, LocalDateTime now) {
+        return jdbcTemplate.update(
+                "UPDATE ingestion_lease SET completed_at = ?, updated_at = ? WHERE lease_key = ? AND owner = ?",
+                now, now, leaseKey, owner) == 1;
+    }
+
+    // 자신이 가진 미완료 임대를 즉시 만료시켜 다른 인스턴스가 가져갈 수 있게 함 (행과 구간 끝은 유지)
+    public boolean expire(String leaseKey, String owner, LocalDateTime now) {
+        return jdbcTemplate.update(
+                "UPDATE ingestion_lease SET expires_at = ?, updated_at = ? " +
+                "WHERE lease_key = ? AND owner = ? AND completed_at IS NULL",
+                now, now, leaseKey, owner) == 1;
+    }
+
+    // 접두사가 같은 완료 임대 중 구간 끝이 기준 시각 이전인 것 삭제
+    // 접두사의 LIKE 특수문자(테이블 이름의 '_' 등)는 그대로 비교되도록 이스케이프
+    public int deleteCompleted(String leaseKeyPrefix, LocalDateTime sliceEndBefore) {
+        return jdbcTemplate.update(
+                "DELETE FROM ingestion_lease WHERE lease_key LIKE ? ESCAPE '!' AND completed_at IS NOT NULL AND slice_end < ?",
+                escapeLike(leaseKeyPrefix) + "%", sliceEndBefore);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    private IngestionLease toLease(ResultSet rs) throws SQLException {
+        return IngestionLease.builder()
+                .leaseKey(rs.getString("lease_key"))
+                .owner(rs.getString("owner"))
+                .sliceEnd(toLocalDateTime(rs.getTimestamp("slice_end")))
+                .expiresAt(toLocalDateTime(rs.getTimestamp("expires_at")))
+                .completedAt(toLocalDateTime(rs.getTimestamp("completed_at")))
+                .updatedAt(toLocalDateTime(rs.getTimestamp("updated_at")))
+                .build();
+    }
+
+    private LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,114 @@
+package com.smooth.pothole_analysis_service.pothole.repository;
+
+import com.smooth.pothole_analysis_service.global.util.GeoHash;
+import com.smooth.pothole_analysis_service.pothole.entity.PotholeData;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 포트홀 데이터 영역 조회 리포지토리
+// 영역을 덮는 지오해시 접두사마다 geohash 인덱스 범위 조건을 걸고, 위도/경도 범위로 칸 가장자리의 행을 걸러냄
+
+@Repository
+@RequiredArgsConstructor
+public class PotholeAreaRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 영역 안의 포트홀 데이터를 최근 감지 순(detected_at, id 역순)으로 최대 limit 건 조회 (status 가 null 이면 상태 조건 없음)
+    // 접두사 범위 안의 행을 모두 읽고 정렬하므로 호출하는 쪽이 영역(접두사 자릿수)을 제한해야 함
+    public List<PotholeData> findInBox(List<String> geohashPrefixes,
+                                       double minLat, double minLon, double maxLat, double maxLon,
+                                       LocalDateTime start, LocalDateTime endExclusive, Boolean status, int limit) {
+        StringBuilder sql = new StringBuilder(PotholeDataRowMapper.SELECT_COLUMNS);
+        List<Object> params = new ArrayList<>();
+        appendBoxConditions(sql, params, geohashPrefixes, minLat, minLon, maxLat, maxLon, start, endExclusive, status);
+        sql.append("ORDER BY detected_at DESC, id DESC LIMIT ?");
+        params.add(limit);
+
+        return jdbcTemplate.query(sql.toString(), PotholeDataRowMapper.INSTANCE, params.toArray());
+    }
+
+    // 반경 조회용 - 사각 범위 조건에 평면 근사 거리 조건을 더해 사각형 모서리의 행을 DB 에서 걸러냄
+    // 근사 거리는 (위도 차)² + ((경도 차) × lonScale)² 로 계산한 도 단위 거리이며, maxDegrees 이하인 행만 반환
+    // 최근 감지 순(detected_at, id 역순)으로 after 다음 행부터 최대 limit 건 조회 (after 가 null 이면 처음부터)
+    public List<PotholeData> findNearCenter(List<String> geohashPrefixes,
+                                            double minLat, double minLon, double maxLat, double maxLon,
+                                            double centerLat, double centerLon, double lonScale, double maxDegrees,
+                                            LocalDateTime start, LocalDateTime endExclusive, Boolean status,
+                                            PotholeData after, int limit) {
+        StringBuilder sql = new StringBuilder(PotholeDataRowMapper.SELECT_COLUMNS);
+        List<Object> params = new ArrayList<>();
+        appendBoxConditions(sql, params, geohashPrefixes, minLat, minLon, maxLat, maxLon, start, endExclusive, status);
+        sql.append("AND (latitude - ?) * (latitude - ?) + (longitude - ?) * (longitude - ?) * ? <= ? ");
+        params.add(centerLat);
+        params.add(centerLat);
+        params.add(centerLon);
+        params.add(centerLon);
+        params.add(lonScale * lonScale);
+        params.add(maxDegrees * maxDegrees);
+        if (after != null) {
+            sql.append("AND (detected_at < ? OR (detected_at = ? AND id < ?)) ");
+            params.add(after.getDetectedAt());
+            params.add(after.getDetectedAt());
+            params.add(after.getId());
+        }
+        sql.append("ORDER BY detected_at DESC, id DESC LIMIT ?");
+        params.add(limit);
+
+        return jdbcTemplate.query(sql.toString(), PotholeDataRowMapper.INSTANCE, params.toArray());
+    }
+
+    // 지오해시 접두사 범위 + 위도/경도 범위 + 기간(+ 상태) 조건
+    private void appendBoxConditions(StringBuilder sql, List<Object> params, List<String> geohashPrefixes,
+                                     double minLat, double minLon, double maxLat, double maxLon,
+                                     LocalDateTime start, LocalDateTime endExclusive, Boolean status) {
+        sql.append("WHERE (");
+        for (int i = 0; i < geohashPrefixes.size(); i++) {
+            if (i > 0) {
+                sql.append(" OR ");
+            }
+            sql.append("(geohash >= ? AND geohash < ?)");
+            params.add(geohashPrefixes.get(i));
+            params.add(GeoHash.prefixUpperBound(geohashPrefixes.get(i)));
+        }
+        sql.append(") AND latitude BETWEEN ? AND ? AND longitude BETWEEN ? AND ? ")
+                .append("AND detected_at >= ? AND detected_at < ? ");
+        params.add(minLat);
+        params.add(maxLat);
+        params.add(minLon);
+        params.add(maxLon);
+        params.add(start);
+        params.add(endExclusive);
+        if (status != null) {
+            sql.append("AND status = ? ");
+            params.add(status);
+        }
+    }
+
+    // geohash 가 비어 있는 기존 행의 id, 위도, 경도 (좌표가 있는 행만)
+    public List<PotholeData> findMissingGeohash(int limit) {
+        return jdbcTemplate.query(
+                "SELECT id, latitude, longitude FROM pothole_data " +
+                "WHERE geohash IS NULL AND location_x IS NOT NULL AND location_y IS NOT NULL " +
+                "AND latitude IS NOT NULL AND longitude IS NOT NULL LIMIT ?",
+                (rs, rowNum) -> PotholeData.builder()
+                        .id(rs.getLong(1))
+                        .latitude(rs.getDouble(2))
+                        .longitude(rs.getDouble(3))
+                        .build(),
+                limit);
+    }
+
+    public void updateGeohash(List<PotholeData> rows) {
+        jdbcTemplate.batchUpdate("UPDATE pothole_data SET geohash = ? WHERE id = ?", rows, rows.size(),
+                (ps, row) -> {
+                    ps.setString(1, row.getGeohash());
+                    ps.setLong(2, row.getId());
+                });
+    }
+}
@@ -0,0 +1,196 @@
+package com.smooth.pothole_analysis_service.pothole.repository;
+
+import com.smooth.pothole_analysis_service.pothole.dto.PotholeRecordBatch;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+// 포트홀 데이터 대량 저장 리포지토리
+// JPA(IDENTITY 전략)는 INSERT 배치가 불가능하므로 JDBC 다중 행 INSERT 로 직접 저장
+// 중복 여부는 pothole_data 의 유니크 제약 (car_id, location_x, location_y, detected_at, impact_force) 으로 판단
+// 다중 행 INSERT 는 중복을 건너뛰지 않아 한 행이라도 중복이면 문장 전체가 실패(롤백)하므로, 호출하는 쪽이 행 단위로 다시 저장
+// 행 단위 저장은 중복 키 오류(DuplicateKeyException)만 중복으로 보고 나머지 오류는 예외로 드러냄
+// (INSERT IGNORE 는 길이 초과, 형 변환 등 다른 오류도 삼키고, ON DUPLICATE KEY UPDATE 는 드라이버 설정에 따라 중복도 1행으로 집계됨)
+// 실패한 문장만 롤백되고 트랜잭션은 유지되므로 청크 트랜잭션 안에서 이어서 저장할 수 있음
+
+@Repository
+@RequiredArgsConstructor
+public class PotholeBulkRepository {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO pothole_data " +
+            "(car_id, speed, location_x, location_y, longitude, latitude, geohash, s3_url, impact_force, z_axis_vibration, detected_at, status) " +
+            "VALUES ";
+
+    private static final String VALUES_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SELECT_UNIQUE_KEYS_PREFIX =
+            "SELECT car_id, location_x, location_y, detected_at, impact_force FROM pothole_data " +
+            "WHERE car_id IS NOT NULL AND location_x IS NOT NULL AND location_y IS NOT NULL " +
+            "AND impact_force IS NOT NULL AND (";
+
+    private static final String SELECT_EXISTING_KEYS_PREFIX =
+            "SELECT car_id, location_x, location_y, detected_at, impact_force FROM pothole_data " +
+            "WHERE (car_id, location_x, location_y, detected_at, impact_force) IN (";
+
+    private static final String KEY_PLACEHOLDER = "(?, ?, ?, ?, ?)";
+
+    // 날짜 하루 범위 조건 (detected_at 인덱스 범위 검색)
+    private static final String DAY_RANGE_CONDITION = "(detected_at >= ? AND detected_at < ?)";
+
+    // 유니크 키 조회 시 한 번에 가져올 행 수 (MySQL 은 StreamingFetch 로 행 단위 스트리밍)
+    private static final int UNIQUE_KEY_FETCH_SIZE = 5_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 배치의 rows[from, to) 행을 다중 행 INSERT 하나로 저장 (모두 저장되거나 하나도 저장되지 않음)
+    // 이미 저장된 행이 섞여 있으면 DuplicateKeyException, 그 밖의 오류는 DataAccessException 으로 전달
+    public void insertAll(PotholeRecordBatch batch, int[] rows, int from, int to) {
+        if (to <= from) {
+            return;
+        }
+        jdbcTemplate.update(insertSql(to - from), ps -> bindRows(ps, batch, rows, from, to));
+    }
+
+    // 배치의 row 행 하나를 저장하고 새로 저장되었으면 true, 유니크 키가 같은 행이 이미 있으면 false
+    // 그 밖의 오류는 DataAccessException 으로 전달
+    public boolean insertSkippingDuplicate(PotholeRecordBatch batch, int row) {
+        try {
+            jdbcTemplate.update(insertSql(1), ps -> bindRow(ps, 1, batch, row));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    private static String insertSql(int count) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + count * (VALUES_PLACEHOLDER.length() + 2));
+        sql.append(INSERT_PREFIX);
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(VALUES_PLACEHOLDER);
+        }
+        return sql.toString();
+    }
+
+    private void bindRows(PreparedStatement ps, PotholeRecordBatch batch, int[] rows, int from, int to)
+            throws SQLException {
+        int index = 1;
+        for (int i = from; i < to; i++) {
+            index = bindRow(ps, index, batch, rows[i]);
+        }
+    }
+
+    // 배치의 rows[from, to) 행 중 유니크 키가 같은 행이 이미 저장된 키 (유니크 키에 null 이 없는 행만 전달)
+    public Set<UniqueKey> findExistingKeys(PotholeRecordBatch batch, int[] rows, int from, int to) {
+        if (to <= from) {
+            return Set.of();
+        }
+
+        String sql = SELECT_EXISTING_KEYS_PREFIX
+                + String.join(", ", Collections.nCopies(to - from, KEY_PLACEHOLDER)) + ")";
+
+        Set<UniqueKey> existing = new HashSet<>();
+        jdbcTemplate.query(sql, ps -> {
+            int index = 1;
+            for (int i = from; i < to; i++) {
+                int row = rows[i];
+                ps.setString(index++, batch.getCarId(row));
+                ps.setDouble(index++, batch.getNumber(PotholeRecordBatch.LOCATION_X, row));
+                ps.setDouble(index++, batch.getNumber(PotholeRecordBatch.LOCATION_Y, row));
+                ps.setObject(index++, batch.getDetectedAt(row));
+                ps.setDouble(index++, batch.getNumber(PotholeRecordBatch.IMPACT_FORCE, row));
+            }
+        }, (RowCallbackHandler) rs -> existing.add(new UniqueKey(
+                rs.getString(1), rs.getDouble(2), rs.getDouble(3), rs.getObject(4, LocalDateTime.class), rs.getDouble(5))));
+        return existing;
+    }
+
+    // 지정한 날짜들에 감지되어 저장된 유니크 키를 엔티티 생성 없이 순회
+    public void forEachUniqueKey(Collection<LocalDate> detectedDates, UniqueKeyConsumer consumer) {
+        if (detectedDates.isEmpty()) {
+            return;
+        }
+
+        String sql = SELECT_UNIQUE_KEYS_PREFIX
+                + String.join(" OR ", Collections.nCopies(detectedDates.size(), DAY_RANGE_CONDITION)) + ")";
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql);
+            StreamingFetch.apply(ps, UNIQUE_KEY_FETCH_SIZE);
+            int index = 1;
+            for (LocalDate detectedDate : detectedDates) {
+                ps.setObject(index++, detectedDate.atStartOfDay());
+                ps.setObject(index++, detectedDate.plusDays(1).atStartOfDay());
+            }
+            return ps;
+        }, (RowCallbackHandler) rs ->
+                consumer.accept(rs.getString(1), rs.getDouble(2), rs.getDouble(3), rs.getObject(4, LocalDateTime.class), rs.getDouble(5)));
+    }
+
+    private int bindRow(PreparedStatement ps, int index, PotholeRecordBatch batch, int row) throws SQLException {
+        ps.setString(index++, batch.getCarId(row));
+        setNumber(ps, index++, batch, PotholeRecordBatch.SPEED, row);
+        setNumber(ps, index++, batch, PotholeRecordBatch.LOCATION_X, row);
+        setNumber(ps, index++, batch, PotholeRecordBatch.LOCATION_Y, row);
+        ps.setDouble(index++, batch.getLongitude(row));
+        ps.setDouble(index++, batch.getLatitude(row));
+        ps.setString(index++, batch.getGeohash(row));
+        ps.setString(index++, batch.getS3Url(row));
+        setNumber(ps, index++, batch, PotholeRecordBatch.IMPACT_FORCE, row);
+        setNumber(ps, index++, batch, PotholeRecordBatch.Z_AXIS_VIBRATION, row);
+        if (batch.getDetectedAt(row) != null) {
+            ps.setObject(index++, batch.getDetectedAt(row));
+        } else {
+            ps.setNull(index++, Types.TIMESTAMP);
+        }
+        ps.setBoolean(index++, false); // 기본 상태 (false = 미확정)
+        return index;
+    }
+
+    private void setNumber(PreparedStatement ps, int index, PotholeRecordBatch batch, int column, int row)
+            throws SQLException {
+        if (batch.hasNumber(column, row)) {
+            ps.setDouble(index, batch.getNumber(column, row));
+        } else {
+            ps.setNull(index, Types.DOUBLE);
+        }
+    }
+
+    // pothole_data 유니크 키 (DB 처럼 0.0 과 -0.0 을 같은 값으로 비교)
+    public record UniqueKey(String carId, double locationX, double locationY, LocalDateTime detectedAt, double impactForce) {
+
+        public UniqueKey {
+            locationX += 0.0;
+            locationY += 0.0;
+            impactForce += 0.0;
+        }
+
+        public static UniqueKey of(PotholeRecordBatch batch, int row) {
+            return new UniqueKey(batch.getCarId(row),
+                    batch.getNumber(PotholeRecordBatch.LOCATION_X, row),
+                    batch.getNumber(PotholeRecordBatch.LOCATION_Y, row),
+                    batch.getDetectedAt(row),
+                    batch.getNumber(PotholeRecordBatch.IMPACT_FORCE, row));
+        }
+    }
+
+    @FunctionalInterface
+    public interface UniqueKeyConsumer {
+        void accept(String carId, double locationX, double locationY, LocalDateTime detectedAt, double impactForce);
+    }
+}
@@ -0,0 +1,34 @@
+package com.smooth.pothole_analysis_service.pothole.repository;
+
+import com.smooth.pothole_analysis_service.pothole.entity.PotholeCluster;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PotholeClusterRepository extends JpaRepository<PotholeCluster, Long> {
+
+    // 격자 칸에 속한 군집을 쓰기 잠금(SELECT ... FOR UPDATE)으로 조회 (적재 시 주변 칸의 군집을 한 번에 가져옴)
+    // InnoDB 는 cell_key 인덱스의 해당 범위에 next-key 잠금을 걸므로, 트랜잭션이 끝날 때까지
+    // 다른 적재가 같은 칸의 군집을 갱신하거나 같은 칸에 새 군집을 만들지 못함
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM PotholeCluster c WHERE c.cellKey IN :cellKeys ORDER BY c.cellKey, c.id")
+    List<PotholeCluster> findByCellKeyInForUpdate(@Param("cellKeys") Collection<Long> cellKeys);
+
+    // 기간 [start, endExclusive) 내 감지된 적이 있고 감지 횟수가 minHits 이상인 군집을 감지 횟수 순으로 조회
+    @Query("SELECT c FROM PotholeCluster c WHERE c.lastDetectedAt >= :start AND c.firstDetectedAt < :endExclusive " +
+            "AND c.hitCount >= :minHits ORDER BY c.hitCount DESC, c.id DESC")
+    Page<PotholeCluster> findActiveBetween(@Param("start") LocalDateTime start,
+                                           @Param("endExclusive") LocalDateTime endExclusive,
+                                           @Param("minHits") int minHits,
+                                           Pageable pageable);
+}
@@ -8,10 +8,13 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 public interface PotholeDataRepository extends JpaRepository<PotholeData, Long> {
 
-       // 중복 데이터 체크 - 동일한 차량, 위치, 날짜, 충격량을 가진 데이터가 있는지 확인
+       // 중복 데이터 체크 - 동일한 차량, 위치, 감지 시각, 충격량을 가진 데이터가 있는지 확인
        @Query("SELECT COUNT(p) > 0 FROM PotholeData p WHERE " +
                      "p.carId = :carId AND " +
                      "p.locationX = :locationX AND " +
@@ -21,19 +24,51 @@ public interface PotholeDataRepository extends JpaRepository<PotholeData, Long>
        boolean existsByUniqueFields(@Param("carId") String carId,
                      @Param("locationX") Double locationX,
                      @Param("locationY") Double locationY,
-                     @Param("detectedAt") String detectedAt,
+                     @Param("detectedAt") LocalDateTime detectedAt,
                      @Param("impactForce") Double impactForce);
 
-       // 날짜 범위로 포트홀 데이터 조회
-       @Query("SELECT p FROM PotholeData p WHERE p.detectedAt >= :startDate AND p.detectedAt <= :endDate ORDER BY p.detectedAt DESC")
-       Page<PotholeData> findByDetectedAtBetween(@Param("startDate") String startDate,
-                     @Param("endDate") String endDate,
+       // 기간 [start, endExclusive) 의 포트홀 데이터 조회 - (detected_at, id) 인덱스 범위 검색
+       @Query("SELECT p FROM PotholeData p WHERE p.detectedAt >= :start AND p.detectedAt < :endExclusive ORDER BY p.detectedAt DESC, p.id DESC")
+       Page<PotholeData> findByDetectedAtBetween(@Param("start") LocalDateTime start,
+                     @Param("endExclusive") LocalDateTime endExclusive,
+                     Pageable pageable);
+
+       // 커서 (cursorDetectedAt, cursorId) 다음 위치부터 기간 [start, endExclusive) 의 포트홀 데이터 조회 (키셋 페이지네이션)
+       // (detected_at, id) 인덱스를 따라 커서 위치에서 바로 읽기 시작하므로 페이지 위치와 관계없이 비용이 같음
+       // 첫 페이지 커서는 endExclusive 에 놓이므로, 그 시각에 감지된 행이 섞이지 않도록 기간 끝 조건을 따로 둠
+       @Query("SELECT p FROM PotholeData p WHERE p.detectedAt >= :start AND p.detectedAt < :endExclusive AND " +
+                     "(p.detectedAt < :cursorDetectedAt OR (p.detectedAt = :cursorDetectedAt AND p.id < :cursorId)) " +
+                     "ORDER BY p.detectedAt DESC, p.id DESC")
+       List<PotholeData> findPageAfter(@Param("start") LocalDateTime start,
+                     @Param("endExclusive") LocalDateTime endExclusive,
+                     @Param("cursorDetectedAt") LocalDateTime cursorDetectedAt,
+                     @Param("cursorId") Long cursorId,
+                     Pageable pageable);
+
+       // 커서 다음 위치부터 기간과 상태로 포트홀 데이터 조회 (키셋 페이지네이션, (status, detected_at, id) 인덱스)
+       @Query("SELECT p FROM PotholeData p WHERE p.status = :status AND p.detectedAt >= :start AND p.detectedAt < :endExclusive AND " +
+                     "(p.detectedAt < :cursorDetectedAt OR (p.detectedAt = :cursorDetectedAt AND p.id < :cursorId)) " +
+                     "ORDER BY p.detectedAt DESC, p.id DESC")
+       List<PotholeData> findPageAfterWithStatus(@Param("start") LocalDateTime start,
+                     @Param("endExclusive") LocalDateTime endExclusive,
+                     @Param("cursorDetectedAt") LocalDateTime cursorDetectedAt,
+                     @Param("cursorId") Long cursorId,
+                     @Param("status") Boolean status,
                      Pageable pageable);
 
-       // 날짜 범위와 상태로 포트홀 데이터 조회
-       @Query("SELECT p FROM PotholeData p WHERE p.detectedAt >= :startDate AND p.detectedAt <= :endDate AND p.status = :status ORDER BY p.detectedAt DESC")
-       Page<PotholeData> findByDetectedAtBetweenAndStatus(@Param("startDate") String startDate,
-                     @Param("endDate") String endDate,
+       @Query("SELECT COUNT(p) FROM PotholeData p WHERE p.detectedAt >= :start AND p.detectedAt < :endExclusive")
+       long countByDetectedAtBetween(@Param("start") LocalDateTime start,
+                     @Param("endExclusive") LocalDateTime endExclusive);
+
+       @Query("SELECT COUNT(p) FROM PotholeData p WHERE p.detectedAt >= :start AND p.detectedAt < :endExclusive AND p.status = :status")
+       long countByDetectedAtBetweenAndStatus(@Param("start") LocalDateTime start,
+                     @Param("endExclusive") LocalDateTime endExclusive,
+                     @Param("status") Boolean status);
+
+       // 기간과 상태로 포트홀 데이터 조회 - (status, detected_at, id) 인덱스 범위 검색
+       @Query("SELECT p FROM PotholeData p WHERE p.status = :status AND p.detectedAt >= :start AND p.detectedAt < :endExclusive ORDER BY p.detectedAt DESC, p.id DESC")
+       Page<PotholeData> findByDetectedAtBetweenAndStatus(@Param("start") LocalDateTime start,
+                     @Param("endExclusive") LocalDateTime endExclusive,
                      @Param("status") Boolean status,
                      Pageable pageable);
 }
@@ -0,0 +1,40 @@
+package com.smooth.pothole_analysis_service.pothole.repository;
+
+import com.smooth.pothole_analysis_service.pothole.entity.PotholeData;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+// JDBC 조회 결과 → PotholeData 변환 (JPA 영속성 컨텍스트를 거치지 않는 조회용)
+final class PotholeDataRowMapper implements RowMapper<PotholeData> {
+
+    static final PotholeDataRowMapper INSTANCE = new PotholeDataRowMapper();
+
+    static final String SELECT_COLUMNS =
+            "SELECT id, car_id, speed, location_x, location_y, longitude, latitude, geohash, s3_url, " +
+            "impact_force, z_axis_vibration, detected_at, status FROM pothole_data ";
+
+    private PotholeDataRowMapper() {
+    }
+
+    @Override
+    public PotholeData mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return PotholeData.builder()
+                .id(rs.getLong("id"))
+                .carId(rs.getString("car_id"))
+                .speed(rs.getObject("speed", Double.class))
+                .locationX(rs.getObject("location_x", Double.class))
+                .locationY(rs.getObject("location_y", Double.class))
+                .longitude(rs.getObject("longitude", Double.class))
+                .latitude(rs.getObject("latitude", Double.class))
+                .geohash(rs.getString("geohash"))
+                .s3Url(rs.getString("s3_url"))
+                .impactForce(rs.getObject("impact_force", Double.class))
+                .zAxisVibration(rs.getObject("z_axis_vibration", Double.class))
+                .detectedAt(rs.getObject("detected_at", LocalDateTime.class))
+                .status(rs.getObject("status", Boolean.class))
+                .build();
+    }
+}
@@ -0,0 +1,43 @@
+package com.smooth.pothole_analysis_service.pothole.repository;
+
+import com.smooth.pothole_analysis_service.pothole.entity.PotholeData;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+// 포트홀 데이터 스트리밍 조회 리포지토리
+// 결과 전체를 메모리에 올리지 않고 한 행씩 전달 (MySQL 은 StreamingFetch 로 행 단위 스트리밍)
+
+@Repository
+@RequiredArgsConstructor
+public class PotholeStreamRepository {
+
+    private static final int STREAM_FETCH_SIZE = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 기간 [start, endExclusive) (와 상태)의 포트홀 데이터를 최근 감지 순으로 한 행씩 consumer 에 전달 (status 가 null 이면 상태 조건 없음)
+    public void forEachByDetectedAtBetween(LocalDateTime start, LocalDateTime endExclusive, Boolean status,
+                                           Consumer<PotholeData> consumer) {
+        String sql = PotholeDataRowMapper.SELECT_COLUMNS +
+                "WHERE detected_at >= ? AND detected_at < ? " +
+                (status != null ? "AND status = ? " : "") +
+                "ORDER BY detected_at DESC";
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql);
+            StreamingFetch.apply(ps, STREAM_FETCH_SIZE);
+            ps.setObject(1, start);
+            ps.setObject(2, endExclusive);
+            if (status != null) {
+                ps.setBoolean(3, status);
+            }
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(PotholeDataRowMapper.INSTANCE.mapRow(rs, 0)));
+    }
+}
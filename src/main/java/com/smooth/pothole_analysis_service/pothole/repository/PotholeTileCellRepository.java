@@ -0,0 +1,111 @@
+package com.smooth.pothole_analysis_service.pothole.repository;
+
+import com.smooth.pothole_analysis_service.global.util.GeoHash;
+import com.smooth.pothole_analysis_service.pothole.entity.PotholeTileCell;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+// 지도 타일 집계 칸 리포지토리
+// 집계 갱신은 INSERT ... ON DUPLICATE KEY UPDATE 로 누적하므로 여러 적재가 동시에 같은 칸을 갱신해도 합계가 유지됨
+
+@Repository
+@RequiredArgsConstructor
+public class PotholeTileCellRepository {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO pothole_tile_cell " +
+            "(precision_level, cell, hit_count, confirmed_count, max_impact_force, latitude_sum, longitude_sum) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "hit_count = hit_count + VALUES(hit_count), " +
+            "confirmed_count = confirmed_count + VALUES(confirmed_count), " +
+            "max_impact_force = GREATEST(COALESCE(max_impact_force, VALUES(max_impact_force)), " +
+            "COALESCE(VALUES(max_impact_force), max_impact_force)), " +
+            "latitude_sum = latitude_sum + VALUES(latitude_sum), " +
+            "longitude_sum = longitude_sum + VALUES(longitude_sum)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 칸별 증분을 기존 집계에 더함 (없는 칸은 새로 생성)
+    public void upsertIncrements(Collection<PotholeTileCell> increments) {
+        if (increments.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(UPSERT_SQL, increments, increments.size(), (ps, cell) -> {
+            ps.setInt(1, cell.getPrecisionLevel());
+            ps.setString(2, cell.getCell());
+            ps.setLong(3, cell.getHitCount());
+            ps.setLong(4, cell.getConfirmedCount());
+            if (cell.getMaxImpactForce() != null) {
+                ps.setDouble(5, cell.getMaxImpactForce());
+            } else {
+                ps.setNull(5, Types.DOUBLE);
+            }
+            ps.setDouble(6, cell.getLatitudeSum());
+            ps.setDouble(7, cell.getLongitudeSum());
+        });
+    }
+
+    // 지오해시가 geohash 인 데이터 1건의 확정 상태 변경을 모든 자릿수의 칸에 반영
+    public void adjustConfirmed(String geohash, int minPrecision, int maxPrecision, int delta) {
+        List<Object[]> params = new ArrayList<>();
+        for (int precision = minPrecision; precision <= Math.min(maxPrecision, geohash.length()); precision++) {
+            params.add(new Object[]{delta, precision, geohash.substring(0, precision)});
+        }
+        jdbcTemplate.batchUpdate(
+                "UPDATE pothole_tile_cell SET confirmed_count = confirmed_count + ? " +
+                "WHERE precision_level = ? AND cell = ?", params);
+    }
+
+    // 지정한 자릿수에서 접두사들로 시작하는 칸을 감지 수가 많은 순으로 최대 limit 개 조회 (접두사마다 인덱스 범위 조건)
+    public List<PotholeTileCell> findInPrefixes(int precision, List<String> prefixes, int limit) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT id, precision_level, cell, hit_count, confirmed_count, max_impact_force, latitude_sum, longitude_sum " +
+                "FROM pothole_tile_cell WHERE precision_level = ? AND (");
+        List<Object> params = new ArrayList<>();
+        params.add(precision);
+        for (int i = 0; i < prefixes.size(); i++) {
+            if (i > 0) {
+                sql.append(" OR ");
+            }
+            sql.append("(cell >= ? AND cell < ?)");
+            params.add(prefixes.get(i));
+            params.add(GeoHash.prefixUpperBound(prefixes.get(i)));
+        }
+        sql.append(") ORDER BY hit_count DESC, cell LIMIT ?");
+        params.add(limit);
+
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> PotholeTileCell.builder()
+                .id(rs.getLong("id"))
+                .precisionLevel(rs.getInt("precision_level"))
+                .cell(rs.getString("cell"))
+                .hitCount(rs.getLong("hit_count"))
+                .confirmedCount(rs.getLong("confirmed_count"))
+                .maxImpactForce(rs.getObject("max_impact_force", Double.class))
+                .latitudeSum(rs.getDouble("latitude_sum"))
+                .longitudeSum(rs.getDouble("longitude_sum"))
+                .build(), params.toArray());
+    }
+
+    public int deleteAll() {
+        return jdbcTemplate.update("DELETE FROM pothole_tile_cell");
+    }
+
+    // pothole_data 전체를 지정한 자릿수로 다시 집계 (deleteAll 로 비운 뒤 같은 트랜잭션에서 사용)
+    public int rebuild(int precision) {
+        return jdbcTemplate.update(
+                "INSERT INTO pothole_tile_cell " +
+                "(precision_level, cell, hit_count, confirmed_count, max_impact_force, latitude_sum, longitude_sum) " +
+                "SELECT ?, SUBSTRING(geohash, 1, ?), COUNT(*), " +
+                "SUM(CASE WHEN status = TRUE THEN 1 ELSE 0 END), MAX(impact_force), SUM(latitude), SUM(longitude) " +
+                "FROM pothole_data WHERE geohash IS NOT NULL GROUP BY SUBSTRING(geohash, 1, ?)",
+                precision, precision, precision);
+    }
+}
@@ -0,0 +1,25 @@
+package com.smooth.pothole_analysis_service.pothole.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+// 결과를 나눠 받는 조회의 fetch size 설정
+// MySQL 드라이버는 useCursorFetch 없이는 양수 fetch size 를 무시하고 결과 전체를 메모리에 올리므로,
+// 접속 속성을 전체 풀에 켜지 않고 이 문장만 Integer.MIN_VALUE 로 한 행씩 스트리밍
+// (스트리밍 중에는 같은 커넥션으로 다른 문장을 실행할 수 없으므로 행 처리에서 DB 를 조회하지 않는 조회에만 사용)
+final class StreamingFetch {
+
+    private static final String MYSQL_PRODUCT_NAME = "MySQL";
+
+    private StreamingFetch() {
+    }
+
+    // MySQL 이면 행 단위 스트리밍, 그 밖의 DB(테스트용 H2 등)는 fetchSize 그대로 적용
+    static void apply(PreparedStatement ps, int fetchSize) throws SQLException {
+        if (MYSQL_PRODUCT_NAME.equals(ps.getConnection().getMetaData().getDatabaseProductName())) {
+            ps.setFetchSize(Integer.MIN_VALUE);
+        } else {
+            ps.setFetchSize(fetchSize);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.smooth.pothole_analysis_service.pothole.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+// Athena 결과 CSV 스트리밍 파서
+// 고정 크기 char 버퍼와 필드용 StringBuilder 하나를 재사용하며, 행 단위로만 읽으므로 파일 크기와 무관하게 메모리 사용량이 일정함
+// Athena CSV 규칙: 모든 값은 큰따옴표로 감싸고 내부 큰따옴표는 두 번 씀, NULL 은 따옴표 없는 빈 값
+// 스레드 안전하지 않음
+
+public class AthenaCsvParser {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int EOF = -1;
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder field = new StringBuilder(128);
+    private int position;
+    private int limit;
+
+    public AthenaCsvParser(InputStream inputStream) {
+        this.reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8);
+    }
+
+    // 다음 레코드의 필드를 fields 에 채움 (기존 내용은 비움), 더 읽을 레코드가 없으면 false
+    public boolean readRecord(List<String> fields) throws IOException {
+        fields.clear();
+
+        int c = peek();
+        if (c == EOF) {
+            return false;
+        }
+
+        while (true) {
+            if (c == '"') {
+                position++;
+                fields.add(readQuotedField());
+            } else {
+                fields.add(readUnquotedField());
+            }
+
+            c = peek();
+            if (c == ',') {
+                position++;
+                c = peek();
+                continue;
+            }
+
+            // 레코드 끝 (\n, \r\n 또는 파일 끝)
+            if (c == '\r') {
+                position++;
+                c = peek();
+            }
+            if (c == '\n') {
+                position++;
+            } else if (c != EOF) {
+                throw new IOException("Unexpected character after field: " + (char) c);
+            }
+            return true;
+        }
+    }
+
+    // 여는 따옴표 다음부터 닫는 따옴표까지 읽음 (버퍼 구간 단위로 복사)
+    private String readQuotedField() throws IOException {
+        field.setLength(0);
+        int start = position;
+
+        while (true) {
+            if (position >= limit) {
+                field.append(buffer, start, position - start);
+                if (!fill()) {
+                    throw new IOException("Unterminated quoted field");
+                }
+                start = position;
+            }
+
+            if (buffer[position] != '"') {
+                position++;
+                continue;
+            }
+
+            field.append(buffer, start, position - start);
+            position++;
+
+            // "" 는 값 안의 큰따옴표 하나
+            if (peek() == '"') {
+                field.append('"');
+                position++;
+                start = position;
+                continue;
+            }
+            return field.toString();
+        }
+    }
+
+    // 따옴표 없는 값 - Athena 에서는 NULL 을 의미하는 빈 값이 대부분
+    private String readUnquotedField() throws IOException {
+        field.setLength(0);
+        int c;
+        while ((c = peek()) != EOF && c != ',' && c != '\n' && c != '\r') {
+            field.append((char) c);
+            position++;
+        }
+        return field.length() == 0 ? null : field.toString();
+    }
+
+    private int peek() throws IOException {
+        if (position >= limit && !fill()) {
+            return EOF;
+        }
+        return buffer[position];
+    }
+
+    private boolean fill() throws IOException {
+        int read = reader.read(buffer, 0, buffer.length);
+        position = 0;
+        limit = Math.max(read, 0);
+        return read > 0;
+    }
+}
@@ -0,0 +1,62 @@
+package com.smooth.pothole_analysis_service.pothole.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+
+// Athena 쿼리 지문 - 공백/대소문자만 다른 동일 쿼리를 같은 키로 묶기 위해 사용
+// 작은따옴표 안의 문자열 리터럴은 값이 달라지지 않도록 그대로 유지
+public final class AthenaQueryFingerprint {
+
+    private AthenaQueryFingerprint() {
+    }
+
+    // 공백을 하나로 줄이고 리터럴 밖의 문자는 소문자로 변환
+    public static String normalize(String query) {
+        StringBuilder normalized = new StringBuilder(query.length());
+        boolean inLiteral = false;
+        boolean pendingSpace = false;
+
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+
+            if (!inLiteral && Character.isWhitespace(c)) {
+                pendingSpace = normalized.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                normalized.append(' ');
+                pendingSpace = false;
+            }
+            if (c == '\'') {
+                inLiteral = !inLiteral;
+            }
+            normalized.append(inLiteral ? c : Character.toLowerCase(c));
+        }
+        return normalized.toString();
+    }
+
+    // 실행 환경(데이터베이스, 워크그룹)까지 포함한 쿼리 지문 (SHA-256 hex)
+    public static String of(String database, String workgroup, String query) {
+        return sha256(String.join("\n",
+                String.valueOf(database).toLowerCase(Locale.ROOT),
+                String.valueOf(workgroup).toLowerCase(Locale.ROOT),
+                normalize(query)));
+    }
+
+    // 쿼리(또는 조회 조건)만으로 만든 지문 (SHA-256 hex)
+    public static String of(String query) {
+        return sha256(normalize(query));
+    }
+
+    private static String sha256(String key) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
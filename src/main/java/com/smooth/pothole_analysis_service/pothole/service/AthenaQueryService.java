@@ -1,16 +1,36 @@
 package com.smooth.pothole_analysis_service.pothole.service;
 
 import com.smooth.pothole_analysis_service.global.exception.BusinessException;
+import com.smooth.pothole_analysis_service.pothole.dto.PotholeRecordBatch;
 import com.smooth.pothole_analysis_service.pothole.exception.PotholeErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.athena.AthenaAsyncClient;
 import software.amazon.awssdk.services.athena.AthenaClient;
 import software.amazon.awssdk.services.athena.model.*;
-
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 // Athena 쿼리 서비스 - S3 데이터에 대한 Athena 쿼리 실행 담당
 
@@ -19,7 +39,17 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 public class AthenaQueryService {
 
+    // GetQueryResults 한 번에 받을 수 있는 최대 행 수
+    private static final int MAX_RESULTS_PER_PAGE = 1000;
+
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    // 상태 폴링 간격 증가 배수
+    private static final double POLL_BACKOFF_MULTIPLIER = 1.5;
+
     private final AthenaClient athenaClient;
+    private final AthenaAsyncClient athenaAsyncClient;
+    private final S3Client s3Client;
 
     @Value("${aws.athena.database}")
     private String database;
@@ -33,148 +63,491 @@ public class AthenaQueryService {
     @Value("${aws.athena.tables.raw-pothole-data}")
     private String rawPotholeDataTable;
 
-    // S3 데이터에 대한 Athena 쿼리 실행
+    // 쿼리 결과 조회 방식 (API: GetQueryResults, S3: 결과 CSV 직접 스트리밍)
+    @Value("${aws.athena.result-reader:API}")
+    private AthenaResultReaderMode resultReaderMode;
+
+    // 원천 테이블의 시간 파티션 컬럼과 값 형식 (설정 시 시간 범위 조회에 파티션 조건을 추가해 스캔 범위를 줄임)
+    @Value("${aws.athena.tables.partition-column:}")
+    private String partitionColumn;
+
+    @Value("${aws.athena.tables.partition-format:yyyy-MM-dd}")
+    private String partitionFormat;
+
+    // 첫 상태 조회 간격 (이후 POLL_BACKOFF_MULTIPLIER 배씩 증가)
+    @Value("${aws.athena.poll.initial-delay-ms:200}")
+    private long initialPollDelayMillis;
+
+    // 상태 조회 간격 상한
+    @Value("${aws.athena.poll.max-delay-ms:5000}")
+    private long maxPollDelayMillis;
+
+    // 쿼리 완료 대기 최대 시간
+    @Value("${aws.athena.query-timeout-seconds:300}")
+    private long queryTimeoutSeconds;
+
+    // Athena 쿼리 결과 재사용 여부와 재사용 기간 (Athena 결과 재사용 + 로컬 queryExecutionId 캐시에 함께 적용)
+    @Value("${aws.athena.result-reuse.enabled:true}")
+    private boolean resultReuseEnabled;
+
+    @Value("${aws.athena.result-reuse.max-age-minutes:10}")
+    private int resultReuseMaxAgeMinutes;
+
+    // 쿼리 지문별 실행 중인 쿼리 (동일 쿼리 동시 요청을 한 번의 실행으로 합침)
+    private final Map<String, CompletableFuture<QueryExecution>> inFlightQueries = new ConcurrentHashMap<>();
+
+    // 쿼리 지문별 완료된 쿼리 (재사용 기간 동안 보관)
+    private final Map<String, CachedQueryExecution> completedQueries = new ConcurrentHashMap<>();
+
+    // S3 데이터에 대한 Athena 쿼리 실행 (완료될 때까지 호출 스레드에서 대기)
 
     public String executeQuery(String query) {
-        try {
-            log.info("S3 데이터 Athena 쿼리 실행: {}", query);
+        return join(executeQueryAsync(query)).queryExecutionId();
+    }
 
-            // 쿼리 실행 요청 생성
-            QueryExecutionContext queryExecutionContext = QueryExecutionContext.builder()
-                    .database(database)
-                    .build();
+    // S3 데이터에 대한 Athena 쿼리 비동기 실행
+    // 동일한 쿼리가 실행 중이면 그 결과를 함께 기다리고, 재사용 기간 안에 완료된 결과가 있으면 바로 반환
+    public CompletableFuture<QueryExecution> executeQueryAsync(String query) {
+        String fingerprint = AthenaQueryFingerprint.of(database, workgroup, query);
 
-            ResultConfiguration resultConfiguration = ResultConfiguration.builder()
-                    .outputLocation(outputLocation)
-                    .build();
+        if (resultReuseEnabled) {
+            CachedQueryExecution cached = completedQueries.get(fingerprint);
+            if (cached != null && !cached.isExpired(System.nanoTime())) {
+                log.info("Athena 쿼리 결과 재사용 - ID: {}", cached.queryExecution().queryExecutionId());
+                return CompletableFuture.completedFuture(cached.queryExecution());
+            }
+        }
 
-            StartQueryExecutionRequest startQueryExecutionRequest = StartQueryExecutionRequest.builder()
-                    .queryString(query)
-                    .queryExecutionContext(queryExecutionContext)
-                    .resultConfiguration(resultConfiguration)
-                    .workGroup(workgroup)
-                    .build();
+        CompletableFuture<QueryExecution> shared = new CompletableFuture<>();
+        CompletableFuture<QueryExecution> running = inFlightQueries.putIfAbsent(fingerprint, shared);
+        if (running != null) {
+            log.info("동일한 Athena 쿼리가 실행 중이므로 결과를 함께 대기");
+            return running.copy();
+        }
+
+        try {
+            startQueryExecution(query).whenComplete((queryExecution, throwable) -> {
+                if (throwable == null && resultReuseEnabled) {
+                    cacheCompletedQuery(fingerprint, queryExecution);
+                }
+                inFlightQueries.remove(fingerprint, shared);
+                if (throwable == null) {
+                    shared.complete(queryExecution);
+                } else {
+                    shared.completeExceptionally(throwable);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlightQueries.remove(fingerprint, shared);
+            shared.completeExceptionally(e);
+        }
 
-            // Athena 쿼리 실행
-            StartQueryExecutionResponse startQueryExecutionResponse =
-                    athenaClient.startQueryExecution(startQueryExecutionRequest);
+        // 호출자가 공유 future 를 완료/취소하지 않도록 복사본 반환
+        return shared.copy();
+    }
 
-            String queryExecutionId = startQueryExecutionResponse.queryExecutionId();
-            log.info("Athena 쿼리 실행 시작 - ID: {}", queryExecutionId);
+    // Athena 쿼리 실행 요청 후 완료까지 폴링
+    // 완료 여부는 적응형 백오프로 폴링하며, 대기 중에는 스레드를 점유하지 않음
+    private CompletableFuture<QueryExecution> startQueryExecution(String query) {
+        log.info("S3 데이터 Athena 쿼리 실행: {}", query);
 
-            // 쿼리 완료까지 대기
-            waitForQueryToComplete(queryExecutionId);
+        // 쿼리 실행 요청 생성
+        QueryExecutionContext queryExecutionContext = QueryExecutionContext.builder()
+                .database(database)
+                .build();
 
-            log.info("Athena 쿼리 실행 완료 - ID: {}", queryExecutionId);
-            return queryExecutionId;
+        ResultConfiguration resultConfiguration = ResultConfiguration.builder()
+                .outputLocation(outputLocation)
+                .build();
 
-        } catch (BusinessException e) {
-            throw e;
-        } catch (Exception e) {
-            log.error("Athena 쿼리 실행 중 오류 발생", e);
-            throw new BusinessException(PotholeErrorCode.ATHENA_QUERY_EXECUTION_FAILED);
+        StartQueryExecutionRequest.Builder startQueryExecutionRequest = StartQueryExecutionRequest.builder()
+                .queryString(query)
+                .queryExecutionContext(queryExecutionContext)
+                .resultConfiguration(resultConfiguration)
+                .workGroup(workgroup);
+
+        // Athena 결과 재사용 - 같은 쿼리를 재사용 기간 안에 다시 실행하면 스캔 없이 이전 결과를 반환 (엔진 v3 워크그룹)
+        if (resultReuseEnabled) {
+            startQueryExecutionRequest.resultReuseConfiguration(ResultReuseConfiguration.builder()
+                    .resultReuseByAgeConfiguration(ResultReuseByAgeConfiguration.builder()
+                            .enabled(true)
+                            .maxAgeInMinutes(resultReuseMaxAgeMinutes)
+                            .build())
+                    .build());
         }
+
+        long deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(queryTimeoutSeconds);
+
+        // Athena 쿼리 실행 후 완료까지 폴링
+        return athenaAsyncClient.startQueryExecution(startQueryExecutionRequest.build())
+                .thenCompose(response -> {
+                    String queryExecutionId = response.queryExecutionId();
+                    log.info("Athena 쿼리 실행 시작 - ID: {}", queryExecutionId);
+                    return pollQueryExecution(queryExecutionId, initialPollDelayMillis, deadlineNanos);
+                })
+                .handle((queryExecution, throwable) -> {
+                    if (throwable != null) {
+                        throw toBusinessException(throwable);
+                    }
+                    QueryExecutionStatistics statistics = queryExecution.statistics();
+                    log.info("Athena 쿼리 실행 완료 - ID: {}, 실행 시간: {}ms, 스캔: {} bytes, 결과 재사용: {}",
+                            queryExecution.queryExecutionId(),
+                            statistics != null ? statistics.totalExecutionTimeInMillis() : null,
+                            statistics != null ? statistics.dataScannedInBytes() : null,
+                            statistics != null && statistics.resultReuseInformation() != null
+                                    && Boolean.TRUE.equals(statistics.resultReuseInformation().reusedPreviousResult()));
+                    return queryExecution;
+                });
+    }
+
+    // 이미 실행된 쿼리의 실행 정보 조회 (중단된 적재를 같은 결과로 재개할 때 사용, 성공한 쿼리만 반환)
+    public CompletableFuture<QueryExecution> getQueryExecutionAsync(String queryExecutionId) {
+        return athenaAsyncClient.getQueryExecution(GetQueryExecutionRequest.builder()
+                        .queryExecutionId(queryExecutionId)
+                        .build())
+                .handle((response, throwable) -> {
+                    if (throwable != null) {
+                        throw toBusinessException(throwable);
+                    }
+                    QueryExecution queryExecution = response.queryExecution();
+                    if (queryExecution.status().state() != QueryExecutionState.SUCCEEDED) {
+                        log.warn("재사용할 수 없는 Athena 쿼리 - ID: {}, 상태: {}",
+                                queryExecutionId, queryExecution.status().state());
+                        throw new BusinessException(PotholeErrorCode.ATHENA_RESULT_NOT_FOUND);
+                    }
+                    return queryExecution;
+                });
+    }
+
+    // 완료된 쿼리 결과 위치를 재사용 기간 동안 보관 (만료된 항목은 이때 함께 정리)
+    private void cacheCompletedQuery(String fingerprint, QueryExecution queryExecution) {
+        long now = System.nanoTime();
+        completedQueries.values().removeIf(cached -> cached.isExpired(now));
+        completedQueries.put(fingerprint, new CachedQueryExecution(queryExecution,
+                now + TimeUnit.MINUTES.toNanos(resultReuseMaxAgeMinutes)));
     }
 
-    // Athena 쿼리 완료까지 대기
-    private void waitForQueryToComplete(String queryExecutionId) throws InterruptedException {
+    // Athena 쿼리 상태 폴링 - 처음에는 짧게, 오래 걸리는 쿼리일수록 간격을 늘려 조회
+    private CompletableFuture<QueryExecution> pollQueryExecution(String queryExecutionId, long delayMillis,
+                                                                 long deadlineNanos) {
         GetQueryExecutionRequest getQueryExecutionRequest = GetQueryExecutionRequest.builder()
                 .queryExecutionId(queryExecutionId)
                 .build();
 
-        GetQueryExecutionResponse getQueryExecutionResponse;
-        boolean isQueryStillRunning = true;
-        int waitCount = 0;
-        final int maxWaitCount = 150; // 5분 타임아웃 (2초 * 150)
+        return athenaAsyncClient.getQueryExecution(getQueryExecutionRequest)
+                .thenCompose(response -> {
+                    QueryExecution queryExecution = response.queryExecution();
+                    QueryExecutionState queryState = queryExecution.status().state();
+
+                    log.debug("Athena 쿼리 상태: {} (다음 조회까지 {}ms)", queryState, delayMillis);
+
+                    if (queryState == QueryExecutionState.SUCCEEDED) {
+                        return CompletableFuture.completedFuture(queryExecution);
+                    } else if (queryState == QueryExecutionState.FAILED) {
+                        String reason = queryExecution.status().stateChangeReason();
+                        log.error("Athena 쿼리 실패 - ID: {}, 사유: {}", queryExecutionId, reason);
+                        return CompletableFuture.<QueryExecution>failedFuture(
+                                new BusinessException(PotholeErrorCode.ATHENA_QUERY_EXECUTION_FAILED));
+                    } else if (queryState == QueryExecutionState.CANCELLED) {
+                        log.error("Athena 쿼리 취소됨 - ID: {}", queryExecutionId);
+                        return CompletableFuture.<QueryExecution>failedFuture(
+                                new BusinessException(PotholeErrorCode.ATHENA_QUERY_CANCELLED));
+                    }
+
+                    if (System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis) > deadlineNanos) {
+                        log.error("Athena 쿼리 타임아웃 - ID: {}", queryExecutionId);
+                        stopQueryQuietly(queryExecutionId);
+                        return CompletableFuture.<QueryExecution>failedFuture(
+                                new BusinessException(PotholeErrorCode.ATHENA_QUERY_TIMEOUT));
+                    }
+
+                    // 쿼리가 아직 실행 중이면 지연 후 다시 조회 (스레드를 재우지 않고 예약 실행)
+                    long nextDelayMillis = Math.min((long) (delayMillis * POLL_BACKOFF_MULTIPLIER), maxPollDelayMillis);
+                    Executor delayed = CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS);
+                    return CompletableFuture.runAsync(() -> { }, delayed)
+                            .thenCompose(ignored -> pollQueryExecution(queryExecutionId, nextDelayMillis, deadlineNanos));
+                });
+    }
 
-        while (isQueryStillRunning) {
-            if (waitCount >= maxWaitCount) {
-                log.error("Athena 쿼리 타임아웃 - ID: {}", queryExecutionId);
-                throw new BusinessException(PotholeErrorCode.ATHENA_QUERY_TIMEOUT);
-            }
+    // 타임아웃된 쿼리는 계속 스캔 비용이 발생하지 않도록 중지 요청
+    private void stopQueryQuietly(String queryExecutionId) {
+        athenaAsyncClient.stopQueryExecution(StopQueryExecutionRequest.builder()
+                        .queryExecutionId(queryExecutionId)
+                        .build())
+                .whenComplete((response, throwable) -> {
+                    if (throwable != null) {
+                        log.warn("Athena 쿼리 중지 요청 실패 - ID: {}", queryExecutionId, throwable);
+                    }
+                });
+    }
 
-            getQueryExecutionResponse = athenaClient.getQueryExecution(getQueryExecutionRequest);
-            String queryState = getQueryExecutionResponse.queryExecution().status().state().toString();
-
-            log.debug("Athena 쿼리 상태: {} ({}초 대기)", queryState, waitCount * 2);
-
-            if (queryState.equals(QueryExecutionState.FAILED.toString())) {
-                String reason = getQueryExecutionResponse.queryExecution().status().stateChangeReason();
-                log.error("Athena 쿼리 실패 - ID: {}, 사유: {}", queryExecutionId, reason);
-                throw new BusinessException(PotholeErrorCode.ATHENA_QUERY_EXECUTION_FAILED);
-            } else if (queryState.equals(QueryExecutionState.CANCELLED.toString())) {
-                log.error("Athena 쿼리 취소됨 - ID: {}", queryExecutionId);
-                throw new BusinessException(PotholeErrorCode.ATHENA_QUERY_CANCELLED);
-            } else if (queryState.equals(QueryExecutionState.SUCCEEDED.toString())) {
-                isQueryStillRunning = false;
-            } else {
-                // 쿼리가 아직 실행 중이면 잠시 대기
-                TimeUnit.SECONDS.sleep(2);
-                waitCount++;
-            }
+    // 비동기 실행 결과를 기다리면서 BusinessException 을 그대로 전달
+    private <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException | CancellationException e) {
+            throw toBusinessException(e);
         }
     }
 
+    private BusinessException toBusinessException(Throwable throwable) {
+        Throwable cause = throwable;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+
+        if (cause instanceof BusinessException businessException) {
+            return businessException;
+        }
+
+        log.error("Athena 쿼리 실행 중 오류 발생", cause);
+        return new BusinessException(PotholeErrorCode.ATHENA_QUERY_EXECUTION_FAILED, null, cause);
+    }
+
+    // 시간 범위 조회에 파티션 조건이 붙는지 여부 (없으면 짧은 구간도 테이블 전체를 스캔)
+    public boolean hasPartitionPredicate() {
+        return partitionColumn != null && !partitionColumn.isBlank();
+    }
+
+    // [start, end) 시간 범위 조회 조건 생성 (timestamp 는 'yyyy-MM-dd HH:mm:ss' 문자열 비교)
+    public String buildTimeRangeCondition(LocalDateTime start, LocalDateTime end) {
+        String condition = String.format("timestamp >= '%s' AND timestamp < '%s'",
+                start.format(TIMESTAMP_FORMATTER), end.format(TIMESTAMP_FORMATTER));
+
+        if (!hasPartitionPredicate()) {
+            return condition;
+        }
+
+        // 범위에 걸치는 파티션만 읽도록 파티션 컬럼 조건 추가
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(partitionFormat);
+        return String.format("%s >= '%s' AND %s <= '%s' AND %s",
+                partitionColumn, start.format(formatter),
+                partitionColumn, end.minusNanos(1).format(formatter),
+                condition);
+    }
+
     // S3 포트홀 데이터 조건부 조회
-    public String executeSelectWithConditions(String whereClause) {
+    public QueryExecution executeSelectWithConditions(String whereClause) {
+        return join(executeSelectWithConditionsAsync(whereClause));
+    }
+
+    // S3 포트홀 데이터 조건부 조회 (비동기) - 적재에 필요한 컬럼만 조회
+    public CompletableFuture<QueryExecution> executeSelectWithConditionsAsync(String whereClause) {
         if (whereClause == null || whereClause.trim().isEmpty()) {
             throw new BusinessException(PotholeErrorCode.INVALID_WHERE_CLAUSE);
         }
 
-        String query = String.format("SELECT * FROM %s.%s WHERE %s", database, rawPotholeDataTable, whereClause);
+        String query = String.format("SELECT %s FROM %s.%s WHERE %s",
+                RawPotholeColumn.selectList(), database, rawPotholeDataTable, whereClause);
         log.info("S3 조건부 데이터 조회 쿼리 실행: {}", whereClause);
-        return executeQuery(query);
+        return executeQueryAsync(query);
     }
 
-    // Athena 쿼리 결과 조회
-    public List<Map<String, String>> getQueryResults(String queryExecutionId) {
-        List<Map<String, String>> results = new ArrayList<>();
+    // Athena 쿼리 결과를 설정된 방식(aws.athena.result-reader)으로 조회하여 chunkSize 건씩 전달
+    // 전체 결과를 하나의 List 로 모으지 않으므로 결과 건수와 무관하게 메모리 사용량이 일정함
+    // 전달되는 배치는 다음 청크에 재사용되므로 consumer 밖에서 참조를 보관하면 안 됨
+    public long streamQueryResults(String queryExecutionId, int chunkSize,
+                                   Consumer<PotholeRecordBatch> chunkConsumer) {
+        return streamQueryResults(queryExecutionId, chunkSize, 0, chunkConsumer, resultReaderMode);
+    }
 
-        try {
-            log.info("Athena 쿼리 결과 조회 - ID: {}", queryExecutionId);
+    // 앞 skipRows 행(이전 실행에서 이미 커밋된 행)을 건너뛰고 이후 행만 chunkSize 건씩 전달
+    public long streamQueryResults(String queryExecutionId, int chunkSize, long skipRows,
+                                   Consumer<PotholeRecordBatch> chunkConsumer) {
+        return streamQueryResults(queryExecutionId, chunkSize, skipRows, chunkConsumer, resultReaderMode);
+    }
+
+    // 조회 방식을 지정하여 Athena 쿼리 결과를 chunkSize 건씩 전달
+    public long streamQueryResults(String queryExecutionId, int chunkSize,
+                                   Consumer<PotholeRecordBatch> chunkConsumer,
+                                   AthenaResultReaderMode mode) {
+        return streamQueryResults(queryExecutionId, chunkSize, 0, chunkConsumer, mode);
+    }
+
+    // 반환값은 건너뛴 행을 포함한 전체 결과 행 수
+    private long streamQueryResults(String queryExecutionId, int chunkSize, long skipRows,
+                                    Consumer<PotholeRecordBatch> chunkConsumer,
+                                    AthenaResultReaderMode mode) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+
+        log.info("Athena 쿼리 결과 스트리밍 조회 - ID: {}, 청크 크기: {}, 건너뛸 행: {}, 방식: {}",
+                queryExecutionId, chunkSize, skipRows, mode);
 
+        BatchChunker chunker = new BatchChunker(chunkSize, skipRows, chunkConsumer);
+        long totalRows = mode == AthenaResultReaderMode.S3
+                ? streamFromS3(queryExecutionId, chunker)
+                : streamFromApi(queryExecutionId, chunker);
+
+        if (totalRows == 0) {
+            log.warn("Athena 쿼리 결과가 비어있음 - ID: {}", queryExecutionId);
+        }
+        return totalRows;
+    }
+
+    // GetQueryResults API 로 nextToken 을 따라 모든 페이지를 순차 조회
+    private long streamFromApi(String queryExecutionId, BatchChunker chunker) {
+        try {
             GetQueryResultsRequest getQueryResultsRequest = GetQueryResultsRequest.builder()
                     .queryExecutionId(queryExecutionId)
+                    .maxResults(MAX_RESULTS_PER_PAGE)
                     .build();
 
-            GetQueryResultsResponse getQueryResultsResponse = athenaClient.getQueryResults(getQueryResultsRequest);
+            PotholeRowDecoder decoder = null;
+            int pageCount = 0;
+
+            for (GetQueryResultsResponse page : athenaClient.getQueryResultsPaginator(getQueryResultsRequest)) {
+                pageCount++;
+                List<Row> rows = page.resultSet().rows();
+                int startIndex = 0;
+
+                // 첫 페이지의 첫 번째 행은 헤더
+                if (decoder == null) {
+                    if (rows.isEmpty()) {
+                        continue;
+                    }
+                    decoder = PotholeRowDecoder.forHeader(rows.get(0).data().stream()
+                            .map(Datum::varCharValue)
+                            .toList());
+                    startIndex = 1;
+                }
+
+                for (int i = startIndex; i < rows.size(); i++) {
+                    if (chunker.skipRow()) {
+                        continue;
+                    }
+                    decoder.decodeData(rows.get(i).data(), chunker.batch());
+                    chunker.rowAdded();
+                }
+            }
+
+            long totalRows = chunker.finish();
+            log.info("Athena 쿼리 결과 스트리밍 조회 완료 (API) - {} 페이지, {} 건", pageCount, totalRows);
+            return totalRows;
+
+        } catch (SdkException e) {
+            log.error("Athena 쿼리 결과 조회 중 오류 발생 - ID: {}", queryExecutionId, e);
+            throw new BusinessException(PotholeErrorCode.ATHENA_RESULT_NOT_FOUND);
+        }
+    }
+
+    // 쿼리 결과 CSV 객체를 S3 에서 직접 스트리밍으로 읽어 파싱
+    private long streamFromS3(String queryExecutionId, BatchChunker chunker) {
+        String resultLocation = getResultOutputLocation(queryExecutionId);
+        URI resultUri = URI.create(resultLocation);
+        String bucket = resultUri.getHost();
+        String key = resultUri.getPath().substring(1);
+
+        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .build();
 
-            List<Row> rows = getQueryResultsResponse.resultSet().rows();
+        try (ResponseInputStream<GetObjectResponse> objectStream = s3Client.getObject(getObjectRequest)) {
+            AthenaCsvParser parser = new AthenaCsvParser(objectStream);
+            List<String> columnNames = new ArrayList<>();
+            List<String> fields = new ArrayList<>();
 
-            if (rows.isEmpty()) {
-                log.warn("Athena 쿼리 결과가 비어있음 - ID: {}", queryExecutionId);
-                return results;
+            // 첫 번째 레코드는 헤더
+            if (!parser.readRecord(columnNames)) {
+                return chunker.finish();
             }
 
-            // 첫 번째 행은 헤더
-            Row headerRow = rows.get(0);
-            List<String> columnNames = headerRow.data().stream()
-                    .map(Datum::varCharValue)
-                    .toList();
-
-            // 데이터 행들 처리
-            for (int i = 1; i < rows.size(); i++) {
-                Row dataRow = rows.get(i);
-                Map<String, String> rowData = new HashMap<>();
-
-                List<Datum> data = dataRow.data();
-                for (int j = 0; j < columnNames.size() && j < data.size(); j++) {
-                    String columnName = columnNames.get(j);
-                    String value = data.get(j).varCharValue();
-                    rowData.put(columnName, value);
+            PotholeRowDecoder decoder = PotholeRowDecoder.forHeader(columnNames);
+            while (parser.readRecord(fields)) {
+                if (chunker.skipRow()) {
+                    continue;
                 }
-
-                results.add(rowData);
+                decoder.decode(fields, chunker.batch());
+                chunker.rowAdded();
             }
 
-            log.info("Athena 쿼리 결과 조회 완료 - {} 건", results.size());
-            return results;
+            long totalRows = chunker.finish();
+            log.info("Athena 쿼리 결과 스트리밍 조회 완료 (S3) - s3://{}/{}, {} 건", bucket, key, totalRows);
+            return totalRows;
+
+        } catch (NoSuchKeyException e) {
+            log.error("Athena 결과 객체가 S3에 없음 - {}", resultLocation, e);
+            throw new BusinessException(PotholeErrorCode.S3_DATA_NOT_FOUND);
+        } catch (S3Exception e) {
+            log.error("Athena 결과 객체 S3 조회 실패 - {}", resultLocation, e);
+            throw new BusinessException(e.statusCode() == 403
+                    ? PotholeErrorCode.S3_ACCESS_DENIED
+                    : PotholeErrorCode.ATHENA_RESULT_NOT_FOUND);
+        } catch (IOException | SdkException e) {
+            log.error("Athena 결과 객체 읽기 실패 - {}", resultLocation, e);
+            throw new BusinessException(PotholeErrorCode.ATHENA_RESULT_NOT_FOUND);
+        }
+    }
 
-        } catch (Exception e) {
-            log.error("Athena 쿼리 결과 조회 중 오류 발생 - ID: {}", queryExecutionId, e);
+    // 쿼리 결과 CSV 가 저장된 S3 위치 조회 (워크그룹 설정에 따라 output-location 과 다를 수 있음)
+    private String getResultOutputLocation(String queryExecutionId) {
+        try {
+            QueryExecution queryExecution = athenaClient.getQueryExecution(GetQueryExecutionRequest.builder()
+                            .queryExecutionId(queryExecutionId)
+                            .build())
+                    .queryExecution();
+            return queryExecution.resultConfiguration().outputLocation();
+        } catch (SdkException e) {
+            log.error("Athena 쿼리 결과 위치 조회 실패 - ID: {}", queryExecutionId, e);
             throw new BusinessException(PotholeErrorCode.ATHENA_RESULT_NOT_FOUND);
         }
     }
 
+    // 재사용 배치에 행을 채우다가 chunkSize 만큼 차면 consumer 에 전달하고 비움
+    private static class BatchChunker {
+
+        private final PotholeRecordBatch batch;
+        private final Consumer<PotholeRecordBatch> chunkConsumer;
+        private long remainingSkipRows;
+        private long totalRows;
+
+        BatchChunker(int chunkSize, long skipRows, Consumer<PotholeRecordBatch> chunkConsumer) {
+            this.batch = new PotholeRecordBatch(chunkSize);
+            this.chunkConsumer = chunkConsumer;
+            this.remainingSkipRows = skipRows;
+        }
+
+        PotholeRecordBatch batch() {
+            return batch;
+        }
+
+        // 아직 건너뛸 행이 남았으면 디코딩하지 않고 true
+        boolean skipRow() {
+            if (remainingSkipRows <= 0) {
+                return false;
+            }
+            remainingSkipRows--;
+            totalRows++;
+            return true;
+        }
+
+        void rowAdded() {
+            if (batch.isFull()) {
+                flush();
+            }
+        }
+
+        long finish() {
+            if (!batch.isEmpty()) {
+                flush();
+            }
+            return totalRows;
+        }
+
+        private void flush() {
+            chunkConsumer.accept(batch);
+            totalRows += batch.size();
+            batch.clear();
+        }
+    }
+
+    private record CachedQueryExecution(QueryExecution queryExecution, long expiresAtNanos) {
 
-}
\ No newline at end of file
+        boolean isExpired(long nowNanos) {
+            return nowNanos - expiresAtNanos >= 0;
+        }
+    }
+}
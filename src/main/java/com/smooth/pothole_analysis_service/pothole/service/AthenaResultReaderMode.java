@@ -0,0 +1,11 @@
+package com.smooth.pothole_analysis_service.pothole.service;
+
+// Athena 쿼리 결과 조회 방식
+public enum AthenaResultReaderMode {
+
+    // GetQueryResults API 로 페이지(최대 1000행) 단위 조회
+    API,
+
+    // 쿼리 결과 CSV 객체를 S3 에서 직접 스트리밍으로 읽음
+    S3
+}
@@ -0,0 +1,289 @@
+package com.smooth.pothole_analysis_service.pothole.service;
+
+import com.smooth.pothole_analysis_service.global.config.AsyncConfig;
+import com.smooth.pothole_analysis_service.global.exception.BusinessException;
+import com.smooth.pothole_analysis_service.pothole.dto.BackfillResponseDto;
+import com.smooth.pothole_analysis_service.pothole.dto.DataProcessingResponseDto;
+import com.smooth.pothole_analysis_service.pothole.entity.BackfillSlice;
+import com.smooth.pothole_analysis_service.pothole.entity.BackfillSliceStatus;
+import com.smooth.pothole_analysis_service.pothole.exception.PotholeErrorCode;
+import com.smooth.pothole_analysis_service.pothole.repository.BackfillSliceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.services.athena.model.QueryExecution;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 기간 백필 서비스 - 날짜 범위를 하루 단위 구간으로 나눠 제한된 동시성으로 적재
+// 구간마다 완료 여부와 소요 시간을 기록하므로, 중단된 백필은 같은 기간으로 다시 요청하면 남은 구간부터 이어서 실행
+// 구간은 DB 임대를 잡은 인스턴스만 처리하며, 다른 인스턴스도 주기적으로 남은 구간을 가져가 함께 처리
+
+@Slf4j
+@Service
+public class BackfillService {
+
+    private static final DateTimeFormatter ID_FORMATTER = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 1000;
+
+    private final AthenaQueryService athenaQueryService;
+    private final DataProcessingService dataProcessingService;
+    private final BackfillSliceRepository sliceRepository;
+    private final IngestionLeaseService leaseService;
+    private final ThreadPoolTaskExecutor backfillExecutor;
+
+    // 실행 중인 백필 ID
+    private final Set<String> runningBackfills = ConcurrentHashMap.newKeySet();
+
+    @Value("${pothole.backfill.default-parallelism:2}")
+    private int defaultParallelism;
+
+    @Value("${pothole.backfill.max-parallelism:4}")
+    private int maxParallelism;
+
+    // 한 번에 요청할 수 있는 최대 기간 (일)
+    @Value("${pothole.backfill.max-days:366}")
+    private long maxDays;
+
+    public BackfillService(AthenaQueryService athenaQueryService,
+                           DataProcessingService dataProcessingService,
+                           BackfillSliceRepository sliceRepository,
+                           IngestionLeaseService leaseService,
+                           @Qualifier(AsyncConfig.BACKFILL_EXECUTOR) ThreadPoolTaskExecutor backfillExecutor) {
+        this.athenaQueryService = athenaQueryService;
+        this.dataProcessingService = dataProcessingService;
+        this.sliceRepository = sliceRepository;
+        this.leaseService = leaseService;
+        this.backfillExecutor = backfillExecutor;
+    }
+
+    // 백필 시작 (또는 같은 기간의 중단된 백필 재개) 후 즉시 반환
+    public BackfillResponseDto start(LocalDate startDate, LocalDate endDate, Integer requestedParallelism) {
+        if (startDate == null || endDate == null || endDate.isBefore(startDate)
+                || ChronoUnit.DAYS.between(startDate, endDate) + 1 > maxDays) {
+            throw new BusinessException(PotholeErrorCode.INVALID_BACKFILL_RANGE);
+        }
+
+        String backfillId = toBackfillId(startDate, endDate);
+        if (!runningBackfills.add(backfillId)) {
+            throw new BusinessException(PotholeErrorCode.BACKFILL_ALREADY_RUNNING);
+        }
+
+        try {
+            int parallelism = Math.max(1, Math.min(
+                    requestedParallelism != null ? requestedParallelism : defaultParallelism, maxParallelism));
+
+            List<BackfillSlice> pendingSlices = prepareSlices(backfillId, startDate, endDate);
+            log.info("백필 시작 - ID: {}, 남은 구간: {}개, 동시 실행: {}", backfillId, pendingSlices.size(), parallelism);
+
+            startRun(new BackfillRun(backfillId, new ConcurrentLinkedQueue<>(pendingSlices)), parallelism);
+        } catch (RuntimeException e) {
+            runningBackfills.remove(backfillId);
+            throw e;
+        }
+
+        return getBackfill(backfillId);
+    }
+
+    public BackfillResponseDto getBackfill(String backfillId) {
+        List<BackfillSlice> slices = sliceRepository.findByBackfillIdOrderBySliceDateAsc(backfillId);
+        if (slices.isEmpty()) {
+            throw new BusinessException(PotholeErrorCode.BACKFILL_NOT_FOUND);
+        }
+        return BackfillResponseDto.of(backfillId, runningBackfills.contains(backfillId), slices);
+    }
+
+    // 구간 체크포인트 생성 - 이미 완료된 구간은 제외하고, 실패했거나 중단된 구간은 다시 대기 상태로 되돌림
+    private List<BackfillSlice> prepareSlices(String backfillId, LocalDate startDate, LocalDate endDate) {
+        Map<LocalDate, BackfillSlice> existing = sliceRepository.findByBackfillIdOrderBySliceDateAsc(backfillId)
+                .stream()
+                .collect(Collectors.toMap(BackfillSlice::getSliceDate, Function.identity()));
+
+        List<BackfillSlice> pending = new ArrayList<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            BackfillSlice slice = existing.get(date);
+            if (slice == null) {
+                slice = BackfillSlice.builder()
+                        .backfillId(backfillId)
+                        .sliceDate(date)
+                        .build();
+            } else if (slice.getStatus() == BackfillSliceStatus.COMPLETED) {
+                continue;
+            }
+
+            slice.setStatus(BackfillSliceStatus.PENDING);
+            slice.setErrorMessage(null);
+            pending.add(slice);
+        }
+
+        return sliceRepository.saveAll(pending);
+    }
+
+    // 다른 인스턴스에서 시작된 백필의 남은 구간을 가져와 함께 처리 (처리 중인 인스턴스가 죽은 구간은 임대 만료 후 이어받음)
+    @Scheduled(fixedDelayString = "${pothole.backfill.join-interval-ms:30000}",
+            initialDelayString = "${pothole.backfill.join-initial-delay-ms:30000}")
+    public void joinPendingBackfills() {
+        Map<String, List<BackfillSlice>> unfinished = sliceRepository
+                .findByStatusInOrderBySliceDateAsc(List.of(BackfillSliceStatus.PENDING, BackfillSliceStatus.RUNNING))
+                .stream()
+                .collect(Collectors.groupingBy(BackfillSlice::getBackfillId));
+
+        unfinished.forEach((backfillId, slices) -> {
+            if (!runningBackfills.add(backfillId)) {
+                return;
+            }
+            log.debug("백필 남은 구간 확인 - ID: {}, {}개", backfillId, slices.size());
+            try {
+                startRun(new BackfillRun(backfillId, new ConcurrentLinkedQueue<>(slices)), defaultParallelism);
+            } catch (RuntimeException e) {
+                runningBackfills.remove(backfillId);
+                log.error("백필 구간 가져오기 실패 - ID: {}", backfillId, e);
+            }
+        });
+    }
+
+    // parallelism 개의 구간을 동시에 시작 (가져갈 수 있는 구간이 없으면 바로 종료)
+    private void startRun(BackfillRun run, int parallelism) {
+        for (int i = 0; i < parallelism; i++) {
+            launchNextSlice(run);
+        }
+        if (run.activeSlices().get() == 0 && run.pendingSlices().isEmpty()) {
+            runningBackfills.remove(run.backfillId());
+        }
+    }
+
+    // 대기 중인 다음 구간 실행 - Athena 쿼리는 비동기로 기다리고 결과 저장만 백필 실행기에서 수행
+    private void launchNextSlice(BackfillRun run) {
+        BackfillSlice slice = null;
+        while (slice == null) {
+            BackfillSlice candidate = run.pendingSlices().poll();
+            if (candidate == null) {
+                return;
+            }
+            slice = claimSlice(run, candidate);
+        }
+        run.activeSlices().incrementAndGet();
+
+        LocalDateTime start = slice.getSliceDate().atStartOfDay();
+        String whereClause = athenaQueryService.buildTimeRangeCondition(start, start.plusDays(1));
+        long startNanos = System.nanoTime();
+
+        CompletableFuture<QueryExecution> queryFuture;
+        try {
+            slice.setStatus(BackfillSliceStatus.RUNNING);
+            slice.setStartedAt(LocalDateTime.now());
+            sliceRepository.save(slice);
+            queryFuture = dataProcessingService.startOrResumeQueryAsync(whereClause);
+        } catch (RuntimeException e) {
+            queryFuture = CompletableFuture.failedFuture(e);
+        }
+
+        queryFuture
+                .thenApplyAsync(queryExecution -> {
+                    slice.setQueryExecutionId(queryExecution.queryExecutionId());
+                    return dataProcessingService.saveQueryResultsToRds(whereClause, queryExecution,
+                            IngestProgressListener.NONE);
+                }, backfillExecutor)
+                .whenComplete((result, throwable) -> {
+                    boolean recorded = false;
+                    try {
+                        finishSlice(run, slice, result, throwable, startNanos);
+                        recorded = true;
+                    } catch (RuntimeException e) {
+                        // 결과 기록 실패가 임대 반환과 다음 구간 실행을 막지 않도록 기록만 남김
+                        // 구간은 RUNNING 으로 남으므로 임대를 반환해 다음 실행에서 다시 처리
+                        log.error("백필 구간 결과 기록 실패 - ID: {}, 날짜: {}", run.backfillId(), slice.getSliceDate(), e);
+                    } finally {
+                        if (throwable == null && recorded) {
+                            leaseService.complete(sliceLeaseKey(run.backfillId(), slice));
+                        } else {
+                            leaseService.release(sliceLeaseKey(run.backfillId(), slice));
+                        }
+                        launchNextSlice(run);
+                        if (run.activeSlices().decrementAndGet() == 0 && run.pendingSlices().isEmpty()) {
+                            runningBackfills.remove(run.backfillId());
+                            log.info("백필 종료 - ID: {}", run.backfillId());
+                        }
+                    }
+                });
+    }
+
+    private void finishSlice(BackfillRun run, BackfillSlice slice, DataProcessingResponseDto result,
+                             Throwable throwable, long startNanos) {
+        long durationMs = (System.nanoTime() - startNanos) / 1_000_000;
+        slice.setDurationMs(durationMs);
+        slice.setFinishedAt(LocalDateTime.now());
+
+        if (throwable == null) {
+            slice.setStatus(BackfillSliceStatus.COMPLETED);
+            slice.setProcessedCount(result.getProcessedDataCount());
+            log.info("백필 구간 완료 - ID: {}, 날짜: {}, 처리: {}건, 소요: {}ms",
+                    run.backfillId(), slice.getSliceDate(), result.getProcessedDataCount(), durationMs);
+        } else {
+            Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                    ? throwable.getCause()
+                    : throwable;
+            slice.setStatus(BackfillSliceStatus.FAILED);
+            String errorMessage = cause.getMessage();
+            slice.setErrorMessage(errorMessage != null && errorMessage.length() > MAX_ERROR_MESSAGE_LENGTH
+                    ? errorMessage.substring(0, MAX_ERROR_MESSAGE_LENGTH)
+                    : errorMessage);
+            log.error("백필 구간 실패 - ID: {}, 날짜: {}, 사유: {}", run.backfillId(), slice.getSliceDate(), cause.getMessage());
+        }
+
+        sliceRepository.save(slice);
+    }
+
+    // 구간 임대 획득 후 최신 상태를 다시 읽음 - 이미 끝난 구간이거나 다른 인스턴스가 처리 중이면 null
+    private BackfillSlice claimSlice(BackfillRun run, BackfillSlice slice) {
+        String leaseKey = sliceLeaseKey(run.backfillId(), slice);
+        if (!leaseService.tryAcquire(leaseKey)) {
+            log.debug("다른 인스턴스가 처리 중인 백필 구간 건너뜀 - ID: {}, 날짜: {}", run.backfillId(), slice.getSliceDate());
+            return null;
+        }
+
+        BackfillSlice current = sliceRepository.findById(slice.getId()).orElse(null);
+        if (current == null || current.getStatus() == BackfillSliceStatus.COMPLETED) {
+            leaseService.complete(leaseKey);
+            return null;
+        }
+        if (current.getStatus() == BackfillSliceStatus.FAILED) {
+            leaseService.release(leaseKey);
+            return null;
+        }
+        return current;
+    }
+
+    private String sliceLeaseKey(String backfillId, BackfillSlice slice) {
+        return "backfill:" + backfillId + ":" + slice.getSliceDate();
+    }
+
+    private String toBackfillId(LocalDate startDate, LocalDate endDate) {
+        return "bf-" + startDate.format(ID_FORMATTER) + "-" + endDate.format(ID_FORMATTER);
+    }
+
+    private record BackfillRun(String backfillId, Queue<BackfillSlice> pendingSlices, AtomicInteger activeSlices) {
+
+        BackfillRun(String backfillId, Queue<BackfillSlice> pendingSlices) {
+            this(backfillId, pendingSlices, new AtomicInteger());
+        }
+    }
+}
@@ -1,18 +1,33 @@
 package com.smooth.pothole_analysis_service.pothole.service;
 
+import com.smooth.pothole_analysis_service.pothole.dto.PotholeRecordBatch;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Slf4j
 @Service
 public class CoordinateConversionService {
     
-    // 기준점(Origin)의 실제 경도, 위도
-    private static final double ORIGIN_LONGITUDE = 127.00374;
-    private static final double ORIGIN_LATITUDE = 37.55807;
-    
-    private static final double METERS_PER_LON_DEGREE = 89000.0;
-    private static final double METERS_PER_LAT_DEGREE = 111139.0;
+    // 변환 결과를 소수점 5자리로 반올림
+    private static final double ROUNDING_SCALE = 100000.0;
+
+    // 기준점(Origin)의 실제 경도, 위도와 경도/위도 1도당 거리(m) - 시작 시 한 번만 읽어 둠
+    private final double originLongitude;
+    private final double originLatitude;
+    private final double metersPerLonDegree;
+    private final double metersPerLatDegree;
+
+    public CoordinateConversionService(
+            @Value("${pothole.coordinate.origin-longitude:127.00374}") double originLongitude,
+            @Value("${pothole.coordinate.origin-latitude:37.55807}") double originLatitude,
+            @Value("${pothole.coordinate.meters-per-lon-degree:89000.0}") double metersPerLonDegree,
+            @Value("${pothole.coordinate.meters-per-lat-degree:111139.0}") double metersPerLatDegree) {
+        this.originLongitude = originLongitude;
+        this.originLatitude = originLatitude;
+        this.metersPerLonDegree = metersPerLonDegree;
+        this.metersPerLatDegree = metersPerLatDegree;
+    }
     
     /**
      * Carla 좌표계의 X, Y를 실제 위도, 경도로 변환
@@ -26,12 +41,62 @@ public class CoordinateConversionService {
             return new double[]{0.0, 0.0};
         }
         
-        double convertedLongitude = Math.round((ORIGIN_LONGITUDE + (carlaX / METERS_PER_LON_DEGREE)) * 100000.0) / 100000.0;
-        double convertedLatitude = Math.round((ORIGIN_LATITUDE + (carlaY / METERS_PER_LAT_DEGREE)) * 100000.0) / 100000.0;
+        double convertedLongitude = round(originLongitude + (carlaX / metersPerLonDegree));
+        double convertedLatitude = round(originLatitude + (carlaY / metersPerLatDegree));
         
         log.debug("좌표 변환: carlaX={}, carlaY={} -> longitude={}, latitude={}", 
                  carlaX, carlaY, convertedLongitude, convertedLatitude);
         
         return new double[]{convertedLongitude, convertedLatitude};
     }
+
+    /**
+     * Carla X, Y 배열의 앞 length 개를 경도, 위도 배열로 일괄 변환
+     * 분기와 메서드 호출이 없는 단순 루프라 JIT 가 SIMD 로 벡터화할 수 있음 (입력 배열에 그대로 덮어써도 됨)
+     * @param carlaX Carla X 좌표 배열
+     * @param carlaY Carla Y 좌표 배열
+     * @param longitudes 경도 결과 배열
+     * @param latitudes 위도 결과 배열
+     * @param length 변환할 개수
+     */
+    public void convertToLatLon(double[] carlaX, double[] carlaY, double[] longitudes, double[] latitudes, int length) {
+        double lonOrigin = originLongitude;
+        double latOrigin = originLatitude;
+        double lonMeters = metersPerLonDegree;
+        double latMeters = metersPerLatDegree;
+
+        for (int i = 0; i < length; i++) {
+            longitudes[i] = Math.floor((lonOrigin + carlaX[i] / lonMeters) * ROUNDING_SCALE + 0.5) / ROUNDING_SCALE;
+        }
+        for (int i = 0; i < length; i++) {
+            latitudes[i] = Math.floor((latOrigin + carlaY[i] / latMeters) * ROUNDING_SCALE + 0.5) / ROUNDING_SCALE;
+        }
+    }
+
+    /**
+     * 배치의 Carla 좌표를 경도, 위도로 일괄 변환 (X 또는 Y 가 없는 행은 [0, 0])
+     * @param batch Athena 결과 배치
+     */
+    public void convertToLatLon(PotholeRecordBatch batch) {
+        int size = batch.size();
+        convertToLatLon(batch.numberColumn(PotholeRecordBatch.LOCATION_X),
+                batch.numberColumn(PotholeRecordBatch.LOCATION_Y),
+                batch.longitudeColumn(), batch.latitudeColumn(), size);
+
+        int missing = 0;
+        for (int row = 0; row < size; row++) {
+            if (!batch.hasNumber(PotholeRecordBatch.LOCATION_X, row) || !batch.hasNumber(PotholeRecordBatch.LOCATION_Y, row)) {
+                batch.setCoordinates(row, 0.0, 0.0);
+                missing++;
+            }
+        }
+        if (missing > 0) {
+            log.warn("좌표 변환 실패: 좌표가 없는 {}건은 (0, 0)으로 저장", missing);
+        }
+    }
+
+    // 소수점 5자리 반올림 (기존 Math.round 방식과 동일한 값, long 변환 없이 double 연산만 사용)
+    private static double round(double value) {
+        return Math.floor(value * ROUNDING_SCALE + 0.5) / ROUNDING_SCALE;
+    }
 }
@@ -2,13 +2,25 @@ package com.smooth.pothole_analysis_service.pothole.service;
 
 import com.smooth.pothole_analysis_service.global.exception.BusinessException;
 import com.smooth.pothole_analysis_service.pothole.dto.DataProcessingResponseDto;
+import com.smooth.pothole_analysis_service.pothole.dto.SaveResultDto;
+import com.smooth.pothole_analysis_service.pothole.entity.IngestionCheckpoint;
 import com.smooth.pothole_analysis_service.pothole.exception.PotholeErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.services.athena.model.QueryExecution;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 
 // 포트홀 데이터 처리 서비스 -  S3 데이터 → Athena 쿼리 → RDS 저장 파이프라인
+// Athena 대기와 결과 저장 전체를 하나의 트랜잭션으로 묶지 않고, 청크마다 커밋하면서 체크포인트를 함께 기록
+// 같은 조건(체크포인트)의 저장은 인스턴스 안팎에서 하나만 실행 - 둘이 같은 진행 위치를 이어 쓰면 행을 건너뛰거나 두 번 셈
 
 @Slf4j
 @Service
@@ -17,45 +29,151 @@ public class DataProcessingService {
 
     private final AthenaQueryService athenaQueryService;
     private final PotholeService potholeService;
+    private final IngestionCheckpointService checkpointService;
+    private final TransactionTemplate transactionTemplate;
+    private final IngestionLeaseService leaseService;
+
+    // 이 인스턴스에서 저장 중인 체크포인트 키 (임대는 같은 인스턴스면 다시 획득되므로 따로 막음)
+    private final Set<String> runningJobKeys = ConcurrentHashMap.newKeySet();
+
+    // Athena 결과를 RDS에 저장할 때 한 번에 처리(커밋)할 행 수
+    @Value("${pothole.ingest.chunk-size:1000}")
+    private int chunkSize;
 
     // S3 → Athena 쿼리 (조건문) → RDS 저장 파이프라인
-    @Transactional
     public DataProcessingResponseDto queryAndSaveToRds(String whereClause) {
         try {
             log.info("S3 → Athena → RDS 파이프라인 시작 (조건: {})", whereClause);
 
-            // 1. S3 데이터에 대한 Athena 쿼리 실행
-            String queryExecutionId = athenaQueryService.executeSelectWithConditions(whereClause);
-            log.info("Athena 쿼리 실행 완료 - ID: {}", queryExecutionId);
+            // 1. S3 데이터에 대한 Athena 쿼리 실행 (중단된 적재가 있으면 그 쿼리 결과를 재사용)
+            QueryExecution queryExecution = startOrResumeQueryAsync(whereClause).join();
+            log.info("Athena 쿼리 실행 완료 - ID: {}", queryExecution.queryExecutionId());
+
+            // 2. 결과 조회 및 RDS 저장
+            return saveQueryResultsToRds(whereClause, queryExecution, IngestProgressListener.NONE);
+
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof BusinessException businessException) {
+                log.error("비즈니스 로직 오류: {}", businessException.getMessage());
+                throw businessException;
+            }
+            log.error("S3 → Athena → RDS 파이프라인 실행 중 오류 발생", e);
+            throw new BusinessException(PotholeErrorCode.DATA_PROCESSING_FAILED);
+        } catch (BusinessException e) {
+            log.error("비즈니스 로직 오류: {}", e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("S3 → Athena → RDS 파이프라인 실행 중 오류 발생", e);
+            throw new BusinessException(PotholeErrorCode.DATA_PROCESSING_FAILED);
+        }
+    }
+
+    // 조건에 대한 Athena 쿼리 실행
+    // 같은 조건의 적재가 중간에 실패했다면 새로 스캔하지 않고 그때의 쿼리 결과를 이어서 사용
+    public CompletableFuture<QueryExecution> startOrResumeQueryAsync(String whereClause) {
+        Optional<IngestionCheckpoint> resumable = checkpointService.findResumable(whereClause);
+        if (resumable.isEmpty()) {
+            return athenaQueryService.executeSelectWithConditionsAsync(whereClause);
+        }
+
+        String queryExecutionId = resumable.get().getQueryExecutionId();
+        log.info("중단된 적재의 Athena 결과 재사용 - ID: {}, 커밋된 행: {}건",
+                queryExecutionId, resumable.get().getCommittedRows());
+        return athenaQueryService.getQueryExecutionAsync(queryExecutionId)
+                .exceptionallyCompose(throwable -> {
+                    log.warn("이전 Athena 결과를 사용할 수 없어 쿼리를 새로 실행 - ID: {}", queryExecutionId);
+                    return athenaQueryService.executeSelectWithConditionsAsync(whereClause);
+                });
+    }
 
-            // 2. Athena 쿼리 결과 조회
-            var queryResults = athenaQueryService.getQueryResults(queryExecutionId);
-            log.info("Athena에서 {} 건의 데이터 조회 완료", queryResults.size());
+    // 완료된 Athena 쿼리 결과 → RDS 저장 (청크마다 커밋하고 진행 상황을 listener 에 전달)
+    // 같은 쿼리 결과로 중단된 체크포인트가 있으면 이미 커밋된 행은 건너뜀
+    // 같은 조건의 저장이 이미 실행 중이면 INGESTION_ALREADY_RUNNING
+    public DataProcessingResponseDto saveQueryResultsToRds(String whereClause, QueryExecution queryExecution,
+                                                           IngestProgressListener listener) {
+        String leaseKey = checkpointLeaseKey(IngestionCheckpointService.jobKey(whereClause));
+        if (!runningJobKeys.add(leaseKey)) {
+            log.warn("같은 조건의 적재가 이 인스턴스에서 실행 중 - {}", leaseKey);
+            throw new BusinessException(PotholeErrorCode.INGESTION_ALREADY_RUNNING);
+        }
+        try {
+            if (!leaseService.tryAcquire(leaseKey)) {
+                log.warn("같은 조건의 적재가 다른 인스턴스에서 실행 중 - {}", leaseKey);
+                throw new BusinessException(PotholeErrorCode.INGESTION_ALREADY_RUNNING);
+            }
+            try {
+                return saveWithCheckpoint(whereClause, queryExecution, listener);
+            } finally {
+                leaseService.release(leaseKey);
+            }
+        } finally {
+            runningJobKeys.remove(leaseKey);
+        }
+    }
 
-            if (queryResults.isEmpty()) {
+    static String checkpointLeaseKey(String jobKey) {
+        return "checkpoint:" + jobKey;
+    }
+
+    private DataProcessingResponseDto saveWithCheckpoint(String whereClause, QueryExecution queryExecution,
+                                                         IngestProgressListener listener) {
+        String queryExecutionId = queryExecution.queryExecutionId();
+        Long dataScannedBytes = queryExecution.statistics() != null
+                ? queryExecution.statistics().dataScannedInBytes()
+                : null;
+        int selectedColumnCount = RawPotholeColumn.values().length;
+
+        IngestionCheckpoint checkpoint = checkpointService.start(whereClause, queryExecutionId);
+        String jobKey = checkpoint.getJobKey();
+
+        try {
+            // Athena 쿼리 결과를 페이지 단위로 읽으면서 청크별로 RDS에 저장 (이전 실행의 집계부터 누적)
+            SaveResultDto saveResult = new SaveResultDto(checkpoint.getSavedCount(),
+                    checkpoint.getDuplicateCount(), checkpoint.getErrorCount());
+            DuplicateKeyFilter duplicateKeyFilter = potholeService.newDuplicateKeyFilter();
+            long fetchedCount = athenaQueryService.streamQueryResults(queryExecutionId, chunkSize,
+                    checkpoint.getCommittedRows(), batch -> {
+                        SaveResultDto chunkResult = transactionTemplate.execute(status -> {
+                            SaveResultDto result = potholeService.saveQueryResults(queryExecutionId, batch, duplicateKeyFilter);
+                            checkpointService.recordChunk(jobKey, batch.size(), result);
+                            return result;
+                        });
+                        saveResult.add(chunkResult);
+                        listener.onChunkSaved(batch.size(), chunkResult);
+                    });
+            log.info("Athena에서 {} 건의 데이터 조회 및 저장 완료 - 성공: {}건, 중복 스킵: {}건, 실패: {}건",
+                    fetchedCount, saveResult.getSavedCount(), saveResult.getDuplicateCount(), saveResult.getErrorCount());
+
+            if (fetchedCount == 0) {
+                checkpointService.complete(jobKey);
                 log.warn("해당 기간에 데이터가 없습니다.");
                 log.info("S3 → Athena → RDS 파이프라인 완료: 처리된 데이터 0건 (해당 기간 데이터 없음)");
-                return DataProcessingResponseDto.noData(queryExecutionId);
+                return DataProcessingResponseDto.noData(queryExecutionId, dataScannedBytes, selectedColumnCount);
             }
 
-            // 3. RDS에 데이터 저장
-            potholeService.saveQueryResults(queryExecutionId, queryResults);
-            log.info("RDS에 {} 건의 데이터 저장 완료", queryResults.size());
+            // 청크는 모두 커밋되었지만 모든 행이 개별 저장에 실패한 경우 (데이터 자체의 문제라 다시 실행해도 같은 결과)
+            if (saveResult.getSavedCount() == 0 && saveResult.getDuplicateCount() == 0) {
+                throw new BusinessException(PotholeErrorCode.ALL_ROWS_SAVE_FAILED);
+            }
+            checkpointService.complete(jobKey);
 
-            // 4. 저장 결과 확인
+            // 저장 결과 확인
             long totalCount = potholeService.getTotalPotholeCount();
 
-            log.info("S3 → Athena → RDS 파이프라인 완료 - 쿼리 ID: {}, 처리된 데이터: {}건, 전체 데이터: {}건",
-                    queryExecutionId, queryResults.size(), totalCount);
+            log.info("S3 → Athena → RDS 파이프라인 완료 - 쿼리 ID: {}, 처리된 데이터: {}건, 전체 데이터: {}건, 스캔: {} bytes ({}개 컬럼)",
+                    queryExecutionId, fetchedCount, totalCount, dataScannedBytes, selectedColumnCount);
             
-            return DataProcessingResponseDto.success(queryExecutionId, queryResults.size(), totalCount);
+            return DataProcessingResponseDto.success(queryExecutionId, (int) fetchedCount, totalCount,
+                    dataScannedBytes, selectedColumnCount);
 
         } catch (BusinessException e) {
+            checkpointService.fail(jobKey, e.getMessage());
             log.error("비즈니스 로직 오류: {}", e.getMessage());
             throw e;
         } catch (Exception e) {
-            log.error("S3 → Athena → RDS 파이프라인 실행 중 오류 발생", e);
+            checkpointService.fail(jobKey, e.getMessage());
+            log.error("Athena 결과 → RDS 저장 중 오류 발생 - 쿼리 ID: {}", queryExecutionId, e);
             throw new BusinessException(PotholeErrorCode.DATA_PROCESSING_FAILED);
         }
     }
-}
\ No newline at end of file
+}
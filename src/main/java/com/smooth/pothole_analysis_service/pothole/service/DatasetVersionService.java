@@ -0,0 +1,47 @@
+package com.smooth.pothole_analysis_service.pothole.service;
+
+import com.smooth.pothole_analysis_service.pothole.dto.DatasetWatermark;
+import com.smooth.pothole_analysis_service.pothole.repository.DatasetVersionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+// 포트홀 데이터셋 버전 서비스
+// 데이터를 바꾸는 쓰기 트랜잭션 안에서 bump() 로 버전을 올리고, 읽기 쪽은 버전이 같으면 이전 응답을 재사용
+// 버전은 DB 한 행에 두므로 여러 인스턴스가 같은 값을 보고, 쓰기가 롤백되면 버전도 그대로 유지됨
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DatasetVersionService {
+
+    static final String POTHOLE_DATA = "pothole_data";
+
+    private final DatasetVersionRepository datasetVersionRepository;
+
+    // 현재 버전 (아직 쓰기가 없었으면 0)
+    public long currentVersion() {
+        return datasetVersionRepository.findVersion(POTHOLE_DATA).orElse(0L);
+    }
+
+    // 조건부 GET 용 워터마크 (마지막 행 id, 버전, 마지막 변경 시각)
+    public DatasetWatermark currentWatermark() {
+        return datasetVersionRepository.findWatermark(POTHOLE_DATA);
+    }
+
+    // 버전 증가 - 커밋 직전까지 행 잠금을 잡으므로 쓰기 트랜잭션의 마지막에 호출
+    public void bump() {
+        LocalDateTime now = LocalDateTime.now();
+        if (datasetVersionRepository.increment(POTHOLE_DATA, now)) {
+            return;
+        }
+        if (datasetVersionRepository.insert(POTHOLE_DATA, now)) {
+            log.debug("데이터셋 버전 행 생성: {}", POTHOLE_DATA);
+            return;
+        }
+        // 다른 트랜잭션이 먼저 행을 만든 경우
+        datasetVersionRepository.increment(POTHOLE_DATA, now);
+    }
+}
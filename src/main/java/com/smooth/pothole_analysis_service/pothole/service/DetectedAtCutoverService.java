@@ -0,0 +1,56 @@
+package com.smooth.pothole_analysis_service.pothole.service;
+
+import com.smooth.pothole_analysis_service.pothole.dto.PotholeRecordBatch;
+import com.smooth.pothole_analysis_service.pothole.entity.DetectedAtCutover;
+import com.smooth.pothole_analysis_service.pothole.repository.DetectedAtCutoverRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+
+// detected_at 을 날짜만 저장하던 기간의 감지 시각 보정
+// 마이그레이션 전 행은 감지 날짜의 0시로 변환되었으므로, 같은 기간을 다시 적재할 때 감지 시각을 그대로 저장하면
+// 유니크 키와 중복 필터가 기존 행과 맞지 않아 모두 새 행으로 저장됨
+// 마이그레이션이 기록한 마지막 날짜(date_only_through)까지의 감지는 0시로 맞춰 기존 행과 같은 키로 저장
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DetectedAtCutoverService {
+
+    private final DetectedAtCutoverRepository cutoverRepository;
+
+    // 날짜만 저장하던 마지막 날짜 (마이그레이션 전 데이터가 없었으면 null)
+    public LocalDate dateOnlyThrough() {
+        return cutoverRepository.findById(DetectedAtCutover.ID)
+                .map(DetectedAtCutover::getDateOnlyThrough)
+                .orElse(null);
+    }
+
+    // 배치에서 날짜만 저장하던 기간의 감지 시각을 0시로 맞추고, 맞춘 행 수를 반환
+    public int alignLegacyDates(PotholeRecordBatch batch) {
+        LocalDate dateOnlyThrough = dateOnlyThrough();
+        if (dateOnlyThrough == null) {
+            return 0;
+        }
+
+        long cutoverExclusive = PotholeRecordBatch.toEpochMicros(dateOnlyThrough.plusDays(1).atStartOfDay());
+        int aligned = 0;
+        for (int row = 0; row < batch.size(); row++) {
+            if (!batch.hasDetectedAt(row)) {
+                continue;
+            }
+            long detectedAt = batch.getDetectedAtMicros(row);
+            if (detectedAt < cutoverExclusive) {
+                long startOfDay = Math.floorDiv(detectedAt, PotholeRecordBatch.MICROS_PER_DAY) * PotholeRecordBatch.MICROS_PER_DAY;
+                batch.setDetectedAtMicros(row, startOfDay);
+                aligned++;
+            }
+        }
+        if (aligned > 0) {
+            log.debug("날짜만 저장하던 기간({} 까지)의 감지 {}건을 0시로 맞춤", dateOnlyThrough, aligned);
+        }
+        return aligned;
+    }
+}
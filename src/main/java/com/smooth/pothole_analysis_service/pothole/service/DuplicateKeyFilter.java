@@ -0,0 +1,183 @@
+package com.smooth.pothole_analysis_service.pothole.service;
+
+import com.smooth.pothole_analysis_service.global.util.LongHashSet;
+import com.smooth.pothole_analysis_service.pothole.dto.PotholeRecordBatch;
+import com.smooth.pothole_analysis_service.pothole.repository.PotholeBulkRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+// 적재 1회 동안 사용하는 중복 데이터 사전 필터
+// 처리 대상 detected_at 날짜(하루 범위)에 이미 저장된 유니크 키를 64비트 지문으로 메모리에 올려두고,
+// 지문이 없어 확실히 새로운 행은 DB 키 조회 없이 INSERT 하고, 지문이 일치한 행만 중복 후보로 DB 에서 확인하게 함
+// (지문 충돌이나 다른 인스턴스의 롤백된 적재로 생긴 오래된 지문 때문에 새 행을 중복으로 버리지 않도록)
+// 이번 적재에서 저장한 행은 INSERT 가 성공하고 청크 트랜잭션이 커밋된 뒤에만 지문에 등록
+// (실패하거나 롤백된 행을 중복 후보로 기억하지 않도록), 청크 안에서 반복된 행은 앞서 나온 행과 값을 직접 비교해 판별
+// 한 적재 작업 안에서 순차적으로만 사용 (스레드 안전하지 않음)
+
+@Slf4j
+public class DuplicateKeyFilter {
+
+    private final PotholeBulkRepository bulkRepository;
+    private final LongHashSet fingerprints = new LongHashSet(16_384);
+    private final LongHashSet loadedDays = new LongHashSet();
+
+    // 현재 청크에서 지문별로 처음 나온 행 (청크 안 중복 판별용)
+    private final Map<Long, Integer> chunkFirstRows = new HashMap<>();
+
+    // 저장을 확인했지만 아직 커밋되지 않은 행의 지문
+    private long[] insertedFingerprints = new long[1024];
+    private int insertedCount;
+
+    DuplicateKeyFilter(PotholeBulkRepository bulkRepository) {
+        this.bulkRepository = bulkRepository;
+    }
+
+    // 청크 시작 - 청크 안 중복 판별을 초기화하고, 아직 불러오지 않은 날짜의 기존 유니크 키를 한 번에 적재
+    public void preload(PotholeRecordBatch batch) {
+        chunkFirstRows.clear();
+
+        Set<LocalDate> missingDates = new HashSet<>();
+        for (int row = 0; row < batch.size(); row++) {
+            if (!batch.hasDetectedAt(row)) {
+                continue;
+            }
+            long epochDay = Math.floorDiv(batch.getDetectedAtMicros(row), PotholeRecordBatch.MICROS_PER_DAY);
+            if (!loadedDays.contains(epochDay)) {
+                missingDates.add(LocalDate.ofEpochDay(epochDay));
+            }
+        }
+
+        if (missingDates.isEmpty()) {
+            return;
+        }
+
+        int before = fingerprints.size();
+        bulkRepository.forEachUniqueKey(missingDates, (carId, locationX, locationY, detectedAt, impactForce) ->
+                fingerprints.add(fingerprint(carId, locationX, locationY,
+                        PotholeRecordBatch.toEpochMicros(detectedAt), impactForce)));
+        for (LocalDate date : missingDates) {
+            loadedDays.add(date.toEpochDay());
+        }
+
+        log.debug("기존 유니크 키 적재 - 날짜: {}, {}건 (누적 {}건)",
+                missingDates, fingerprints.size() - before, fingerprints.size());
+    }
+
+    // 현재 청크에서 유니크 키가 같은 행이 앞서 나왔으면 true (지문이 같아도 값이 다르면 false)
+    // 유니크 키에 null 이 있으면 DB 유니크 제약도 중복으로 보지 않으므로 항상 false
+    public boolean isRepeatedInChunk(PotholeRecordBatch batch, int row) {
+        if (!hasUniqueKey(batch, row)) {
+            return false;
+        }
+
+        Integer firstRow = chunkFirstRows.putIfAbsent(fingerprint(batch, row), row);
+        return firstRow != null && sameUniqueKey(batch, firstRow, row);
+    }
+
+    // 저장된(커밋된) 키 중 지문이 같은 키가 있으면 true - 실제로 저장되어 있는지는 DB 에서 확인해야 함
+    // false 이면 불러온 날짜에 저장된 적 없는 확실히 새로운 행
+    public boolean mayExist(PotholeRecordBatch batch, int row) {
+        return hasUniqueKey(batch, row) && fingerprints.contains(fingerprint(batch, row));
+    }
+
+    // INSERT 문이 성공한 행 (새로 저장되었거나 이미 있어서 건너뛴 행) - 트랜잭션이 커밋되면 저장된 키로 등록
+    // 트랜잭션 밖에서 호출되면 바로 등록
+    public void markInserted(PotholeRecordBatch batch, int row) {
+        if (!hasUniqueKey(batch, row)) {
+            return;
+        }
+
+        long fingerprint = fingerprint(batch, row);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            fingerprints.add(fingerprint);
+            return;
+        }
+
+        if (insertedCount == 0) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        for (int i = 0; i < insertedCount; i++) {
+                            fingerprints.add(insertedFingerprints[i]);
+                        }
+                    }
+                    insertedCount = 0;
+                }
+            });
+        }
+        if (insertedCount == insertedFingerprints.length) {
+            insertedFingerprints = Arrays.copyOf(insertedFingerprints, insertedCount * 2);
+        }
+        insertedFingerprints[insertedCount++] = fingerprint;
+    }
+
+    private static boolean hasUniqueKey(PotholeRecordBatch batch, int row) {
+        return batch.getCarId(row) != null && batch.hasDetectedAt(row)
+                && batch.hasNumber(PotholeRecordBatch.LOCATION_X, row)
+                && batch.hasNumber(PotholeRecordBatch.LOCATION_Y, row)
+                && batch.hasNumber(PotholeRecordBatch.IMPACT_FORCE, row);
+    }
+
+    private static boolean sameUniqueKey(PotholeRecordBatch batch, int first, int second) {
+        return Objects.equals(batch.getCarId(first), batch.getCarId(second))
+                && batch.getDetectedAtMicros(first) == batch.getDetectedAtMicros(second)
+                && batch.getNumber(PotholeRecordBatch.LOCATION_X, first) == batch.getNumber(PotholeRecordBatch.LOCATION_X, second)
+                && batch.getNumber(PotholeRecordBatch.LOCATION_Y, first) == batch.getNumber(PotholeRecordBatch.LOCATION_Y, second)
+                && batch.getNumber(PotholeRecordBatch.IMPACT_FORCE, first) == batch.getNumber(PotholeRecordBatch.IMPACT_FORCE, second);
+    }
+
+    private static long fingerprint(PotholeRecordBatch batch, int row) {
+        return fingerprint(batch.getCarId(row),
+                batch.getNumber(PotholeRecordBatch.LOCATION_X, row),
+                batch.getNumber(PotholeRecordBatch.LOCATION_Y, row),
+                batch.getDetectedAtMicros(row),
+                batch.getNumber(PotholeRecordBatch.IMPACT_FORCE, row));
+    }
+
+    // detectedAtMicros 는 DATETIME(6) 과 같은 마이크로초 단위 epoch 값
+    static long fingerprint(String carId, double locationX, double locationY, long detectedAtMicros, double impactForce) {
+        long hash = 0xCBF29CE484222325L;
+        hash = mix(hash, hashString(carId));
+        hash = mix(hash, doubleBits(locationX));
+        hash = mix(hash, doubleBits(locationY));
+        hash = mix(hash, detectedAtMicros);
+        hash = mix(hash, doubleBits(impactForce));
+        return hash;
+    }
+
+    // FNV-1a 64비트 문자열 해시
+    private static long hashString(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    // DB는 0.0 과 -0.0 을 같은 값으로 비교하므로 지문도 동일하게 맞춤
+    private static long doubleBits(double value) {
+        return value == 0.0 ? 0L : Double.doubleToLongBits(value);
+    }
+
+    // murmur3 fmix64 로 필드 해시를 누적
+    private static long mix(long hash, long value) {
+        long h = hash ^ value;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
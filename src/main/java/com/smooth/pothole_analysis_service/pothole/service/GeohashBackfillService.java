@@ -0,0 +1,59 @@
+package com.smooth.pothole_analysis_service.pothole.service;
+
+import com.smooth.pothole_analysis_service.global.util.GeoHash;
+import com.smooth.pothole_analysis_service.pothole.entity.PotholeData;
+import com.smooth.pothole_analysis_service.pothole.repository.PotholeAreaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+// geohash 컬럼 추가 전에 저장된 포트홀 데이터의 지오해시를 기동 후 채우고, 지도 타일 집계 칸을 한 번 다시 집계
+// 여러 인스턴스가 동시에 실행해도 같은 값을 쓰므로 안전하며, 채울 행이 없으면 조회 한 번으로 끝남
+// 지오해시 채우기가 중단되면 재집계(와 완료 표시)를 건너뛰어 다음 기동 때 다시 시도
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GeohashBackfillService {
+
+    private final PotholeAreaRepository areaRepository;
+    private final PotholeTileService tileService;
+
+    @Value("${pothole.area.geohash-backfill-batch-size:1000}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillMissingGeohash() {
+        long updated = 0;
+        try {
+            List<PotholeData> rows;
+            while (!(rows = areaRepository.findMissingGeohash(batchSize)).isEmpty()) {
+                for (PotholeData row : rows) {
+                    row.setGeohash(GeoHash.encode(row.getLatitude(), row.getLongitude(), GeoHash.STORED_PRECISION));
+                }
+                areaRepository.updateGeohash(rows);
+                updated += rows.size();
+            }
+        } catch (DataAccessException e) {
+            log.error("기존 포트홀 데이터 지오해시 채우기 실패 - {}건 처리 후 중단", updated, e);
+            return;
+        }
+
+        if (updated > 0) {
+            log.info("기존 포트홀 데이터 지오해시 채우기 완료 - {}건", updated);
+        }
+
+        // 지도 타일 집계 도입 전 데이터는 지오해시가 채워진 뒤에 집계
+        try {
+            tileService.rebuildOnce();
+        } catch (DataAccessException e) {
+            log.error("지도 타일 집계 칸 재생성 실패 - 다음 기동 때 다시 시도", e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.smooth.pothole_analysis_service.pothole.service;
+
+import com.smooth.pothole_analysis_service.pothole.dto.SaveResultDto;
+
+// 적재 파이프라인 진행 상황 콜백 (청크 저장이 끝날 때마다 호출)
+@FunctionalInterface
+public interface IngestProgressListener {
+
+    IngestProgressListener NONE = (fetchedRows, chunkResult) -> { };
+
+    void onChunkSaved(int fetchedRows, SaveResultDto chunkResult);
+}
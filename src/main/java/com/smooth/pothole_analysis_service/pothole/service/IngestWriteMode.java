@@ -0,0 +1,11 @@
+package com.smooth.pothole_analysis_service.pothole.service;
+
+// Athena 결과를 RDS에 저장하는 방식
+public enum IngestWriteMode {
+
+    // 행마다 중복 COUNT 조회 후 JPA save (기존 방식)
+    ROW,
+
+    // 다중 행 INSERT 로 묶어서 저장 (유니크 제약이 같은 행은 ON DUPLICATE KEY UPDATE 로 건너뜀)
+    BULK
+}
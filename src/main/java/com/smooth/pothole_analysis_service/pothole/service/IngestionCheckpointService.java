@@ -0,0 +1,108 @@
+package com.smooth.pothole_analysis_service.pothole.service;
+
+import com.smooth.pothole_analysis_service.pothole.dto.SaveResultDto;
+import com.smooth.pothole_analysis_service.pothole.entity.IngestionCheckpoint;
+import com.smooth.pothole_analysis_service.pothole.entity.IngestionCheckpointStatus;
+import com.smooth.pothole_analysis_service.pothole.repository.IngestionCheckpointRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+// 조회 조건별 적재 체크포인트 관리
+// 청크를 커밋할 때마다 같은 트랜잭션에서 진행 위치를 기록하므로,
+// 실패 후 같은 조건으로 다시 실행하면 이미 커밋된 행을 건너뛰고 이어서 저장
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IngestionCheckpointService {
+
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 1000;
+
+    private final IngestionCheckpointRepository checkpointRepository;
+
+    // 같은 쿼리 결과로 이어서 시도할 최대 횟수 (넘으면 쿼리부터 새로 실행)
+    @Value("${pothole.ingest.checkpoint.max-resume-attempts:3}")
+    private int maxResumeAttempts;
+
+    public static String jobKey(String whereClause) {
+        return AthenaQueryFingerprint.of(whereClause);
+    }
+
+    // 완료되지 않은 체크포인트가 있으면 반환 (재개할 쿼리 결과 확인용)
+    @Transactional(readOnly = true)
+    public Optional<IngestionCheckpoint> findResumable(String whereClause) {
+        return checkpointRepository.findById(jobKey(whereClause))
+                .filter(checkpoint -> checkpoint.getStatus() != IngestionCheckpointStatus.COMPLETED)
+                .filter(checkpoint -> checkpoint.getAttempts() < maxResumeAttempts);
+    }
+
+    // 적재 시작 - 같은 쿼리 결과의 미완료 체크포인트면 진행 위치를 유지하고, 아니면 처음부터 기록
+    @Transactional
+    public IngestionCheckpoint start(String whereClause, String queryExecutionId) {
+        String jobKey = jobKey(whereClause);
+        LocalDateTime now = LocalDateTime.now();
+
+        IngestionCheckpoint checkpoint = checkpointRepository.findById(jobKey)
+                .orElseGet(() -> IngestionCheckpoint.builder()
+                        .jobKey(jobKey)
+                        .build());
+
+        boolean resume = queryExecutionId.equals(checkpoint.getQueryExecutionId())
+                && checkpoint.getStatus() != IngestionCheckpointStatus.COMPLETED;
+
+        if (resume) {
+            checkpoint.setAttempts(checkpoint.getAttempts() + 1);
+            log.info("적재 체크포인트 재개 - 쿼리 ID: {}, 커밋된 행: {}건, 시도: {}회",
+                    queryExecutionId, checkpoint.getCommittedRows(), checkpoint.getAttempts());
+        } else {
+            checkpoint.setQueryExecutionId(queryExecutionId);
+            checkpoint.setCommittedRows(0);
+            checkpoint.setSavedCount(0);
+            checkpoint.setDuplicateCount(0);
+            checkpoint.setErrorCount(0);
+            checkpoint.setAttempts(1);
+            checkpoint.setStartedAt(now);
+        }
+
+        checkpoint.setWhereClause(whereClause);
+        checkpoint.setStatus(IngestionCheckpointStatus.RUNNING);
+        checkpoint.setErrorMessage(null);
+        checkpoint.setUpdatedAt(now);
+        return checkpointRepository.save(checkpoint);
+    }
+
+    // 청크 커밋 기록 - 청크 저장과 같은 트랜잭션 안에서만 호출
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordChunk(String jobKey, int rows, SaveResultDto chunkResult) {
+        checkpointRepository.advance(jobKey, rows, chunkResult.getSavedCount(),
+                chunkResult.getDuplicateCount(), chunkResult.getErrorCount(), LocalDateTime.now());
+    }
+
+    @Transactional
+    public void complete(String jobKey) {
+        checkpointRepository.findById(jobKey).ifPresent(checkpoint -> {
+            checkpoint.setStatus(IngestionCheckpointStatus.COMPLETED);
+            checkpoint.setUpdatedAt(LocalDateTime.now());
+        });
+    }
+
+    @Transactional
+    public void fail(String jobKey, String errorMessage) {
+        checkpointRepository.findById(jobKey).ifPresent(checkpoint -> {
+            checkpoint.setStatus(IngestionCheckpointStatus.FAILED);
+            checkpoint.setErrorMessage(errorMessage != null && errorMessage.length() > MAX_ERROR_MESSAGE_LENGTH
+                    ? errorMessage.substring(0, MAX_ERROR_MESSAGE_LENGTH)
+                    : errorMessage);
+            checkpoint.setUpdatedAt(LocalDateTime.now());
+            log.warn("적재 체크포인트 실패 기록 - 쿼리 ID: {}, 커밋된 행: {}건",
+                    checkpoint.getQueryExecutionId(), checkpoint.getCommittedRows());
+        });
+    }
+}
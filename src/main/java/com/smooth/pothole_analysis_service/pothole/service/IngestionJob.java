@@ -0,0 +1,62 @@
+package com.smooth.pothole_analysis_service.pothole.service;
+
+import com.smooth.pothole_analysis_service.pothole.dto.DataProcessingResponseDto;
+import com.smooth.pothole_analysis_service.pothole.dto.SaveResultDto;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 비동기 적재 작업 1건의 상태와 진행률 (메모리에만 보관)
+
+@Getter
+public class IngestionJob implements IngestProgressListener {
+
+    private final String jobId;
+    private final String whereClause;
+    private final LocalDateTime createdAt;
+
+    private final AtomicLong rowsFetched = new AtomicLong();
+    private final AtomicLong rowsPersisted = new AtomicLong();
+    private final AtomicLong duplicateRows = new AtomicLong();
+    private final AtomicLong errorRows = new AtomicLong();
+
+    private volatile IngestionJobState state = IngestionJobState.QUEUED;
+    private volatile String queryExecutionId;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile DataProcessingResponseDto result;
+    private volatile String errorMessage;
+
+    public IngestionJob(String jobId, String whereClause) {
+        this.jobId = jobId;
+        this.whereClause = whereClause;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    @Override
+    public void onChunkSaved(int fetchedRows, SaveResultDto chunkResult) {
+        rowsFetched.addAndGet(fetchedRows);
+        rowsPersisted.addAndGet(chunkResult.getSavedCount());
+        duplicateRows.addAndGet(chunkResult.getDuplicateCount());
+        errorRows.addAndGet(chunkResult.getErrorCount());
+    }
+
+    void markRunning(String queryExecutionId) {
+        this.queryExecutionId = queryExecutionId;
+        this.startedAt = LocalDateTime.now();
+        this.state = IngestionJobState.RUNNING;
+    }
+
+    void markSucceeded(DataProcessingResponseDto result) {
+        this.result = result;
+        this.finishedAt = LocalDateTime.now();
+        this.state = IngestionJobState.SUCCEEDED;
+    }
+
+    void markFailed(String errorMessage) {
+        this.errorMessage = errorMessage;
+        this.finishedAt = LocalDateTime.now();
+        this.state = IngestionJobState.FAILED;
+    }
+}
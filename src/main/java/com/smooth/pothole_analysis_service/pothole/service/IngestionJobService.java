@@ -0,0 +1,128 @@
+package com.smooth.pothole_analysis_service.pothole.service;
+
+import com.smooth.pothole_analysis_service.global.config.AsyncConfig;
+import com.smooth.pothole_analysis_service.global.exception.BusinessException;
+import com.smooth.pothole_analysis_service.pothole.exception.PotholeErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 비동기 적재 작업 관리 서비스
+// Athena 쿼리 대기는 비동기 클라이언트에서 처리하고, 결과 저장만 제한된 적재 실행기에서 수행
+
+@Slf4j
+@Service
+public class IngestionJobService {
+
+    private final DataProcessingService dataProcessingService;
+    private final ThreadPoolTaskExecutor ingestionExecutor;
+
+    private final Map<String, IngestionJob> jobs = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlightJobs = new AtomicInteger();
+
+    // 정규화한 조회 조건별 진행 중인 작업
+    private final Map<String, IngestionJob> activeJobs = new ConcurrentHashMap<>();
+
+    // 동시에 진행할 수 있는 작업 수 (Athena 대기 중인 작업 포함)
+    // 적재 실행기의 pool-size + queue-capacity 이하로 두어 실행기에서 거절되는 작업이 없도록 함
+    @Value("${pothole.ingest.jobs.max-in-flight:10}")
+    private int maxInFlightJobs;
+
+    // 완료된 작업 상태를 보관하는 시간
+    @Value("${pothole.ingest.jobs.retention-minutes:60}")
+    private long retentionMinutes;
+
+    public IngestionJobService(DataProcessingService dataProcessingService,
+                               @Qualifier(AsyncConfig.INGESTION_EXECUTOR) ThreadPoolTaskExecutor ingestionExecutor) {
+        this.dataProcessingService = dataProcessingService;
+        this.ingestionExecutor = ingestionExecutor;
+    }
+
+    // 적재 작업 등록 후 즉시 반환
+    // 같은 조건의 작업이 이미 진행 중이면 새 작업을 만들지 않고 진행 중인 작업을 반환
+    public IngestionJob submit(String whereClause) {
+        String conditionKey = AthenaQueryFingerprint.normalize(whereClause);
+        IngestionJob job;
+
+        synchronized (activeJobs) {
+            IngestionJob active = activeJobs.get(conditionKey);
+            if (active != null && !active.getState().isFinished()) {
+                log.info("동일 조건의 적재 작업이 진행 중 - jobId: {}, 조건: {}", active.getJobId(), whereClause);
+                return active;
+            }
+
+            if (inFlightJobs.incrementAndGet() > maxInFlightJobs) {
+                inFlightJobs.decrementAndGet();
+                log.warn("적재 작업 대기열 초과 - 진행 중인 작업: {}건", maxInFlightJobs);
+                throw new BusinessException(PotholeErrorCode.INGESTION_QUEUE_FULL);
+            }
+
+            job = new IngestionJob(UUID.randomUUID().toString(), whereClause);
+            jobs.put(job.getJobId(), job);
+            activeJobs.put(conditionKey, job);
+        }
+        log.info("적재 작업 등록 - jobId: {}, 조건: {}", job.getJobId(), whereClause);
+
+        try {
+            dataProcessingService.startOrResumeQueryAsync(whereClause)
+                    .thenApplyAsync(queryExecution -> {
+                        job.markRunning(queryExecution.queryExecutionId());
+                        return dataProcessingService.saveQueryResultsToRds(whereClause, queryExecution, job);
+                    }, ingestionExecutor)
+                    .whenComplete((result, throwable) -> {
+                        inFlightJobs.decrementAndGet();
+                        activeJobs.remove(conditionKey, job);
+                        if (throwable == null) {
+                            job.markSucceeded(result);
+                            log.info("적재 작업 완료 - jobId: {}, 처리: {}건", job.getJobId(), result.getProcessedDataCount());
+                        } else {
+                            Throwable cause = unwrap(throwable);
+                            job.markFailed(cause.getMessage());
+                            log.error("적재 작업 실패 - jobId: {}, 사유: {}", job.getJobId(), cause.getMessage());
+                        }
+                    });
+        } catch (RuntimeException e) {
+            inFlightJobs.decrementAndGet();
+            activeJobs.remove(conditionKey, job);
+            job.markFailed(e.getMessage());
+            throw e;
+        }
+
+        return job;
+    }
+
+    public IngestionJob getJob(String jobId) {
+        IngestionJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new BusinessException(PotholeErrorCode.INGESTION_JOB_NOT_FOUND);
+        }
+        return job;
+    }
+
+    // 보관 기간이 지난 완료 작업 정리
+    @Scheduled(fixedDelayString = "${pothole.ingest.jobs.eviction-interval-ms:60000}")
+    public void evictFinishedJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(retentionMinutes);
+        jobs.values().removeIf(job -> job.getState().isFinished()
+                && job.getFinishedAt() != null
+                && job.getFinishedAt().isBefore(threshold));
+    }
+
+    private Throwable unwrap(Throwable throwable) {
+        Throwable cause = throwable;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
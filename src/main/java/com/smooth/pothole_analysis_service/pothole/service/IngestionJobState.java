@@ -0,0 +1,19 @@
+package com.smooth.pothole_analysis_service.pothole.service;
+
+// 비동기 적재 작업 상태
+public enum IngestionJobState {
+
+    // 접수됨 (Athena 쿼리 실행 대기 또는 실행 중)
+    QUEUED,
+
+    // Athena 결과를 RDS에 저장하는 중
+    RUNNING,
+
+    SUCCEEDED,
+
+    FAILED;
+
+    public boolean isFinished() {
+        return this == SUCCEEDED || this == FAILED;
+    }
+}
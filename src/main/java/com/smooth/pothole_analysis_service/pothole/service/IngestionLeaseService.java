@@ -0,0 +1,149 @@
+package com.smooth.pothole_analysis_service.pothole.service;
+
+import com.smooth.pothole_analysis_service.pothole.entity.IngestionLease;
+import com.smooth.pothole_analysis_service.pothole.repository.IngestionLeaseRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// DB 기반 적재 구간 임대 서비스 - 여러 인스턴스가 같은 구간을 중복 처리하지 않도록 구간 단위로 임대
+// 임대는 만료 시각까지 유효하며, 처리 중인 임대는 주기적으로 연장하고 인스턴스가 죽으면 만료 후 다른 인스턴스가 가져감
+// 만료 판정에 각 인스턴스의 시계를 사용하므로 인스턴스 간 시계 오차는 임대 시간보다 충분히 작아야 함
+// 연장은 전용 스레드에서 실행 - 스프링 기본 스케줄러는 스레드가 하나라 증분 적재/백필 작업이 오래 걸리면 연장이 밀려 임대가 만료됨
+
+@Slf4j
+@Service
+public class IngestionLeaseService {
+
+    private final IngestionLeaseRepository leaseRepository;
+
+    // 이 인스턴스의 임대 소유자 ID
+    @Getter
+    private final String instanceId;
+
+    private final Duration leaseDuration;
+    private final long renewIntervalMs;
+    private final ScheduledExecutorService renewalScheduler;
+
+    // 이 인스턴스가 가진 미완료 임대
+    private final Set<String> heldLeases = ConcurrentHashMap.newKeySet();
+
+    public IngestionLeaseService(IngestionLeaseRepository leaseRepository,
+                                 @Value("${pothole.lease.instance-id:}") String instanceId,
+                                 @Value("${pothole.lease.ttl-seconds:300}") long ttlSeconds,
+                                 @Value("${pothole.lease.renew-interval-ms:60000}") long renewIntervalMs) {
+        this.leaseRepository = leaseRepository;
+        this.instanceId = instanceId == null || instanceId.isBlank() ? defaultInstanceId() : instanceId;
+        this.leaseDuration = Duration.ofSeconds(ttlSeconds);
+        this.renewIntervalMs = renewIntervalMs;
+        this.renewalScheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("lease-renew").daemon().factory());
+        log.info("적재 임대 소유자 ID: {}, 임대 시간: {}초", this.instanceId, ttlSeconds);
+    }
+
+    @PostConstruct
+    public void startRenewal() {
+        renewalScheduler.scheduleWithFixedDelay(this::renewSafely, renewIntervalMs, renewIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renewalScheduler.shutdownNow();
+    }
+
+    public boolean tryAcquire(String leaseKey) {
+        return tryAcquire(leaseKey, null);
+    }
+
+    // 임대 획득 시도 - 처음 만드는 임대면 sliceEnd 를 함께 기록 (이미 있는 임대의 구간 끝은 바꾸지 않음)
+    public boolean tryAcquire(String leaseKey, LocalDateTime sliceEnd) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plus(leaseDuration);
+
+        boolean acquired = leaseRepository.claimExisting(leaseKey, instanceId, now, expiresAt)
+                || leaseRepository.insert(leaseKey, instanceId, sliceEnd, now, expiresAt);
+        if (acquired) {
+            heldLeases.add(leaseKey);
+            log.debug("임대 획득 - {}", leaseKey);
+        }
+        return acquired;
+    }
+
+    public Optional<IngestionLease> find(String leaseKey) {
+        return leaseRepository.findById(leaseKey);
+    }
+
+    // 이 인스턴스가 지금 가져갈 수 있는 임대인지 여부
+    public boolean isClaimable(IngestionLease lease) {
+        return lease.getCompletedAt() == null
+                && (instanceId.equals(lease.getOwner()) || lease.getExpiresAt().isBefore(LocalDateTime.now()));
+    }
+
+    // 처리 완료 - 이후 누구도 다시 임대하지 않음
+    public void complete(String leaseKey) {
+        heldLeases.remove(leaseKey);
+        if (!leaseRepository.complete(leaseKey, instanceId, LocalDateTime.now())) {
+            log.warn("임대 완료 처리 실패 (다른 인스턴스가 가져감) - {}", leaseKey);
+        }
+    }
+
+    // 처리 실패 - 즉시 만료시켜 다른 인스턴스(또는 다음 실행)가 다시 처리할 수 있게 함
+    public void release(String leaseKey) {
+        heldLeases.remove(leaseKey);
+        leaseRepository.expire(leaseKey, instanceId, LocalDateTime.now());
+    }
+
+    // 완료된 구간 임대 정리
+    public int purgeCompleted(String leaseKeyPrefix, LocalDateTime sliceEndBefore) {
+        return leaseRepository.deleteCompleted(leaseKeyPrefix, sliceEndBefore);
+    }
+
+    // 처리 중인 임대 만료 시각 연장
+    public void renewHeldLeases() {
+        if (heldLeases.isEmpty()) {
+            return;
+        }
+
+        List<String> leaseKeys = List.copyOf(heldLeases);
+        LocalDateTime now = LocalDateTime.now();
+        int renewed = leaseRepository.renew(instanceId, leaseKeys, now, now.plus(leaseDuration));
+        if (renewed < leaseKeys.size()) {
+            log.warn("임대 연장 실패 {}건 - 만료 후 다른 인스턴스가 가져갔을 수 있음", leaseKeys.size() - renewed);
+        }
+    }
+
+    // 예외가 나면 이후 연장이 모두 취소되므로 기록만 하고 다음 주기에 다시 시도
+    private void renewSafely() {
+        try {
+            renewHeldLeases();
+        } catch (Exception e) {
+            log.error("임대 연장 중 오류 - 다음 주기에 다시 시도", e);
+        }
+    }
+
+    private static String defaultInstanceId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,48 @@
+package com.smooth.pothole_analysis_service.pothole.service;
+
+import com.smooth.pothole_analysis_service.pothole.entity.IngestionWatermark;
+import com.smooth.pothole_analysis_service.pothole.repository.IngestionWatermarkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+// 원천 테이블별 증분 적재 워터마크 관리
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IngestionWatermarkService {
+
+    private final IngestionWatermarkRepository watermarkRepository;
+
+    @Transactional(readOnly = true)
+    public Optional<LocalDateTime> getWatermark(String sourceTable) {
+        return watermarkRepository.findById(sourceTable)
+                .map(IngestionWatermark::getLastProcessedAt);
+    }
+
+    // 워터마크 전진 (뒤로 돌아가는 갱신은 무시)
+    @Transactional
+    public void advance(String sourceTable, LocalDateTime processedUntil) {
+        IngestionWatermark watermark = watermarkRepository.findById(sourceTable)
+                .orElseGet(() -> IngestionWatermark.builder()
+                        .sourceTable(sourceTable)
+                        .lastProcessedAt(processedUntil)
+                        .build());
+
+        if (watermark.getLastProcessedAt().isAfter(processedUntil)) {
+            log.warn("워터마크 역행 갱신 무시 - 테이블: {}, 현재: {}, 요청: {}",
+                    sourceTable, watermark.getLastProcessedAt(), processedUntil);
+            return;
+        }
+
+        watermark.setLastProcessedAt(processedUntil);
+        watermark.setUpdatedAt(LocalDateTime.now());
+        watermarkRepository.save(watermark);
+        log.debug("워터마크 갱신 - 테이블: {}, 위치: {}", sourceTable, processedUntil);
+    }
+}
@@ -0,0 +1,249 @@
+package com.smooth.pothole_analysis_service.pothole.service;
+
+import com.smooth.pothole_analysis_service.pothole.dto.PotholeRecordBatch;
+import com.smooth.pothole_analysis_service.pothole.entity.PotholeCluster;
+import com.smooth.pothole_analysis_service.pothole.repository.PotholeClusterRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+// 포트홀 군집화 서비스 - 새로 저장된 감지 데이터를 거리/기간 허용 범위 안의 기존 군집에 합치거나 새 군집을 만듦
+// 위도/경도를 허용 거리 크기의 격자로 나누고, 감지 위치의 주변 3x3 칸에 있는 군집만 비교하므로 행당 비용이 일정함
+// 동시에 실행되는 적재(백필 구간, 다른 인스턴스)가 같은 군집을 덮어쓰거나 같은 위치에 군집을 중복으로 만들지 않도록
+// 주변 칸을 쓰기 잠금으로 조회하고 적재 트랜잭션이 커밋될 때까지 유지
+// 잠금은 칸 번호 오름차순으로 잡아 교착 가능성을 줄이며, 교착이 생기면 해당 청크가 롤백되고 체크포인트에서 다시 시도
+
+@Slf4j
+@Service
+public class PotholeClusterService {
+
+    // 군집 조회 시 IN 절 하나에 담을 최대 격자 칸 수
+    private static final int CELL_QUERY_PARTITION_SIZE = 1_000;
+
+    private final PotholeClusterRepository clusterRepository;
+
+    @Value("${pothole.cluster.enabled:true}")
+    private boolean enabled;
+
+    // 같은 포트홀로 볼 최대 거리 (m) - 격자 한 칸의 크기로도 사용
+    private final double distanceToleranceMeters;
+
+    // 군집의 감지 기간에서 이만큼 벗어난 감지는 (보수 후 다시 생긴) 다른 포트홀로 봄
+    @Value("${pothole.cluster.time-tolerance-days:30}")
+    private long timeToleranceDays;
+
+    private final double metersPerLonDegree;
+    private final double metersPerLatDegree;
+
+    public PotholeClusterService(
+            PotholeClusterRepository clusterRepository,
+            @Value("${pothole.cluster.distance-tolerance-meters:10.0}") double distanceToleranceMeters,
+            @Value("${pothole.coordinate.meters-per-lon-degree:89000.0}") double metersPerLonDegree,
+            @Value("${pothole.coordinate.meters-per-lat-degree:111139.0}") double metersPerLatDegree) {
+        this.clusterRepository = clusterRepository;
+        this.distanceToleranceMeters = distanceToleranceMeters;
+        this.metersPerLonDegree = metersPerLonDegree;
+        this.metersPerLatDegree = metersPerLatDegree;
+    }
+
+    // 배치의 rows[0, count) 행(새로 저장된 감지)을 군집에 반영하고, 새로 만든 군집 수를 반환
+    // 위도/경도 변환이 끝난 배치여야 하며, 좌표가 없는 행은 건너뜀
+    // 중심이 옮겨 가는 칸도 감지 위치의 주변 칸 안이므로 잠금 범위에 포함됨
+    @Transactional
+    public int addDetections(PotholeRecordBatch batch, int[] rows, int count) {
+        if (!enabled || count == 0) {
+            return 0;
+        }
+
+        // 청크의 모든 감지 위치 주변 칸을 모아 군집을 한 번에 조회 (잠금 순서를 맞추기 위해 정렬)
+        Set<Long> searchKeys = new TreeSet<>();
+        for (int i = 0; i < count; i++) {
+            int row = rows[i];
+            if (hasLocation(batch, row)) {
+                addNeighborKeys(searchKeys, batch.getLongitude(row), batch.getLatitude(row));
+            }
+        }
+        if (searchKeys.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, List<PotholeCluster>> index = new HashMap<>();
+        for (PotholeCluster cluster : lockByCellKeys(searchKeys)) {
+            index.computeIfAbsent(cluster.getCellKey(), key -> new ArrayList<>()).add(cluster);
+        }
+
+        // 엔티티의 equals/hashCode 는 변경되는 필드를 포함하므로 객체 동일성으로 관리
+        Set<PotholeCluster> touched = Collections.newSetFromMap(new IdentityHashMap<>());
+        int created = 0;
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int i = 0; i < count; i++) {
+            int row = rows[i];
+            if (!hasLocation(batch, row)) {
+                continue;
+            }
+
+            double longitude = batch.getLongitude(row);
+            double latitude = batch.getLatitude(row);
+            LocalDateTime detectedAt = batch.getDetectedAt(row);
+
+            PotholeCluster cluster = findNearest(index, longitude, latitude, detectedAt);
+            if (cluster == null) {
+                cluster = newCluster(longitude, latitude);
+                index.computeIfAbsent(cluster.getCellKey(), key -> new ArrayList<>()).add(cluster);
+                created++;
+            }
+
+            long previousCellKey = cluster.getCellKey();
+            addHit(cluster, batch, row, longitude, latitude);
+            cluster.setUpdatedAt(now);
+            if (cluster.getCellKey() != previousCellKey) {
+                PotholeCluster moved = cluster;
+                index.get(previousCellKey).removeIf(candidate -> candidate == moved);
+                index.computeIfAbsent(cluster.getCellKey(), key -> new ArrayList<>()).add(cluster);
+            }
+            touched.add(cluster);
+        }
+
+        clusterRepository.saveAll(touched);
+        log.debug("포트홀 군집 반영 - 감지: {}건, 갱신된 군집: {}개, 새 군집: {}개", count, touched.size(), created);
+        return created;
+    }
+
+    // 주변 칸의 군집 중 허용 거리/기간 안에서 가장 가까운 군집
+    private PotholeCluster findNearest(Map<Long, List<PotholeCluster>> index,
+                                       double longitude, double latitude, LocalDateTime detectedAt) {
+        long cellX = cellX(longitude);
+        long cellY = cellY(latitude);
+        double bestDistance = distanceToleranceMeters * distanceToleranceMeters;
+        PotholeCluster best = null;
+
+        for (long dx = -1; dx <= 1; dx++) {
+            for (long dy = -1; dy <= 1; dy++) {
+                List<PotholeCluster> clusters = index.get(cellKey(cellX + dx, cellY + dy));
+                if (clusters == null) {
+                    continue;
+                }
+                for (PotholeCluster cluster : clusters) {
+                    double distance = squaredDistanceMeters(cluster, longitude, latitude);
+                    if (distance <= bestDistance && withinTimeTolerance(cluster, detectedAt)) {
+                        bestDistance = distance;
+                        best = cluster;
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    private PotholeCluster newCluster(double longitude, double latitude) {
+        return PotholeCluster.builder()
+                .cellKey(cellKey(cellX(longitude), cellY(latitude)))
+                .longitude(longitude)
+                .latitude(latitude)
+                .hitCount(0)
+                .impactForceSum(0.0)
+                .impactForceCount(0)
+                .build();
+    }
+
+    // 감지 1건을 군집에 합침 - 중심 좌표는 누적 평균, 심각도는 최대/평균 충격량과 최대 진동으로 집계
+    private void addHit(PotholeCluster cluster, PotholeRecordBatch batch, int row, double longitude, double latitude) {
+        int hitCount = cluster.getHitCount() + 1;
+        cluster.setHitCount(hitCount);
+        cluster.setLongitude(cluster.getLongitude() + (longitude - cluster.getLongitude()) / hitCount);
+        cluster.setLatitude(cluster.getLatitude() + (latitude - cluster.getLatitude()) / hitCount);
+        cluster.setCellKey(cellKey(cellX(cluster.getLongitude()), cellY(cluster.getLatitude())));
+
+        if (batch.hasNumber(PotholeRecordBatch.IMPACT_FORCE, row)) {
+            double impactForce = batch.getNumber(PotholeRecordBatch.IMPACT_FORCE, row);
+            cluster.setImpactForceSum(cluster.getImpactForceSum() + impactForce);
+            cluster.setImpactForceCount(cluster.getImpactForceCount() + 1);
+            cluster.setMaxImpactForce(max(cluster.getMaxImpactForce(), impactForce));
+        }
+        if (batch.hasNumber(PotholeRecordBatch.Z_AXIS_VIBRATION, row)) {
+            cluster.setMaxZAxisVibration(max(cluster.getMaxZAxisVibration(),
+                    batch.getNumber(PotholeRecordBatch.Z_AXIS_VIBRATION, row)));
+        }
+
+        LocalDateTime detectedAt = batch.getDetectedAt(row);
+        if (detectedAt != null) {
+            if (cluster.getFirstDetectedAt() == null || detectedAt.isBefore(cluster.getFirstDetectedAt())) {
+                cluster.setFirstDetectedAt(detectedAt);
+            }
+            if (cluster.getLastDetectedAt() == null || detectedAt.isAfter(cluster.getLastDetectedAt())) {
+                cluster.setLastDetectedAt(detectedAt);
+            }
+        }
+    }
+
+    // 시간 허용 범위는 날짜 단위로 비교
+    private boolean withinTimeTolerance(PotholeCluster cluster, LocalDateTime detectedAt) {
+        if (detectedAt == null || cluster.getFirstDetectedAt() == null || cluster.getLastDetectedAt() == null) {
+            return true;
+        }
+        LocalDate detectedDate = detectedAt.toLocalDate();
+        return !detectedDate.isBefore(cluster.getFirstDetectedAt().toLocalDate().minusDays(timeToleranceDays))
+                && !detectedDate.isAfter(cluster.getLastDetectedAt().toLocalDate().plusDays(timeToleranceDays));
+    }
+
+    private double squaredDistanceMeters(PotholeCluster cluster, double longitude, double latitude) {
+        double dx = (cluster.getLongitude() - longitude) * metersPerLonDegree;
+        double dy = (cluster.getLatitude() - latitude) * metersPerLatDegree;
+        return dx * dx + dy * dy;
+    }
+
+    private List<PotholeCluster> lockByCellKeys(Set<Long> cellKeys) {
+        List<Long> keys = new ArrayList<>(cellKeys);
+        List<PotholeCluster> clusters = new ArrayList<>();
+        for (int from = 0; from < keys.size(); from += CELL_QUERY_PARTITION_SIZE) {
+            int to = Math.min(from + CELL_QUERY_PARTITION_SIZE, keys.size());
+            clusters.addAll(clusterRepository.findByCellKeyInForUpdate(keys.subList(from, to)));
+        }
+        return clusters;
+    }
+
+    private void addNeighborKeys(Set<Long> keys, double longitude, double latitude) {
+        long cellX = cellX(longitude);
+        long cellY = cellY(latitude);
+        for (long dx = -1; dx <= 1; dx++) {
+            for (long dy = -1; dy <= 1; dy++) {
+                keys.add(cellKey(cellX + dx, cellY + dy));
+            }
+        }
+    }
+
+    private long cellX(double longitude) {
+        return (long) Math.floor(longitude * metersPerLonDegree / distanceToleranceMeters);
+    }
+
+    private long cellY(double latitude) {
+        return (long) Math.floor(latitude * metersPerLatDegree / distanceToleranceMeters);
+    }
+
+    // 격자 좌표 (x, y) 를 하나의 long 으로 합침 (상위 32비트 x, 하위 32비트 y)
+    private static long cellKey(long cellX, long cellY) {
+        return (cellX << 32) | (cellY & 0xFFFFFFFFL);
+    }
+
+    // 좌표가 없어 (0, 0) 으로 변환된 행은 군집에서 제외
+    private static boolean hasLocation(PotholeRecordBatch batch, int row) {
+        return batch.hasNumber(PotholeRecordBatch.LOCATION_X, row) && batch.hasNumber(PotholeRecordBatch.LOCATION_Y, row);
+    }
+
+    private static Double max(Double current, double value) {
+        return current == null || value > current ? value : current;
+    }
+}
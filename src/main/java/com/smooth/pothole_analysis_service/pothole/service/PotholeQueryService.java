@@ -1,10 +1,22 @@
 package com.smooth.pothole_analysis_service.pothole.service;
 
-import com.smooth.pothole_analysis_service.pothole.client.UserServiceClient;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.smooth.pothole_analysis_service.global.exception.BusinessException;
+import com.smooth.pothole_analysis_service.global.util.GeoHash;
+import com.smooth.pothole_analysis_service.pothole.dto.PotholeClusterResponseDto;
+import com.smooth.pothole_analysis_service.pothole.dto.PotholeCursor;
+import com.smooth.pothole_analysis_service.pothole.dto.PotholeCursorPageResponseDto;
 import com.smooth.pothole_analysis_service.pothole.dto.PotholeQueryResponseDto;
-import com.smooth.pothole_analysis_service.pothole.dto.UserResponseDto;
+import com.smooth.pothole_analysis_service.pothole.entity.PotholeCluster;
 import com.smooth.pothole_analysis_service.pothole.entity.PotholeData;
+import com.smooth.pothole_analysis_service.pothole.exception.PotholeErrorCode;
+import com.smooth.pothole_analysis_service.pothole.repository.PotholeAreaRepository;
+import com.smooth.pothole_analysis_service.pothole.repository.PotholeClusterRepository;
 import com.smooth.pothole_analysis_service.pothole.repository.PotholeDataRepository;
+import com.smooth.pothole_analysis_service.pothole.repository.PotholeStreamRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -12,9 +24,14 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -22,30 +39,50 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class PotholeQueryService {
     
+    // 영역 조회 시 사용할 지오해시 접두사 최대 개수 (인덱스 범위 조회 횟수)
+    private static final int MAX_GEOHASH_CELLS = 16;
+    // 사각 범위 조회에 허용하는 최소 접두사 자릿수 - 4자리 칸(약 39km x 19.5km) 16개 이하로 덮이는 영역까지만 조회
+    // 최근 감지 순 정렬은 접두사 범위 안의 행을 모두 읽은 뒤 정렬하므로, 영역을 제한해 읽는 행 수의 상한을 둠
+    // (반경 조회의 반경 상한 50km 로 생기는 사각 범위와 비슷한 넓이)
+    private static final int MIN_BOX_PREFIX_LENGTH = 4;
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+    private static final double APPROXIMATE_RADIUS_MARGIN = 1.01;
+    // NDJSON 스트리밍 시 응답을 내보내는 간격 (건)
+    private static final int STREAM_FLUSH_INTERVAL = 500;
+
     private final PotholeDataRepository potholeDataRepository;
-    private final UserServiceClient userServiceClient;
+    private final PotholeClusterRepository potholeClusterRepository;
+    private final PotholeAreaRepository potholeAreaRepository;
+    private final PotholeStreamRepository potholeStreamRepository;
+    private final ObjectMapper objectMapper;
+    private final UserLookupService userLookupService;
+    private final PotholeResponseCache responseCache;
     
+    // 페이지 조회 - 데이터셋 버전이 바뀌지 않았으면 캐시된 응답 반환
     public PotholeQueryResponseDto getPotholeData(int page, LocalDate start, LocalDate end, Boolean confirmed) {
+        return responseCache.get(PotholeResponseCache.Key.of("data", start, end, confirmed, page),
+            () -> loadPotholeData(page, start, end, confirmed),
+            response -> response.getContent().size());
+    }
+
+    private PotholeQueryResponseDto loadPotholeData(int page, LocalDate start, LocalDate end, Boolean confirmed) {
         Pageable pageable = PageRequest.of(page, 10); // 페이지당 10개
         
-        String startStr = start.format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-        String endStr = end.format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+        LocalDateTime from = start.atStartOfDay();
+        LocalDateTime to = endExclusive(end);
         
         Page<PotholeData> potholeDataPage;
         
         if (confirmed != null) {
             // confirmed 상태에 따른 필터링 (true 또는 false 상태)
             potholeDataPage = potholeDataRepository.findByDetectedAtBetweenAndStatus(
-                startStr, endStr, confirmed, pageable);
+                from, to, confirmed, pageable);
         } else {
             potholeDataPage = potholeDataRepository.findByDetectedAtBetween(
-                startStr, endStr, pageable);
+                from, to, pageable);
         }
         
-        List<PotholeQueryResponseDto.PotholeContentDto> content = potholeDataPage.getContent()
-            .stream()
-            .map(this::convertToPotholeContentDto)
-            .collect(Collectors.toList());
+        List<PotholeQueryResponseDto.PotholeContentDto> content = toContentDtos(potholeDataPage.getContent());
         
         return PotholeQueryResponseDto.builder()
             .content(content)
@@ -54,30 +91,261 @@ public class PotholeQueryService {
             .build();
     }
 
+    // 커서 기반 페이지 조회 - 이전 페이지 마지막 행 다음부터 size 건 (cursor 가 null 이면 첫 페이지)
+    // 전체 건수는 includeTotal 일 때만 COUNT 쿼리로 계산
+    public PotholeCursorPageResponseDto getPotholeDataByCursor(String cursor, int size, LocalDate start, LocalDate end,
+                                                               Boolean confirmed, boolean includeTotal) {
+        return responseCache.get(
+            PotholeResponseCache.Key.of("cursor", cursor, size, start, end, confirmed, includeTotal),
+            () -> loadPotholeDataByCursor(cursor, size, start, end, confirmed, includeTotal),
+            response -> response.getContent().size());
+    }
+
+    private PotholeCursorPageResponseDto loadPotholeDataByCursor(String cursor, int size, LocalDate start, LocalDate end,
+                                                                 Boolean confirmed, boolean includeTotal) {
+        LocalDateTime from = start.atStartOfDay();
+        LocalDateTime to = endExclusive(end);
+
+        // 첫 페이지는 종료일 다음 날 0시에서 시작 (그 시각의 행은 기간 끝 조건으로 제외되어 COUNT 와 같은 범위)
+        PotholeCursor position = cursor != null ? PotholeCursor.decode(cursor) : new PotholeCursor(to, Long.MAX_VALUE);
+        if (position.detectedAt().isAfter(to)) {
+            position = new PotholeCursor(to, Long.MAX_VALUE);
+        }
+
+        // 다음 페이지 유무 확인을 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<PotholeData> rows = confirmed != null
+            ? potholeDataRepository.findPageAfterWithStatus(from, to, position.detectedAt(), position.id(), confirmed, limit)
+            : potholeDataRepository.findPageAfter(from, to, position.detectedAt(), position.id(), limit);
+
+        boolean hasNext = rows.size() > size;
+        List<PotholeData> page = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            PotholeData last = page.get(page.size() - 1);
+            nextCursor = new PotholeCursor(last.getDetectedAt(), last.getId()).encode();
+        }
+
+        Long totalCount = null;
+        if (includeTotal) {
+            totalCount = confirmed != null
+                ? potholeDataRepository.countByDetectedAtBetweenAndStatus(from, to, confirmed)
+                : potholeDataRepository.countByDetectedAtBetween(from, to);
+        }
+
+        return PotholeCursorPageResponseDto.builder()
+            .content(toContentDtos(page))
+            .nextCursor(nextCursor)
+            .hasNext(hasNext)
+            .totalCount(totalCount)
+            .build();
+    }
+
+    // 전체 조회 - 건수 제한이 없으므로 응답 캐시에 보관하지 않음 (많은 건수는 NDJSON 스트리밍 조회 사용)
     public List<PotholeQueryResponseDto.PotholeContentDto> getAllPotholeData(LocalDate start, LocalDate end, Boolean confirmed) {
-        String startStr = start.format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-        String endStr = end.format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+        LocalDateTime from = start.atStartOfDay();
+        LocalDateTime to = endExclusive(end);
 
         Pageable unpaged = Pageable.unpaged();
         Page<PotholeData> potholeDataPage;
 
         if (confirmed != null) {
             potholeDataPage = potholeDataRepository.findByDetectedAtBetweenAndStatus(
-                    startStr, endStr, confirmed, unpaged);
+                    from, to, confirmed, unpaged);
         } else {
             potholeDataPage = potholeDataRepository.findByDetectedAtBetween(
-                    startStr, endStr, unpaged);
+                    from, to, unpaged);
         }
 
-        return potholeDataPage.getContent()
-                .stream()
-                .map(this::convertToPotholeContentDto)
-                .collect(Collectors.toList());
+        return toContentDtos(potholeDataPage.getContent());
     }
     
-    private PotholeQueryResponseDto.PotholeContentDto convertToPotholeContentDto(PotholeData potholeData) {
-        // 사용자 정보 조회
-        PotholeQueryResponseDto.UserDto userDto = getUserInfo(potholeData.getCarId());
+    // 날짜 범위의 포트홀 데이터를 NDJSON(한 줄에 한 건)으로 out 에 쓰고 쓴 건수를 반환
+    // 커서로 읽은 행을 일정 건수씩 모아 사용자 정보를 일괄 조회한 뒤 바로 쓰므로 전체 건수와 관계없이 메모리 사용량이 일정함
+    public long streamAllPotholeData(LocalDate start, LocalDate end, Boolean confirmed, OutputStream out) {
+        LocalDateTime from = start.atStartOfDay();
+        LocalDateTime to = endExclusive(end);
+
+        ObjectWriter writer = objectMapper.writerFor(PotholeQueryResponseDto.PotholeContentDto.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        List<PotholeData> buffer = new ArrayList<>(STREAM_FLUSH_INTERVAL);
+        long[] written = {0};
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            // 응답 스트림은 서블릿 컨테이너가 닫음
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            potholeStreamRepository.forEachByDetectedAtBetween(from, to, confirmed, potholeData -> {
+                buffer.add(potholeData);
+                // 첫 행은 바로 보내고, 이후에는 일정 건수마다 모아서 내보냄
+                if (written[0] == 0 || buffer.size() == STREAM_FLUSH_INTERVAL) {
+                    written[0] += writeNdjson(writer, generator, buffer);
+                }
+            });
+            written[0] += writeNdjson(writer, generator, buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return written[0];
+    }
+
+    // 버퍼의 행을 NDJSON 으로 쓰고 내보낸 뒤 버퍼를 비움
+    private int writeNdjson(ObjectWriter writer, JsonGenerator generator, List<PotholeData> buffer) {
+        if (buffer.isEmpty()) {
+            return 0;
+        }
+        try {
+            for (PotholeQueryResponseDto.PotholeContentDto content : toContentDtos(buffer)) {
+                writer.writeValue(generator, content);
+                generator.writeRaw('\n');
+            }
+            generator.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        int count = buffer.size();
+        buffer.clear();
+        return count;
+    }
+
+    // 위도/경도 범위 안의 포트홀 데이터를 최근 감지 순으로 최대 limit 건 조회
+    public List<PotholeQueryResponseDto.PotholeContentDto> getPotholeDataInBox(
+            double minLat, double minLon, double maxLat, double maxLon,
+            LocalDate start, LocalDate end, Boolean confirmed, int limit) {
+        return toContentDtos(findInBox(minLat, minLon, maxLat, maxLon, start, end, confirmed, limit));
+    }
+
+    // 중심점에서 반경(m) 안의 포트홀 데이터 조회
+    // 반경을 덮는 사각 범위와 평면 근사 거리로 DB 에서 먼저 거르고, 실제 거리(하버사인)로 다시 걸러냄
+    // 근사 거리에서 통과했지만 실제 거리에서 빠지는 행이 있으면 limit 건이 찰 때까지 다음 행을 이어서 조회
+    public List<PotholeQueryResponseDto.PotholeContentDto> getPotholeDataInRadius(
+            double latitude, double longitude, double radiusMeters,
+            LocalDate start, LocalDate end, Boolean confirmed, int limit) {
+        // 하버사인과 같은 구 기준의 위도 차이, 평면 근사와 구면 거리의 차이로 경계의 행이 빠지지 않도록 1% 넓힘
+        double latDelta = Math.toDegrees(radiusMeters / EARTH_RADIUS_METERS) * APPROXIMATE_RADIUS_MARGIN;
+        // 경도 1도의 거리는 적도에서 먼 쪽 가장자리에서 가장 짧으므로, 그 위도 기준으로 범위를 잡아야 반경을 모두 덮음
+        double lonScale = Math.cos(Math.toRadians(Math.min(90.0, Math.abs(latitude) + latDelta)));
+        double lonDelta = lonScale > latDelta / 180.0 ? latDelta / lonScale : 180.0;
+
+        double minLat = latitude - latDelta;
+        double minLon = longitude - lonDelta;
+        double maxLat = latitude + latDelta;
+        double maxLon = longitude + lonDelta;
+        List<String> prefixes = GeoHash.coveringPrefixes(minLat, minLon, maxLat, maxLon, MAX_GEOHASH_CELLS);
+        LocalDateTime from = start.atStartOfDay();
+        LocalDateTime to = endExclusive(end);
+
+        List<PotholeData> inRadius = new ArrayList<>();
+        PotholeData after = null;
+        while (inRadius.size() < limit) {
+            List<PotholeData> candidates = potholeAreaRepository.findNearCenter(prefixes, minLat, minLon, maxLat, maxLon,
+                    latitude, longitude, lonScale, latDelta, from, to, confirmed, after, limit);
+            for (PotholeData data : candidates) {
+                if (inRadius.size() < limit
+                        && distanceMeters(latitude, longitude, data.getLatitude(), data.getLongitude()) <= radiusMeters) {
+                    inRadius.add(data);
+                }
+            }
+            if (candidates.size() < limit) {
+                break;
+            }
+            after = candidates.get(candidates.size() - 1);
+        }
+        return toContentDtos(inRadius);
+    }
+
+    private List<PotholeData> findInBox(double minLat, double minLon, double maxLat, double maxLon,
+                                        LocalDate start, LocalDate end, Boolean confirmed, int limit) {
+        LocalDateTime from = start.atStartOfDay();
+        LocalDateTime to = endExclusive(end);
+        List<String> prefixes = GeoHash.coveringPrefixes(minLat, minLon, maxLat, maxLon, MAX_GEOHASH_CELLS);
+        if (prefixes.get(0).length() < MIN_BOX_PREFIX_LENGTH) {
+            log.warn("사각 범위 조회 영역이 너무 넓음 - 접두사 {}자리", prefixes.get(0).length());
+            throw new BusinessException(PotholeErrorCode.INVALID_REQUEST_PARAMETER);
+        }
+
+        return potholeAreaRepository.findInBox(prefixes, minLat, minLon, maxLat, maxLon,
+                from, to, confirmed, limit);
+    }
+
+    // 두 지점 사이의 거리 (m, 하버사인)
+    private static double distanceMeters(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+            + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.sqrt(a));
+    }
+
+    // 기간 내 감지된 포트홀 군집을 감지 횟수가 많은 순으로 조회
+    public PotholeClusterResponseDto getClusters(int page, LocalDate start, LocalDate end, int minHits) {
+        return responseCache.get(PotholeResponseCache.Key.of("clusters", page, start, end, minHits),
+            () -> loadClusters(page, start, end, minHits),
+            response -> response.getContent().size());
+    }
+
+    private PotholeClusterResponseDto loadClusters(int page, LocalDate start, LocalDate end, int minHits) {
+        Pageable pageable = PageRequest.of(page, 10); // 페이지당 10개
+
+        LocalDateTime from = start.atStartOfDay();
+        LocalDateTime to = endExclusive(end);
+
+        Page<PotholeCluster> clusterPage =
+                potholeClusterRepository.findActiveBetween(from, to, minHits, pageable);
+
+        List<PotholeClusterResponseDto.ClusterContentDto> content = clusterPage.getContent()
+            .stream()
+            .map(this::convertToClusterContentDto)
+            .collect(Collectors.toList());
+
+        return PotholeClusterResponseDto.builder()
+            .content(content)
+            .page(page)
+            .totalPages(clusterPage.getTotalPages())
+            .build();
+    }
+
+    private PotholeClusterResponseDto.ClusterContentDto convertToClusterContentDto(PotholeCluster cluster) {
+        Double avgImpact = cluster.getImpactForceCount() != null && cluster.getImpactForceCount() > 0
+            ? cluster.getImpactForceSum() / cluster.getImpactForceCount()
+            : null;
+
+        return PotholeClusterResponseDto.ClusterContentDto.builder()
+            .clusterId("c-" + cluster.getId())
+            .location(PotholeQueryResponseDto.LocationDto.builder()
+                .latitude(cluster.getLatitude())
+                .longitude(cluster.getLongitude())
+                .build())
+            .hitCount(cluster.getHitCount())
+            .maxImpact(cluster.getMaxImpactForce())
+            .avgImpact(avgImpact)
+            .maxShake(cluster.getMaxZAxisVibration())
+            .firstDetectedAt(cluster.getFirstDetectedAt())
+            .lastDetectedAt(cluster.getLastDetectedAt())
+            .build();
+    }
+
+    // 종료일 당일을 모두 포함하도록 다음 날 0시를 배타적 상한으로 사용
+    private static LocalDateTime endExclusive(LocalDate end) {
+        return end.plusDays(1).atStartOfDay();
+    }
+
+    // 목록에 나온 사용자를 한 번에 조회한 뒤 DTO 로 변환
+    private List<PotholeQueryResponseDto.PotholeContentDto> toContentDtos(List<PotholeData> rows) {
+        Map<String, PotholeQueryResponseDto.UserDto> users = userLookupService.findUsers(
+            rows.stream().map(PotholeData::getCarId).collect(Collectors.toList()));
+
+        return rows.stream()
+            .map(potholeData -> convertToPotholeContentDto(potholeData, users))
+            .collect(Collectors.toList());
+    }
+
+    private PotholeQueryResponseDto.PotholeContentDto convertToPotholeContentDto(
+            PotholeData potholeData, Map<String, PotholeQueryResponseDto.UserDto> users) {
+        // 사용자 정보
+        PotholeQueryResponseDto.UserDto userDto = potholeData.getCarId() != null
+            ? users.get(potholeData.getCarId())
+            : UserLookupService.unknownUser(null);
         
         Double latitude = potholeData.getLatitude();
         Double longitude = potholeData.getLongitude();
@@ -100,20 +368,4 @@ public class PotholeQueryService {
             .confirmed(Boolean.TRUE.equals(potholeData.getStatus()))
             .build();
     }
-    
-    private PotholeQueryResponseDto.UserDto getUserInfo(String carId) {
-        try {
-            UserResponseDto userResponse = userServiceClient.getUserById(Long.valueOf(carId));
-            return PotholeQueryResponseDto.UserDto.builder()
-                .userId(userResponse.getUserId())
-                .userName(userResponse.getUserName())
-                .build();
-        } catch (Exception e) {
-            log.warn("사용자 정보 조회 실패: carId={}", carId, e);
-            return PotholeQueryResponseDto.UserDto.builder()
-                .userId(carId)
-                .userName("알 수 없음")
-                .build();
-        }
-    }
 }
@@ -0,0 +1,73 @@
+package com.smooth.pothole_analysis_service.pothole.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+// 포트홀 조회 응답 캐시
+// 크기가 정해진 응답(페이지, 커서 페이지, 타일, 군집)만 (조회 종류, 요청 값) 별로 데이터셋 버전과 함께 보관하고, 버전이 같을 때만 재사용
+// 기간 전체 목록(/data/all)처럼 크기 제한이 없는 응답은 보관하지 않음 (스트리밍 조회의 메모리 사용량 제한을 되돌리지 않도록)
+// 적재/상태 변경으로 버전이 오르면 다음 조회에서 다시 계산 (버전 확인은 DB 한 행 조회)
+// 응답에 포함된 사용자 이름 변경은 버전에 반영되지 않으므로 ttl 이 지나면 다시 계산
+// 크기는 캐시된 응답의 행 수 합계로 제한
+
+@Slf4j
+@Component
+public class PotholeResponseCache {
+
+    private final DatasetVersionService datasetVersionService;
+    private final boolean enabled;
+    private final Cache<Key, Entry> cache;
+
+    public PotholeResponseCache(DatasetVersionService datasetVersionService,
+                                @Value("${pothole.response-cache.enabled:true}") boolean enabled,
+                                @Value("${pothole.response-cache.max-rows:100000}") long maxRows,
+                                @Value("${pothole.response-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.datasetVersionService = datasetVersionService;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxRows)
+                .weigher((Key key, Entry entry) -> entry.rows())
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    // 현재 데이터셋 버전으로 캐시된 응답이 있으면 반환하고, 없으면 loader 로 계산해 보관
+    // 버전을 먼저 읽고 조회하므로, 조회 도중 커밋된 쓰기는 다음 요청에서 다시 계산됨
+    @SuppressWarnings("unchecked")
+    public <T> T get(Key key, Supplier<T> loader, ToIntFunction<T> rowCounter) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        long version = datasetVersionService.currentVersion();
+        Entry entry = cache.getIfPresent(key);
+        if (entry != null && entry.version() == version) {
+            return (T) entry.response();
+        }
+
+        T response = loader.get();
+        cache.put(key, new Entry(version, response, Math.max(1, rowCounter.applyAsInt(response))));
+        log.debug("조회 응답 캐시 갱신 - {}, 데이터셋 버전: {}", key, version);
+        return response;
+    }
+
+    // 캐시 키 - 조회 종류와 응답을 정하는 요청 값 (null 포함)
+    public record Key(String query, List<Object> parameters) {
+
+        public static Key of(String query, Object... parameters) {
+            return new Key(query, Arrays.asList(parameters));
+        }
+    }
+
+    private record Entry(long version, Object response, int rows) {
+    }
+}
@@ -0,0 +1,225 @@
+package com.smooth.pothole_analysis_service.pothole.service;
+
+import com.smooth.pothole_analysis_service.global.util.DecimalParser;
+import com.smooth.pothole_analysis_service.pothole.dto.PotholeRecordBatch;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.athena.model.Datum;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
+import java.util.List;
+
+// Athena 결과 행 → PotholeRecordBatch 디코더
+// 헤더의 컬럼 위치를 처음 한 번만 RawPotholeColumn 으로 매핑해 두고, 행마다 컬럼 타입에 따라 변환해 바로 배치에 기록
+// 숫자는 DecimalParser 로 trim/박싱 없이 변환하고, 타임스탬프는 고정 자리 형식을 직접 읽어 epoch 마이크로초로 기록
+// 결과 집합 하나에 하나씩 사용 (스레드 안전하지 않음)
+
+@Slf4j
+public class PotholeRowDecoder {
+
+    // 타임스탬프 값 없음 (정상 값으로는 나올 수 없는 값)
+    static final long NO_TIMESTAMP = Long.MIN_VALUE;
+
+    // 고정 자리 형식에 맞지 않는 타임스탬프용 (날짜와 시간 사이는 공백 또는 'T', 시간이 없으면 자정으로 처리)
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = new DateTimeFormatterBuilder()
+            .append(DateTimeFormatter.ISO_LOCAL_DATE)
+            .optionalStart()
+            .optionalStart().appendLiteral(' ').optionalEnd()
+            .optionalStart().appendLiteral('T').optionalEnd()
+            .append(DateTimeFormatter.ISO_LOCAL_TIME)
+            .optionalEnd()
+            .parseDefaulting(ChronoField.HOUR_OF_DAY, 0)
+            .parseDefaulting(ChronoField.MINUTE_OF_HOUR, 0)
+            .parseDefaulting(ChronoField.SECOND_OF_MINUTE, 0)
+            .toFormatter();
+
+    // 결과 필드 위치별 적재 컬럼 (적재에 쓰지 않는 필드는 null)
+    private final RawPotholeColumn[] fieldColumns;
+
+    private PotholeRowDecoder(RawPotholeColumn[] fieldColumns) {
+        this.fieldColumns = fieldColumns;
+    }
+
+    // 결과 헤더(컬럼명 목록)로 필드 위치 매핑 생성
+    public static PotholeRowDecoder forHeader(List<String> columnNames) {
+        RawPotholeColumn[] fieldColumns = new RawPotholeColumn[columnNames.size()];
+        for (int i = 0; i < fieldColumns.length; i++) {
+            fieldColumns[i] = RawPotholeColumn.fromColumnName(columnNames.get(i));
+        }
+        return new PotholeRowDecoder(fieldColumns);
+    }
+
+    // CSV 레코드 한 행을 배치에 추가
+    public void decode(List<String> fields, PotholeRecordBatch batch) {
+        int row = batch.addRow();
+        int count = Math.min(fields.size(), fieldColumns.length);
+        for (int i = 0; i < count; i++) {
+            RawPotholeColumn column = fieldColumns[i];
+            if (column != null) {
+                decodeField(batch, row, column, fields.get(i));
+            }
+        }
+    }
+
+    // GetQueryResults 결과 한 행을 배치에 추가
+    public void decodeData(List<Datum> data, PotholeRecordBatch batch) {
+        int row = batch.addRow();
+        int count = Math.min(data.size(), fieldColumns.length);
+        for (int i = 0; i < count; i++) {
+            RawPotholeColumn column = fieldColumns[i];
+            if (column != null) {
+                decodeField(batch, row, column, data.get(i).varCharValue());
+            }
+        }
+    }
+
+    // 컬럼 타입으로 해석 방식을 정하고, 컬럼에 지정된 배치 컬럼에 기록
+    private void decodeField(PotholeRecordBatch batch, int row, RawPotholeColumn column, String value) {
+        switch (column.getType()) {
+            case STRING -> batch.setString(column.getBatchColumn(), row, value);
+            case DOUBLE -> setNumber(batch, column.getBatchColumn(), row, value);
+            case TIMESTAMP -> setDetectedAt(batch, row, value);
+        }
+    }
+
+    // 숫자 문자열 변환 (NULL/빈 값/변환 실패는 값 없음으로 둠)
+    private void setNumber(PotholeRecordBatch batch, int column, int row, String value) {
+        if (value == null || DecimalParser.isBlank(value)) {
+            return;
+        }
+        try {
+            batch.setNumber(column, row, DecimalParser.parseDouble(value));
+        } catch (NumberFormatException e) {
+            log.warn("숫자 변환 실패: {}", value);
+        }
+    }
+
+    private void setDetectedAt(PotholeRecordBatch batch, int row, String value) {
+        long epochMicros = parseTimestampMicros(value);
+        if (epochMicros != NO_TIMESTAMP) {
+            batch.setDetectedAtMicros(row, epochMicros);
+        }
+    }
+
+    // 타임스탬프 문자열을 epoch 마이크로초로 변환 ("2025-08-27 13:35:52.123", "2025-08-27T13:35:52", "2025-08-27")
+    // DB 컬럼(DATETIME(6))과 같은 마이크로초 단위로 자르고, 예상치 못한 형식은 값 없음(NO_TIMESTAMP)으로 둠
+    // Athena 가 돌려주는 고정 자리 형식은 객체 생성 없이 숫자를 직접 읽고, 그 밖의 형식만 DateTimeFormatter 로 변환
+    static long parseTimestampMicros(String timestamp) {
+        if (timestamp == null || DecimalParser.isBlank(timestamp)) {
+            return NO_TIMESTAMP;
+        }
+
+        int start = 0;
+        int end = timestamp.length();
+        while (timestamp.charAt(start) <= ' ') {
+            start++;
+        }
+        while (timestamp.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        long epochMicros = parseFixedLayout(timestamp, start, end);
+        if (epochMicros != NO_TIMESTAMP) {
+            return epochMicros;
+        }
+
+        try {
+            return PotholeRecordBatch.toEpochMicros(LocalDateTime.parse(timestamp.substring(start, end), TIMESTAMP_FORMAT));
+        } catch (DateTimeParseException e) {
+            log.warn("예상치 못한 타임스탬프 형식: {}", timestamp);
+            return NO_TIMESTAMP;
+        }
+    }
+
+    // "yyyy-MM-dd" 또는 "yyyy-MM-dd[ T]HH:mm:ss[.f{1,9}]" 형식이면 epoch 마이크로초, 아니면 NO_TIMESTAMP
+    private static long parseFixedLayout(String s, int start, int end) {
+        int length = end - start;
+        if (length != 10 && length < 19) {
+            return NO_TIMESTAMP;
+        }
+
+        int year = digits(s, start, 4);
+        int month = digits(s, start + 5, 2);
+        int day = digits(s, start + 8, 2);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month)
+                || s.charAt(start + 4) != '-' || s.charAt(start + 7) != '-') {
+            return NO_TIMESTAMP;
+        }
+
+        long epochMicros = daysFromCivil(year, month, day) * PotholeRecordBatch.MICROS_PER_DAY;
+        if (length == 10) {
+            return epochMicros;
+        }
+
+        char separator = s.charAt(start + 10);
+        int hour = digits(s, start + 11, 2);
+        int minute = digits(s, start + 14, 2);
+        int second = digits(s, start + 17, 2);
+        if ((separator != ' ' && separator != 'T') || s.charAt(start + 13) != ':' || s.charAt(start + 16) != ':'
+                || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return NO_TIMESTAMP;
+        }
+        epochMicros += (hour * 3_600L + minute * 60L + second) * PotholeRecordBatch.MICROS_PER_SECOND;
+        if (length == 19) {
+            return epochMicros;
+        }
+
+        // 소수 초는 1~9자리, 마이크로초 아래 자리는 버림
+        int fractionDigits = length - 20;
+        if (s.charAt(start + 19) != '.' || fractionDigits < 1 || fractionDigits > 9) {
+            return NO_TIMESTAMP;
+        }
+        int micros = 0;
+        for (int i = 0; i < 6; i++) {
+            int digit = 0;
+            if (i < fractionDigits) {
+                digit = s.charAt(start + 20 + i) - '0';
+                if (digit < 0 || digit > 9) {
+                    return NO_TIMESTAMP;
+                }
+            }
+            micros = micros * 10 + digit;
+        }
+        for (int i = 6; i < fractionDigits; i++) {
+            char c = s.charAt(start + 20 + i);
+            if (c < '0' || c > '9') {
+                return NO_TIMESTAMP;
+            }
+        }
+        return epochMicros + micros;
+    }
+
+    // 고정 자리 10진수, 숫자가 아닌 문자가 있으면 -1
+    private static int digits(String s, int from, int count) {
+        int value = 0;
+        for (int i = from; i < from + count; i++) {
+            int digit = s.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static int daysInMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    // 그레고리력 날짜 → 1970-01-01 기준 일 수 (LocalDate.toEpochDay 와 같은 값)
+    private static long daysFromCivil(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153L * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097 + dayOfEra - 719_468;
+    }
+}
@@ -1,16 +1,21 @@
 package com.smooth.pothole_analysis_service.pothole.service;
 
 import com.smooth.pothole_analysis_service.global.exception.BusinessException;
+import com.smooth.pothole_analysis_service.pothole.dto.PotholeRecordBatch;
+import com.smooth.pothole_analysis_service.pothole.dto.SaveResultDto;
 import com.smooth.pothole_analysis_service.pothole.entity.PotholeData;
 import com.smooth.pothole_analysis_service.pothole.exception.PotholeErrorCode;
+import com.smooth.pothole_analysis_service.pothole.repository.PotholeBulkRepository;
 import com.smooth.pothole_analysis_service.pothole.repository.PotholeDataRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Map;
+import java.util.Arrays;
+import java.util.Set;
 
 // RDS 데이터 저장 서비스 - Athena 쿼리 결과를 RDS에 저장하는 역할
 
@@ -20,81 +25,187 @@ import java.util.Map;
 public class PotholeService {
 
     private final PotholeDataRepository repository;
+    private final PotholeBulkRepository bulkRepository;
     private final CoordinateConversionService coordinateConversionService;
+    private final PotholeClusterService potholeClusterService;
+    private final PotholeTileService potholeTileService;
+    private final DatasetVersionService datasetVersionService;
+    private final DetectedAtCutoverService detectedAtCutoverService;
 
-    // Athena 쿼리 결과를 RDS에 저장
+    // 저장 방식 (ROW: 행 단위 중복 체크 후 저장, BULK: 다중 행 INSERT, 중복은 건너뜀)
+    @Value("${pothole.ingest.write-mode:BULK}")
+    private IngestWriteMode writeMode;
+
+    // BULK 방식에서 INSERT 문 하나에 담을 최대 행 수
+    @Value("${pothole.ingest.bulk-insert-size:500}")
+    private int bulkInsertSize;
+
+    // 적재 작업 1회 동안 청크 간에 공유할 중복 사전 필터 생성
+    public DuplicateKeyFilter newDuplicateKeyFilter() {
+        return new DuplicateKeyFilter(bulkRepository);
+    }
+
+    // Athena 쿼리 결과(청크)를 RDS에 저장하고 청크 단위 저장 결과를 반환
     @Transactional
-    public void saveQueryResults(String queryExecutionId, List<Map<String, String>> queryResults) {
+    public SaveResultDto saveQueryResults(String queryExecutionId, PotholeRecordBatch batch,
+                                          DuplicateKeyFilter duplicateKeyFilter) {
+        return saveQueryResults(queryExecutionId, batch, duplicateKeyFilter, writeMode);
+    }
+
+    // 저장 방식을 지정하여 Athena 쿼리 결과(청크)를 RDS에 저장
+    @Transactional
+    public SaveResultDto saveQueryResults(String queryExecutionId, PotholeRecordBatch batch,
+                                          DuplicateKeyFilter duplicateKeyFilter, IngestWriteMode mode) {
         try {
-            log.info("Athena 쿼리 결과 RDS 저장 시작 - {} 건", queryResults.size());
-
-            int savedCount = 0;
-            int duplicateCount = 0;
-            int errorCount = 0;
-
-            for (Map<String, String> row : queryResults) {
-                try {
-                    String carId = row.get("carid");
-                    Double locationX = parseDouble(row.get("locationx"));
-                    Double locationY = parseDouble(row.get("locationy"));
-                    String detectedAt = formatDateOnly(row.get("timestamp"));
-                    Double impactForce = parseDouble(row.get("impactforce"));
-
-                    // Carla 좌표를 위도/경도로 변환
-                    double[] latLon = coordinateConversionService.convertToLatLon(locationX, locationY);
-                    Double longitude = latLon[0];
-                    Double latitude = latLon[1];
-
-                    // 중복 데이터 체크
-                    if (repository.existsByUniqueFields(carId, locationX, locationY, detectedAt, impactForce)) {
-                        log.debug("중복 데이터 스킵 - carId: {}, location: ({}, {}), date: {}, impact: {}",
-                                carId, locationX, locationY, detectedAt, impactForce);
-                        duplicateCount++;
-                        continue;
-                    }
+            log.debug("Athena 쿼리 결과 RDS 저장 시작 - ID: {}, {} 건, 방식: {}",
+                    queryExecutionId, batch.size(), mode);
 
-                    PotholeData entity = PotholeData.builder()
-                            .carId(carId)
-                            .speed(parseDouble(row.get("speed")))
-                            .locationX(locationX)
-                            .locationY(locationY)
-                            .longitude(longitude)
-                            .latitude(latitude)
-                            .s3Url(row.get("s3url"))
-                            .impactForce(impactForce)
-                            .zAxisVibration(parseDouble(row.get("zaxisvibration")))
-                            .detectedAt(detectedAt)
-                            .status(false) // 기본 상태 (false = 미확정)
-                            .build();
-
-                    log.debug("좌표 변환 완료 - Carla({}, {}) -> GPS({}, {})",
-                             locationX, locationY, longitude, latitude);
-
-                    repository.save(entity);
-                    savedCount++;
-
-                } catch (Exception e) {
-                    log.warn("개별 데이터 저장 실패: {}", row, e);
-                    errorCount++;
-                }
-            }
+            // Carla 좌표 → 위도/경도 일괄 변환
+            coordinateConversionService.convertToLatLon(batch);
 
-            long totalCount = repository.count();
-            log.info("RDS 저장 완료 - 성공: {}건, 중복 스킵: {}건, 실패: {}건, 전체: {}건",
-                    savedCount, duplicateCount, errorCount, totalCount);
+            // 날짜만 저장하던 기간의 감지는 기존 행과 같은 키가 되도록 0시로 맞춤
+            detectedAtCutoverService.alignLegacyDates(batch);
 
-            if (savedCount == 0 && duplicateCount == 0) {
-                throw new BusinessException(PotholeErrorCode.RDS_DATA_SAVE_FAILED);
+            SaveResultDto result = mode == IngestWriteMode.BULK
+                    ? saveInBulk(batch, duplicateKeyFilter)
+                    : saveRowByRow(batch);
+
+            // 새로 저장된 행이 있으면 데이터셋 버전을 올려 캐시된 조회 응답을 무효화 (같은 트랜잭션으로 커밋)
+            if (result.getSavedCount() > 0) {
+                datasetVersionService.bump();
             }
 
-        } catch (BusinessException e) {
-            throw e;
+            log.info("RDS 청크 저장 완료 - 성공: {}건, 중복 스킵: {}건, 실패: {}건",
+                    result.getSavedCount(), result.getDuplicateCount(), result.getErrorCount());
+
+            return result;
+
         } catch (Exception e) {
             log.error("RDS 데이터 저장 중 오류 발생", e);
             throw new BusinessException(PotholeErrorCode.RDS_DATA_SAVE_FAILED);
         }
     }
 
+    // 행마다 중복 체크 후 개별 저장
+    private SaveResultDto saveRowByRow(PotholeRecordBatch batch) {
+        int[] savedRows = new int[batch.size()];
+        int savedCount = 0;
+        int duplicateCount = 0;
+        int errorCount = 0;
+
+        for (int row = 0; row < batch.size(); row++) {
+            PotholeData entity = batch.toEntity(row);
+            try {
+                // 중복 데이터 체크
+                if (repository.existsByUniqueFields(entity.getCarId(), entity.getLocationX(), entity.getLocationY(),
+                        entity.getDetectedAt(), entity.getImpactForce())) {
+                    log.debug("중복 데이터 스킵 - carId: {}, location: ({}, {}), date: {}, impact: {}",
+                            entity.getCarId(), entity.getLocationX(), entity.getLocationY(),
+                            entity.getDetectedAt(), entity.getImpactForce());
+                    duplicateCount++;
+                    continue;
+                }
+
+                repository.save(entity);
+                savedRows[savedCount++] = row;
+
+            } catch (Exception e) {
+                log.warn("개별 데이터 저장 실패: {}", entity, e);
+                errorCount++;
+            }
+        }
+
+        // 새로 저장된 감지만 군집/타일 집계에 반영 (중복으로 건너뛴 행은 이미 반영됨)
+        addToAggregates(batch, savedRows, savedCount);
+
+        return new SaveResultDto(savedCount, duplicateCount, errorCount);
+    }
+
+    // 사전 필터로 중복 후보만 DB 에서 확인한 뒤 다중 행 INSERT 로 묶어서 저장
+    // 필터에 지문이 없는 행은 확실히 새로운 행이므로 바로 INSERT 하고, 지문이 일치한 행만 유니크 키로 조회해 실제 중복을 가림
+    // 다중 행 INSERT 는 모두 저장되거나 하나도 저장되지 않으므로, 필터를 통과했지만 그 사이 다른 적재(겹치는 백필/증분/재조회)가
+    // 먼저 저장한 행이 섞였거나 잘못된 행이 있어 실패한 묶음은 행 단위로 다시 저장해 새로 저장된 행만 골라냄
+    // INSERT 문이 성공한 행만 필터에 저장된 키로 알리며, 행 단위 재시도에서도 실패한 행은 알리지 않음
+    private SaveResultDto saveInBulk(PotholeRecordBatch batch, DuplicateKeyFilter duplicateKeyFilter) {
+        // 청크에 포함된 날짜의 기존 키를 적재한 뒤 메모리에서 중복 후보 판별
+        duplicateKeyFilter.preload(batch);
+
+        int[] rows = new int[batch.size()];
+        int[] candidateRows = new int[batch.size()];
+        int[] savedRows = new int[batch.size()];
+        int savedRowCount = 0;
+        int rowCount = 0;
+        int candidateCount = 0;
+        int duplicateCount = 0;
+        int errorCount = 0;
+
+        for (int row = 0; row < batch.size(); row++) {
+            if (duplicateKeyFilter.isRepeatedInChunk(batch, row)) {
+                duplicateCount++;
+            } else if (duplicateKeyFilter.mayExist(batch, row)) {
+                candidateRows[candidateCount++] = row;
+            } else {
+                rows[rowCount++] = row;
+            }
+        }
+
+        // 중복 후보 중 실제로 저장되어 있지 않은 행은 INSERT 대상에 합침
+        for (int from = 0; from < candidateCount; from += bulkInsertSize) {
+            int to = Math.min(from + bulkInsertSize, candidateCount);
+            Set<PotholeBulkRepository.UniqueKey> existingKeys = bulkRepository.findExistingKeys(batch, candidateRows, from, to);
+            for (int i = from; i < to; i++) {
+                if (existingKeys.contains(PotholeBulkRepository.UniqueKey.of(batch, candidateRows[i]))) {
+                    duplicateCount++;
+                } else {
+                    rows[rowCount++] = candidateRows[i];
+                }
+            }
+        }
+        if (rowCount > 0 && candidateCount > 0) {
+            // 군집 반영이 감지 순서를 따르도록 원래 행 순서로 정렬
+            Arrays.sort(rows, 0, rowCount);
+        }
+
+        for (int from = 0; from < rowCount; from += bulkInsertSize) {
+            int to = Math.min(from + bulkInsertSize, rowCount);
+            try {
+                bulkRepository.insertAll(batch, rows, from, to);
+                for (int i = from; i < to; i++) {
+                    duplicateKeyFilter.markInserted(batch, rows[i]);
+                }
+                System.arraycopy(rows, from, savedRows, savedRowCount, to - from);
+                savedRowCount += to - from;
+            } catch (DataAccessException e) {
+                // 이미 저장된 행이 섞였거나 문제 행(길이 초과, 형 변환 오류 등)이 있으면 행 단위로 재시도
+                log.warn("다중 행 INSERT 실패 - {}건을 행 단위로 재시도합니다: {}", to - from, e.getMessage());
+                for (int i = from; i < to; i++) {
+                    try {
+                        boolean inserted = bulkRepository.insertSkippingDuplicate(batch, rows[i]);
+                        duplicateKeyFilter.markInserted(batch, rows[i]);
+                        if (inserted) {
+                            savedRows[savedRowCount++] = rows[i];
+                        } else {
+                            duplicateCount++;
+                        }
+                    } catch (DataAccessException rowException) {
+                        log.warn("개별 데이터 저장 실패: {}", batch.toEntity(rows[i]), rowException);
+                        errorCount++;
+                    }
+                }
+            }
+        }
+
+        // 새로 저장된 행만 군집/타일 집계에 반영
+        addToAggregates(batch, savedRows, savedRowCount);
+
+        return new SaveResultDto(savedRowCount, duplicateCount, errorCount);
+    }
+
+    private void addToAggregates(PotholeRecordBatch batch, int[] savedRows, int savedRowCount) {
+        potholeClusterService.addDetections(batch, savedRows, savedRowCount);
+        potholeTileService.addDetections(batch, savedRows, savedRowCount);
+    }
+
     // RDS에 저장된 포트홀 데이터 총 개수 조회
     public long getTotalPotholeCount() {
         try {
@@ -124,6 +235,8 @@ public class PotholeService {
 
             potholeData.setStatus(newStatus);
             repository.save(potholeData);
+            potholeTileService.onStatusChanged(potholeData.getGeohash(), newStatus);
+            datasetVersionService.bump();
 
             String statusMessage = newStatus ? "확정" : "미확정";
             log.info("포트홀 상태 변경 완료 - ID: {}, 상태: {}", potholeId, statusMessage);
@@ -148,46 +261,4 @@ public class PotholeService {
             throw new BusinessException(PotholeErrorCode.INVALID_REQUEST_PARAMETER);
         }
     }
-
-    // 숫자 문자열을 Double로 변환 (속도, 위치, 충격량, z축 흔들림 데이터)
-    private Double parseDouble(String value) {
-        if (value == null || value.trim().isEmpty()) {
-            return null;
-        }
-        try {
-            return Double.parseDouble(value.trim());
-        } catch (NumberFormatException e) {
-            log.warn("숫자 변환 실패: {}", value);
-            return null;
-        }
-    }
-
-    // 타임스탬프를 "2025-08-27 13:35:52" -> "2025-08-27" 형식으로 변환
-    private String formatDateOnly(String timestamp) {
-        if (timestamp == null || timestamp.trim().isEmpty()) {
-            return null;
-        }
-
-        try {
-            // 공백이나 'T'로 구분된 날짜 부분만 추출
-            String dateOnly = timestamp.trim();
-            if (dateOnly.contains(" ")) {
-                dateOnly = dateOnly.split(" ")[0];
-            } else if (dateOnly.contains("T")) {
-                dateOnly = dateOnly.split("T")[0];
-            }
-
-            // YYYY-MM-DD 형식 검증
-            if (dateOnly.matches("\\d{4}-\\d{2}-\\d{2}")) {
-                return dateOnly;
-            }
-
-            log.warn("예상치 못한 타임스탬프 형식: {}", timestamp);
-            return timestamp;
-
-        } catch (Exception e) {
-            log.warn("타임스탬프 변환 실패: {}", timestamp, e);
-            return timestamp;
-        }
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,206 @@
+package com.smooth.pothole_analysis_service.pothole.service;
+
+import com.smooth.pothole_analysis_service.global.util.GeoHash;
+import com.smooth.pothole_analysis_service.pothole.dto.PotholeQueryResponseDto;
+import com.smooth.pothole_analysis_service.pothole.dto.PotholeRecordBatch;
+import com.smooth.pothole_analysis_service.pothole.dto.PotholeTileResponseDto;
+import com.smooth.pothole_analysis_service.pothole.entity.PotholeTileCell;
+import com.smooth.pothole_analysis_service.pothole.repository.PotholeTileCellRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 지도 타일 집계 서비스 - 지오해시 2~8자리 칸마다 포트홀 데이터 수, 최대 충격량, 확정 수를 적재 시점에 누적하고
+// 지도 줌 레벨에 맞는 자릿수의 칸을 화면 영역만큼 조회
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PotholeTileService {
+
+    // 집계하는 지오해시 자릿수 범위 (2자리 약 1250km, 8자리 약 38m x 19m)
+    static final int MIN_PRECISION = 2;
+    static final int MAX_PRECISION = 8;
+
+    // 화면 영역을 덮는 지오해시 접두사 최대 개수
+    private static final int MAX_VIEWPORT_PREFIXES = 16;
+
+    // 한 번에 반환하는 최대 칸 수 - 화면 영역이 이보다 많은 칸에 걸치면 자릿수를 줄임
+    static final int MAX_TILE_CELLS = 2_048;
+
+    // 영역 밖을 걸러내기 전에 조회하는 최대 칸 수 (접두사가 영역보다 넓은 범위를 덮으므로 여유를 둠)
+    private static final int MAX_CANDIDATE_CELLS = MAX_TILE_CELLS * 4;
+
+    // 기존 데이터로 집계 칸을 다시 만든 뒤 남기는 완료 표시 (ingestion_watermark 행)이자 재생성 임대 키
+    static final String REBUILD_MARKER = "tile-cells:rebuild";
+
+    private final PotholeTileCellRepository tileCellRepository;
+    private final PotholeResponseCache responseCache;
+    private final DatasetVersionService datasetVersionService;
+    private final IngestionWatermarkService watermarkService;
+    private final IngestionLeaseService leaseService;
+    private final TransactionTemplate transactionTemplate;
+
+    // 배치의 rows[0, count) 행(새로 저장된 감지)을 집계 칸에 더함 - 청크 안에서 칸별로 먼저 합친 뒤 한 번에 반영
+    @Transactional
+    public void addDetections(PotholeRecordBatch batch, int[] rows, int count) {
+        Map<String, PotholeTileCell> increments = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            int row = rows[i];
+            String geohash = batch.getGeohash(row);
+            if (geohash == null) {
+                continue;
+            }
+
+            boolean hasImpact = batch.hasNumber(PotholeRecordBatch.IMPACT_FORCE, row);
+            double impactForce = hasImpact ? batch.getNumber(PotholeRecordBatch.IMPACT_FORCE, row) : 0.0;
+            for (int precision = MIN_PRECISION; precision <= MAX_PRECISION; precision++) {
+                String cell = geohash.substring(0, precision);
+                PotholeTileCell increment = increments.computeIfAbsent(precision + ":" + cell, key -> emptyCell(cell));
+                increment.setHitCount(increment.getHitCount() + 1);
+                increment.setLatitudeSum(increment.getLatitudeSum() + batch.getLatitude(row));
+                increment.setLongitudeSum(increment.getLongitudeSum() + batch.getLongitude(row));
+                if (hasImpact && (increment.getMaxImpactForce() == null || impactForce > increment.getMaxImpactForce())) {
+                    increment.setMaxImpactForce(impactForce);
+                }
+            }
+        }
+
+        tileCellRepository.upsertIncrements(increments.values());
+    }
+
+    // 포트홀 확정 상태 변경을 집계 칸에 반영
+    @Transactional
+    public void onStatusChanged(String geohash, boolean confirmed) {
+        if (geohash == null) {
+            return;
+        }
+        tileCellRepository.adjustConfirmed(geohash, MIN_PRECISION, MAX_PRECISION, confirmed ? 1 : -1);
+    }
+
+    // 기존 pothole_data 로 집계 칸을 한 번만 다시 만듦 (geohash 가 모두 채워진 뒤 호출)
+    // 집계 칸이 비어 있는지가 아니라 완료 표시(워터마크 행)로 판단하므로, 일부 칸만 적재된 상태에서 도입되어도 다시 집계함
+    // 임대를 가진 인스턴스 하나만 실행하고, 칸 삭제/재집계/완료 표시는 한 트랜잭션이라 중간에 실패하면 다음 기동 때 다시 실행
+    public void rebuildOnce() {
+        if (watermarkService.getWatermark(REBUILD_MARKER).isPresent()) {
+            return;
+        }
+        if (!leaseService.tryAcquire(REBUILD_MARKER)) {
+            log.info("지도 타일 집계 칸 재생성을 다른 인스턴스가 처리 중이거나 완료함");
+            return;
+        }
+
+        int cells;
+        try {
+            cells = transactionTemplate.execute(status -> {
+                tileCellRepository.deleteAll();
+                int rebuilt = 0;
+                for (int precision = MIN_PRECISION; precision <= MAX_PRECISION; precision++) {
+                    rebuilt += tileCellRepository.rebuild(precision);
+                }
+                watermarkService.advance(REBUILD_MARKER, LocalDateTime.now());
+                return rebuilt;
+            });
+        } catch (RuntimeException e) {
+            leaseService.release(REBUILD_MARKER);
+            throw e;
+        }
+        leaseService.complete(REBUILD_MARKER);
+
+        // 캐시된 타일 응답과 조건부 GET 의 ETag 가 새 집계를 반영하도록 버전을 올림
+        datasetVersionService.bump();
+        log.info("지도 타일 집계 칸 재생성 완료 - {}개", cells);
+    }
+
+    // 줌 레벨과 화면 영역에 해당하는 집계 칸 조회
+    // 자릿수는 줌 레벨로 정하되 화면 영역이 MAX_TILE_CELLS 칸을 넘지 않도록 줄이고 (큰 줌 + 넓은 영역 요청 방지),
+    // 영역과 겹치는 칸만 감지 수가 많은 순으로 최대 MAX_TILE_CELLS 개 반환
+    public PotholeTileResponseDto getTiles(int zoom, double minLat, double minLon, double maxLat, double maxLon) {
+        return responseCache.get(PotholeResponseCache.Key.of("tiles", zoom, minLat, minLon, maxLat, maxLon),
+                () -> loadTiles(zoom, minLat, minLon, maxLat, maxLon),
+                response -> response.getCells().size());
+    }
+
+    private PotholeTileResponseDto loadTiles(int zoom, double minLat, double minLon, double maxLat, double maxLon) {
+        int precision = Math.min(precisionForZoom(zoom), precisionForBox(minLat, minLon, maxLat, maxLon));
+
+        // 집계 칸보다 긴 접두사는 칸 자릿수로 잘라 중복 제거
+        Set<String> prefixes = new LinkedHashSet<>();
+        for (String prefix : GeoHash.coveringPrefixes(minLat, minLon, maxLat, maxLon, MAX_VIEWPORT_PREFIXES)) {
+            prefixes.add(prefix.length() > precision ? prefix.substring(0, precision) : prefix);
+        }
+
+        List<PotholeTileCell> candidates = tileCellRepository.findInPrefixes(precision, List.copyOf(prefixes),
+                MAX_CANDIDATE_CELLS);
+        List<PotholeTileResponseDto.TileCellDto> cells = candidates.stream()
+                .filter(cell -> cell.getHitCount() > 0)
+                .filter(cell -> GeoHash.intersects(cell.getCell(), minLat, minLon, maxLat, maxLon))
+                .limit(MAX_TILE_CELLS + 1L)
+                .map(this::toTileCellDto)
+                .collect(Collectors.toList());
+
+        boolean truncated = cells.size() > MAX_TILE_CELLS || candidates.size() >= MAX_CANDIDATE_CELLS;
+        if (cells.size() > MAX_TILE_CELLS) {
+            cells = cells.subList(0, MAX_TILE_CELLS);
+        }
+
+        return PotholeTileResponseDto.builder()
+                .zoom(zoom)
+                .precision(precision)
+                .cells(cells)
+                .truncated(truncated)
+                .build();
+    }
+
+    // 화면 영역이 MAX_TILE_CELLS 칸 이하로 나뉘는 가장 큰 자릿수
+    static int precisionForBox(double minLat, double minLon, double maxLat, double maxLon) {
+        for (int precision = MAX_PRECISION; precision > MIN_PRECISION; precision--) {
+            if (GeoHash.cellCount(minLat, minLon, maxLat, maxLon, precision) <= MAX_TILE_CELLS) {
+                return precision;
+            }
+        }
+        return MIN_PRECISION;
+    }
+
+    // 웹 지도 줌 레벨 → 지오해시 자릿수 (타일 한 장(256px)을 약 8x8 칸으로 나누는 크기)
+    // 줌 z 의 타일 너비는 360/2^z 도, 지오해시 p 자리의 경도 칸 너비는 360/2^ceil(5p/2) 도
+    static int precisionForZoom(int zoom) {
+        int precision = (int) Math.round((zoom + 3) * 2 / 5.0);
+        return Math.max(MIN_PRECISION, Math.min(MAX_PRECISION, precision));
+    }
+
+    private PotholeTileResponseDto.TileCellDto toTileCellDto(PotholeTileCell cell) {
+        long hitCount = cell.getHitCount();
+        return PotholeTileResponseDto.TileCellDto.builder()
+                .cell(cell.getCell())
+                .location(PotholeQueryResponseDto.LocationDto.builder()
+                        .latitude(cell.getLatitudeSum() / hitCount)
+                        .longitude(cell.getLongitudeSum() / hitCount)
+                        .build())
+                .count(hitCount)
+                .maxImpact(cell.getMaxImpactForce())
+                .confirmedRatio((double) cell.getConfirmedCount() / hitCount)
+                .build();
+    }
+
+    private static PotholeTileCell emptyCell(String cell) {
+        return PotholeTileCell.builder()
+                .precisionLevel(cell.length())
+                .cell(cell)
+                .hitCount(0L)
+                .confirmedCount(0L)
+                .latitudeSum(0.0)
+                .longitudeSum(0.0)
+                .build();
+    }
+}
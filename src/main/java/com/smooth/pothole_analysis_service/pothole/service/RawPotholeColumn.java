@@ -0,0 +1,57 @@
+package com.smooth.pothole_analysis_service.pothole.service;
+
+import com.smooth.pothole_analysis_service.pothole.dto.PotholeRecordBatch;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+// Athena 원천 포트홀 테이블에서 적재에 사용하는 컬럼과 타입, 값을 기록할 PotholeRecordBatch 컬럼
+// PotholeRowDecoder 는 타입으로 값의 해석 방식을 정하므로 컬럼을 추가할 때 디코더를 고치지 않아도 됨
+// SELECT * 대신 이 컬럼만 조회해 스캔 바이트와 결과 전송량을 줄임
+@Getter
+@RequiredArgsConstructor
+public enum RawPotholeColumn {
+
+    CAR_ID("carid", Type.STRING, PotholeRecordBatch.CAR_ID),
+    SPEED("speed", Type.DOUBLE, PotholeRecordBatch.SPEED),
+    LOCATION_X("locationx", Type.DOUBLE, PotholeRecordBatch.LOCATION_X),
+    LOCATION_Y("locationy", Type.DOUBLE, PotholeRecordBatch.LOCATION_Y),
+    S3_URL("s3url", Type.STRING, PotholeRecordBatch.S3_URL),
+    IMPACT_FORCE("impactforce", Type.DOUBLE, PotholeRecordBatch.IMPACT_FORCE),
+    Z_AXIS_VIBRATION("zaxisvibration", Type.DOUBLE, PotholeRecordBatch.Z_AXIS_VIBRATION),
+    TIMESTAMP("timestamp", Type.TIMESTAMP, -1);
+
+    // 결과 값의 해석 방식 (timestamp 는 'yyyy-MM-dd HH:mm:ss[.f]' 형식의 varchar)
+    public enum Type {
+        STRING,
+        DOUBLE,
+        TIMESTAMP
+    }
+
+    private static final String SELECT_LIST = Arrays.stream(values())
+            .map(column -> "\"" + column.columnName + "\"")
+            .collect(Collectors.joining(", "));
+
+    private final String columnName;
+    private final Type type;
+
+    // 타입별 배치 컬럼 인덱스 (STRING 은 문자열 컬럼, DOUBLE 은 숫자 컬럼, TIMESTAMP 는 감지 시각 하나뿐이라 -1)
+    private final int batchColumn;
+
+    // SELECT 절에 사용할 컬럼 목록 (timestamp 같은 예약어를 위해 큰따옴표로 감쌈)
+    public static String selectList() {
+        return SELECT_LIST;
+    }
+
+    // 결과 헤더의 컬럼명으로 찾기 (대소문자 무시), 적재에 쓰지 않는 컬럼이면 null
+    public static RawPotholeColumn fromColumnName(String columnName) {
+        for (RawPotholeColumn column : values()) {
+            if (column.columnName.equalsIgnoreCase(columnName)) {
+                return column;
+            }
+        }
+        return null;
+    }
+}
@@ -2,26 +2,96 @@ package com.smooth.pothole_analysis_service.pothole.service;
 
 import com.smooth.pothole_analysis_service.global.exception.BusinessException;
 import com.smooth.pothole_analysis_service.pothole.dto.DataProcessingResponseDto;
+import com.smooth.pothole_analysis_service.pothole.entity.IngestionLease;
 import com.smooth.pothole_analysis_service.pothole.exception.PotholeErrorCode;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+// 워터마크 기반 증분 적재 스케줄러
+// 짧은 주기로 마지막 적재 위치 이후의 데이터만 최대 1시간 단위로 나눠 조회하고,
+// 중단되었던 구간은 다음 실행에서 순서대로 따라잡음
+// 구간마다 DB 임대를 잡아 처리하므로 여러 인스턴스가 동시에 실행되면 서로 다른 구간을 나눠 처리하고,
+// 워터마크는 앞에서부터 연속으로 완료된 구간까지만 전진
+// S3 에 늦게 도착한 객체를 놓치지 않도록, 끝난 지 late-arrival-minutes 가 지난 구간을 한 번 더 조회 (중복은 유니크 키로 걸러짐)
+// 파티션 컬럼(aws.athena.tables.partition-column)이 없으면 구간마다 테이블 전체를 스캔하므로,
+// 이때는 하루가 다 지난 뒤 자정~자정 구간으로만 조회 (allow-full-scan=true 이면 짧은 구간 그대로 조회)
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ScheduledDataProcessingService {
 
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    // 늦게 도착한 데이터 재조회 구간의 워터마크/임대 키 접두사
+    // (접미사로 붙이면 재조회 임대 키가 본 구간 임대 키의 접두사로 시작해 함께 정리됨)
+    private static final String LATE_ARRIVAL_PREFIX = "late:";
+
     private final DataProcessingService dataProcessingService;
+    private final AthenaQueryService athenaQueryService;
+    private final IngestionWatermarkService watermarkService;
+    private final IngestionLeaseService leaseService;
     private volatile boolean isRunning = false;
 
-    // 매일 02시에 전날 데이터를 처리하는 스케줄러
-    @Scheduled(cron = "0 0 9 * * *", zone = "Asia/Seoul")
-    public void processYesterdayData() {
+    // 구간을 자정~자정 하루 단위로 나누는지 여부 (파티션 조건이 없을 때)
+    private boolean dailyWindows;
+
+    @Value("${aws.athena.tables.raw-pothole-data}")
+    private String rawPotholeDataTable;
+
+    // 한 번에 조회하는 최대 구간 길이
+    @Value("${pothole.ingest.incremental.window-minutes:60}")
+    private long windowMinutes;
+
+    // S3 적재 지연을 고려해 현재 시각보다 이만큼 이전까지만 조회
+    @Value("${pothole.ingest.incremental.lag-minutes:5}")
+    private long lagMinutes;
+
+    // 워터마크가 없을 때 시작 위치 (오늘 0시 기준 며칠 전부터)
+    @Value("${pothole.ingest.incremental.initial-lookback-days:1}")
+    private long initialLookbackDays;
+
+    // 한 번 실행에서 따라잡을 최대 구간 수 (나머지는 다음 실행에서 처리)
+    @Value("${pothole.ingest.incremental.max-windows-per-run:48}")
+    private int maxWindowsPerRun;
+
+    // 워터마크보다 이만큼 이전에 끝난 완료 구간 임대는 정리
+    @Value("${pothole.ingest.incremental.lease-retention-days:3}")
+    private long leaseRetentionDays;
+
+    // 구간이 끝나고 이만큼 지난 뒤 한 번 더 조회해 늦게 도착한 S3 객체를 적재 (0 이면 재조회하지 않음)
+    @Value("${pothole.ingest.incremental.late-arrival-minutes:60}")
+    private long lateArrivalMinutes;
+
+    // 파티션 컬럼 없이(구간마다 전체 스캔) 증분 적재를 허용할지 여부
+    @Value("${pothole.ingest.incremental.allow-full-scan:false}")
+    private boolean allowFullScan;
+
+    @PostConstruct
+    void checkPartitionPredicate() {
+        dailyWindows = !athenaQueryService.hasPartitionPredicate() && !allowFullScan;
+        if (dailyWindows) {
+            log.warn("aws.athena.tables.partition-column 이 설정되지 않아 증분 적재를 하루 단위 구간으로 실행합니다. " +
+                    "짧은 구간으로 적재하려면 파티션 컬럼을 설정하세요 " +
+                    "(구간마다 전체 스캔을 감수하려면 pothole.ingest.incremental.allow-full-scan=true)");
+        }
+    }
+
+    // 워터마크 이후 새로 쌓인 데이터를 짧은 주기로 적재
+    @Scheduled(fixedDelayString = "${pothole.ingest.incremental.interval-ms:300000}",
+            initialDelayString = "${pothole.ingest.incremental.initial-delay-ms:60000}")
+    public void processIncrementalData() {
         if (isRunning) {
             log.warn("스케줄러가 이미 실행 중입니다. 중복 실행을 방지합니다.");
             return;
@@ -30,25 +100,15 @@ public class ScheduledDataProcessingService {
         try {
             isRunning = true;
 
-            // 전날 날짜 계산
-            LocalDate yesterday = LocalDate.now().minusDays(1);
-            LocalDate today = LocalDate.now();
-
-            String startTimestamp = yesterday.atStartOfDay()
-                    .format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
-            String endTimestamp = today.atStartOfDay()
-                    .format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+            LocalDateTime upperBound = LocalDateTime.now(ZONE).minusMinutes(lagMinutes).truncatedTo(ChronoUnit.SECONDS);
+            LocalDateTime watermark = watermarkService.getWatermark(rawPotholeDataTable)
+                    .orElseGet(() -> LocalDate.now(ZONE).minusDays(initialLookbackDays).atStartOfDay());
 
-            // 전날 데이터를 조회하는 WHERE 절 생성 (varchar 타입으로 문자열 비교)
-            String whereClause = String.format(
-                    "timestamp >= '%s' AND timestamp < '%s'",
-                    startTimestamp, endTimestamp);
+            watermark = processWindows(rawPotholeDataTable, watermark, upperBound);
 
-            log.info("스케줄된 데이터 처리 시작 - WHERE: {}", whereClause);
-
-            DataProcessingResponseDto result = dataProcessingService.queryAndSaveToRds(whereClause);
-
-            log.info("스케줄된 데이터 처리 완료 - 처리된 데이터: {}건, 전체 데이터: {}건", result.getProcessedDataCount(), result.getTotalDataCount());
+            if (lateArrivalMinutes > 0) {
+                rescanLateArrivals(watermark, upperBound.minusMinutes(lateArrivalMinutes));
+            }
 
         } catch (BusinessException e) {
             log.error("스케줄된 데이터 처리 중 비즈니스 오류 발생: {}", e.getMessage());
@@ -62,4 +122,124 @@ public class ScheduledDataProcessingService {
             isRunning = false;
         }
     }
+
+    // 이미 적재한 구간 중 끝난 지 late-arrival-minutes 가 지난 구간을 한 번 더 조회
+    // 재조회 위치는 별도 워터마크로 관리하며, 처음 실행할 때는 그 시점부터 재조회 (과거 구간은 다시 읽지 않음)
+    private void rescanLateArrivals(LocalDateTime watermark, LocalDateTime settledUntil) {
+        LocalDateTime upperBound = settledUntil.isBefore(watermark) ? settledUntil : watermark;
+        String sourceKey = LATE_ARRIVAL_PREFIX + rawPotholeDataTable;
+
+        Optional<LocalDateTime> rescanWatermark = watermarkService.getWatermark(sourceKey);
+        if (rescanWatermark.isEmpty()) {
+            watermarkService.advance(sourceKey, upperBound);
+            return;
+        }
+        processWindows(sourceKey, rescanWatermark.get(), upperBound);
+    }
+
+    // sourceKey 의 워터마크부터 upperBound 까지 구간을 나눠 적재하고 전진한 워터마크 반환
+    // 구간은 앞 구간의 끝에서 시작하는 사슬이므로, 다른 인스턴스가 만든 구간은 그 끝으로 건너뛰어 겹치지 않게 함
+    private LocalDateTime processWindows(String sourceKey, LocalDateTime watermark, LocalDateTime upperBound) {
+        int processedWindows = 0;
+        int failedWindows = 0;
+        long processedRows = 0;
+        LocalDateTime windowStart = watermark;
+
+        while (windowStart.isBefore(upperBound) && processedWindows < maxWindowsPerRun) {
+            String leaseKey = windowLeaseKey(sourceKey, windowStart);
+            IngestionLease lease = leaseService.find(leaseKey).orElse(null);
+
+            if (lease != null && !leaseService.isClaimable(lease)) {
+                // 이미 완료되었거나 다른 인스턴스가 처리 중인 구간
+                windowStart = lease.getSliceEnd();
+                continue;
+            }
+
+            LocalDateTime windowEnd = nextWindowEnd(windowStart, upperBound);
+            if (windowEnd == null) {
+                // 하루 단위 구간에서 아직 끝나지 않은 날
+                break;
+            }
+
+            if (!leaseService.tryAcquire(leaseKey, windowEnd)) {
+                // 그 사이 다른 인스턴스가 먼저 가져감
+                windowStart = leaseService.find(leaseKey).map(IngestionLease::getSliceEnd).orElse(windowEnd);
+                continue;
+            }
+
+            // 만료된 구간을 이어받은 경우 처음 정해진 구간 끝을 그대로 사용
+            windowEnd = leaseService.find(leaseKey).map(IngestionLease::getSliceEnd).orElse(windowEnd);
+
+            String whereClause = athenaQueryService.buildTimeRangeCondition(windowStart, windowEnd);
+            log.info("증분 데이터 처리 시작 - {} 구간: [{}, {}), WHERE: {}", sourceKey, windowStart, windowEnd, whereClause);
+
+            try {
+                DataProcessingResponseDto result = dataProcessingService.queryAndSaveToRds(whereClause);
+                processedRows += result.getProcessedDataCount();
+            } catch (BusinessException e) {
+                if (e.getErrorCode() != PotholeErrorCode.ALL_ROWS_SAVE_FAILED) {
+                    leaseService.release(leaseKey);
+                    throw e;
+                }
+                // 모든 행이 저장에 실패한 구간은 다시 실행해도 같은 결과이므로, 체크포인트에 실패로 남기고 다음 구간으로 진행
+                // (원인을 고친 뒤 같은 WHERE 조건으로 수동 적재)
+                log.error("구간의 모든 행 저장 실패 - 실패로 기록하고 건너뜀, {} 구간: [{}, {}), WHERE: {}",
+                        sourceKey, windowStart, windowEnd, whereClause);
+                failedWindows++;
+            } catch (RuntimeException e) {
+                leaseService.release(leaseKey);
+                throw e;
+            }
+            leaseService.complete(leaseKey);
+
+            // 구간 처리가 끝난 뒤에만 워터마크를 전진시켜, 실패한 구간은 다음 실행에서 다시 조회
+            watermark = advanceWatermark(sourceKey, watermark);
+            windowStart = windowEnd;
+            processedWindows++;
+        }
+
+        watermark = advanceWatermark(sourceKey, watermark);
+        if (processedWindows > 0) {
+            log.info("증분 데이터 처리 완료 - {} 구간: {}개 (실패 {}개), 처리된 데이터: {}건, 워터마크: {}",
+                    sourceKey, processedWindows, failedWindows, processedRows, watermark);
+            leaseService.purgeCompleted(windowLeaseKeyPrefix(sourceKey), watermark.minusDays(leaseRetentionDays));
+        }
+        return watermark;
+    }
+
+    // windowStart 에서 시작하는 새 구간의 끝 - 하루 단위 구간이 아직 끝나지 않았으면 null
+    private LocalDateTime nextWindowEnd(LocalDateTime windowStart, LocalDateTime upperBound) {
+        if (dailyWindows) {
+            LocalDateTime nextMidnight = windowStart.toLocalDate().plusDays(1).atStartOfDay();
+            return nextMidnight.isAfter(upperBound) ? null : nextMidnight;
+        }
+
+        LocalDateTime windowEnd = windowStart.plusMinutes(windowMinutes);
+        return windowEnd.isAfter(upperBound) ? upperBound : windowEnd;
+    }
+
+    // 워터마크부터 연속으로 완료된 구간의 끝까지 워터마크 전진 (다른 인스턴스가 완료한 구간 포함)
+    private LocalDateTime advanceWatermark(String sourceKey, LocalDateTime watermark) {
+        LocalDateTime advanced = watermark;
+        while (true) {
+            Optional<IngestionLease> lease = leaseService.find(windowLeaseKey(sourceKey, advanced));
+            if (lease.isEmpty() || lease.get().getCompletedAt() == null || lease.get().getSliceEnd() == null) {
+                break;
+            }
+            advanced = lease.get().getSliceEnd();
+        }
+
+        if (advanced.isAfter(watermark)) {
+            watermarkService.advance(sourceKey, advanced);
+        }
+        return advanced;
+    }
+
+    private static String windowLeaseKeyPrefix(String sourceKey) {
+        return "incremental:" + sourceKey + ":";
+    }
+
+    private static String windowLeaseKey(String sourceKey, LocalDateTime windowStart) {
+        return windowLeaseKeyPrefix(sourceKey) + windowStart.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+    }
 }
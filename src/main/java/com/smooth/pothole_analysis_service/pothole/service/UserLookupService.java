@@ -0,0 +1,180 @@
+package com.smooth.pothole_analysis_service.pothole.service;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.smooth.pothole_analysis_service.pothole.client.UserServiceGateway;
+import com.smooth.pothole_analysis_service.pothole.dto.PotholeQueryResponseDto;
+import com.smooth.pothole_analysis_service.pothole.dto.UserCacheStatsDto;
+import com.smooth.pothole_analysis_service.pothole.dto.UserResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 포트홀 목록의 사용자 정보 일괄 조회 서비스
+// 목록에 나온 carId 를 중복 없이 모아 캐시에 없는 사용자만 user-service 에 요청하고 메모리에서 연결
+// 요청은 UserServiceGateway 가 제한 시간 안에 동시에 보내므로 응답 지연은 사용자 수가 아니라 제한 시간에 묶임
+// 조회 결과는 크기 제한 캐시에 보관 - 찾은 사용자는 ttl, 없거나 조회에 실패한 사용자는 짧은 negative-ttl 동안 다시 요청하지 않음
+// 같은 사용자를 동시에 조회하면 진행 중인 조회 결과를 함께 사용
+
+@Slf4j
+@Service
+public class UserLookupService {
+
+    static final String UNKNOWN_USER_NAME = "알 수 없음";
+
+    private final UserServiceGateway userServiceGateway;
+
+    // userId → 조회 결과 (user 가 null 이면 negative 항목)
+    private final AsyncLoadingCache<Long, CachedUser> userCache;
+
+    public UserLookupService(UserServiceGateway userServiceGateway,
+                             @Value("${user.cache.max-size:10000}") long maxSize,
+                             @Value("${user.cache.ttl-seconds:600}") long ttlSeconds,
+                             @Value("${user.cache.negative-ttl-seconds:30}") long negativeTtlSeconds) {
+        this.userServiceGateway = userServiceGateway;
+        this.userCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new CachedUserExpiry(Duration.ofSeconds(ttlSeconds), Duration.ofSeconds(negativeTtlSeconds)))
+                // 조회는 호출한 스레드에서 실행 (진행 중인 조회는 캐시에 먼저 등록되므로 다른 스레드는 결과를 기다림)
+                .executor(Runnable::run)
+                .recordStats()
+                .buildAsync(new UserCacheLoader());
+    }
+
+    // carId → 사용자 정보 (조회하지 못한 carId 는 이름이 "알 수 없음" 인 사용자로 채움)
+    public Map<String, PotholeQueryResponseDto.UserDto> findUsers(Collection<String> carIds) {
+        Map<String, Long> userIdByCarId = new HashMap<>();
+        Set<Long> userIds = new LinkedHashSet<>();
+        for (String carId : carIds) {
+            if (carId == null || userIdByCarId.containsKey(carId)) {
+                continue;
+            }
+            try {
+                Long userId = Long.valueOf(carId);
+                userIdByCarId.put(carId, userId);
+                userIds.add(userId);
+            } catch (NumberFormatException e) {
+                log.warn("사용자 정보 조회 불가 (숫자가 아닌 carId): carId={}", carId);
+            }
+        }
+
+        Map<Long, CachedUser> found = userIds.isEmpty() ? Map.of() : userCache.getAll(userIds).join();
+
+        Map<String, PotholeQueryResponseDto.UserDto> users = new HashMap<>();
+        for (String carId : carIds) {
+            if (carId == null || users.containsKey(carId)) {
+                continue;
+            }
+            Long userId = userIdByCarId.get(carId);
+            CachedUser cached = userId != null ? found.get(userId) : null;
+            users.put(carId, cached != null && cached.user() != null ? cached.user() : unknownUser(carId));
+        }
+        return users;
+    }
+
+    // 사용자 정보 캐시 통계
+    public UserCacheStatsDto getCacheStats() {
+        CacheStats stats = userCache.synchronous().stats();
+        long negativeEntries = userCache.synchronous().asMap().values().stream()
+                .filter(cached -> cached.user() == null)
+                .count();
+        return UserCacheStatsDto.builder()
+                .size(userCache.synchronous().estimatedSize())
+                .negativeEntries(negativeEntries)
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .loadCount(stats.loadCount())
+                .loadFailureCount(stats.loadFailureCount())
+                .averageLoadPenaltyMs(stats.averageLoadPenalty() / 1_000_000.0)
+                .evictionCount(stats.evictionCount())
+                .circuitState(userServiceGateway.getCircuitState().name())
+                .build();
+    }
+
+    // 캐시에 없는 사용자를 user-service 에서 조회 - 결과에 없는 사용자는 negative 항목으로 저장
+    private Map<Long, CachedUser> loadUsers(Set<? extends Long> userIds) {
+        Map<Long, CachedUser> loaded = new HashMap<>();
+        List<Long> ids = new ArrayList<>(userIds);
+        for (UserResponseDto user : userServiceGateway.fetchUsers(ids)) {
+            Long userId = parseUserId(user);
+            if (userId != null) {
+                loaded.put(userId, new CachedUser(PotholeQueryResponseDto.UserDto.builder()
+                        .userId(user.getUserId())
+                        .userName(user.getUserName())
+                        .build()));
+            }
+        }
+        for (Long userId : ids) {
+            loaded.putIfAbsent(userId, CachedUser.NOT_FOUND);
+        }
+        return loaded;
+    }
+
+    private static Long parseUserId(UserResponseDto user) {
+        if (user == null || user.getUserId() == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(user.getUserId());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // 조회하지 못한 사용자 (carId 가 null 이면 목록 변환 시 사용)
+    static PotholeQueryResponseDto.UserDto unknownUser(String carId) {
+        return PotholeQueryResponseDto.UserDto.builder()
+                .userId(carId)
+                .userName(UNKNOWN_USER_NAME)
+                .build();
+    }
+
+    private record CachedUser(PotholeQueryResponseDto.UserDto user) {
+        static final CachedUser NOT_FOUND = new CachedUser(null);
+    }
+
+    private class UserCacheLoader implements CacheLoader<Long, CachedUser> {
+
+        @Override
+        public CachedUser load(Long userId) {
+            return loadUsers(Set.of(userId)).get(userId);
+        }
+
+        @Override
+        public Map<Long, CachedUser> loadAll(Set<? extends Long> userIds) {
+            return loadUsers(userIds);
+        }
+    }
+
+    // 찾은 사용자와 negative 항목의 만료 시간을 다르게 적용
+    private record CachedUserExpiry(Duration ttl, Duration negativeTtl) implements Expiry<Long, CachedUser> {
+
+        @Override
+        public long expireAfterCreate(Long userId, CachedUser cached, long currentTime) {
+            return (cached.user() != null ? ttl : negativeTtl).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(Long userId, CachedUser cached, long currentTime, long currentDuration) {
+            return expireAfterCreate(userId, cached, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long userId, CachedUser cached, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+-- 기존 스키마 (Hibernate ddl-auto 로 만들어지던 pothole_data 테이블)
+-- 이미 테이블이 있는 DB 는 baseline-on-migrate 로 이 버전을 적용된 것으로 보고 V2 부터 실행하므로
+-- 이 파일은 마이그레이션 도입 전 스키마와 정확히 같아야 하며, 이후 추가되는 테이블/컬럼은 V2 이후에서 만듦
+
+CREATE TABLE pothole_data (
+    id               BIGINT       NOT NULL AUTO_INCREMENT,
+    car_id           VARCHAR(255),
+    speed            DOUBLE,
+    location_x       DOUBLE,
+    location_y       DOUBLE,
+    longitude        DOUBLE,
+    latitude         DOUBLE,
+    s3_url           VARCHAR(255),
+    impact_force     DOUBLE,
+    z_axis_vibration DOUBLE,
+    detected_at      VARCHAR(255),
+    status           TINYINT(1),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_pothole_data_unique_fields UNIQUE (car_id, location_x, location_y, detected_at, impact_force)
+) ENGINE = InnoDB;
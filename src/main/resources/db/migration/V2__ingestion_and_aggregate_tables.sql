@@ -0,0 +1,106 @@
+-- 적재 상태/집계 테이블과 pothole_data.geohash 컬럼 추가
+-- 마이그레이션 도입 전 Hibernate ddl-auto 로 일부가 이미 만들어진 DB 가 있으므로 모두 없을 때만 생성
+
+SET @ddl = (SELECT IF(COUNT(*) = 0,
+        'ALTER TABLE pothole_data ADD COLUMN geohash VARCHAR(12)',
+        'DO 0')
+    FROM information_schema.columns
+    WHERE table_schema = DATABASE() AND table_name = 'pothole_data' AND column_name = 'geohash');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = (SELECT IF(COUNT(*) = 0,
+        'CREATE INDEX idx_pothole_data_geohash ON pothole_data (geohash)',
+        'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'pothole_data' AND index_name = 'idx_pothole_data_geohash');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+CREATE TABLE IF NOT EXISTS pothole_cluster (
+    id                   BIGINT NOT NULL AUTO_INCREMENT,
+    cell_key             BIGINT NOT NULL,
+    longitude            DOUBLE NOT NULL,
+    latitude             DOUBLE NOT NULL,
+    hit_count            INT    NOT NULL,
+    max_impact_force     DOUBLE,
+    impact_force_sum     DOUBLE,
+    impact_force_count   INT,
+    max_z_axis_vibration DOUBLE,
+    first_detected_at    VARCHAR(255),
+    last_detected_at     VARCHAR(255),
+    updated_at           DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+SET @ddl = (SELECT IF(COUNT(*) = 0,
+        'CREATE INDEX idx_pothole_cluster_cell_key ON pothole_cluster (cell_key)',
+        'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'pothole_cluster' AND index_name = 'idx_pothole_cluster_cell_key');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+CREATE TABLE IF NOT EXISTS pothole_tile_cell (
+    id               BIGINT      NOT NULL AUTO_INCREMENT,
+    precision_level  INT         NOT NULL,
+    cell             VARCHAR(12) NOT NULL,
+    hit_count        BIGINT      NOT NULL,
+    confirmed_count  BIGINT      NOT NULL,
+    max_impact_force DOUBLE,
+    latitude_sum     DOUBLE      NOT NULL,
+    longitude_sum    DOUBLE      NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_pothole_tile_cell_precision_cell UNIQUE (precision_level, cell)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS ingestion_watermark (
+    source_table      VARCHAR(128) NOT NULL,
+    last_processed_at DATETIME(6)  NOT NULL,
+    updated_at        DATETIME(6)  NOT NULL,
+    PRIMARY KEY (source_table)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS ingestion_checkpoint (
+    job_key            VARCHAR(64)   NOT NULL,
+    where_clause       VARCHAR(1000) NOT NULL,
+    query_execution_id VARCHAR(255)  NOT NULL,
+    status             VARCHAR(16)   NOT NULL,
+    committed_rows     BIGINT        NOT NULL,
+    saved_count        INT           NOT NULL,
+    duplicate_count    INT           NOT NULL,
+    error_count        INT           NOT NULL,
+    attempts           INT           NOT NULL,
+    error_message      VARCHAR(1000),
+    started_at         DATETIME(6)   NOT NULL,
+    updated_at         DATETIME(6)   NOT NULL,
+    PRIMARY KEY (job_key)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS ingestion_lease (
+    lease_key    VARCHAR(128) NOT NULL,
+    owner        VARCHAR(128) NOT NULL,
+    slice_end    DATETIME(6),
+    expires_at   DATETIME(6)  NOT NULL,
+    completed_at DATETIME(6),
+    updated_at   DATETIME(6)  NOT NULL,
+    PRIMARY KEY (lease_key)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS backfill_slice (
+    id                 BIGINT      NOT NULL AUTO_INCREMENT,
+    backfill_id        VARCHAR(64) NOT NULL,
+    slice_date         DATE        NOT NULL,
+    status             VARCHAR(16) NOT NULL,
+    query_execution_id VARCHAR(255),
+    processed_count    INT,
+    duration_ms        BIGINT,
+    error_message      VARCHAR(1000),
+    started_at         DATETIME(6),
+    finished_at        DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_backfill_slice_backfill_date UNIQUE (backfill_id, slice_date)
+) ENGINE = InnoDB;
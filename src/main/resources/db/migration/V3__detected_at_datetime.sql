@@ -0,0 +1,61 @@
+-- detected_at 을 문자열(yyyy-MM-dd)에서 DATETIME(6) 으로 변경해 감지 시각 전체를 저장하고 날짜 범위 조건을 인덱스 범위 검색으로 처리
+-- 기존 값은 해당 날짜 0시로 변환되며, 날짜 형식이 아닌 값은 변환할 수 없으므로 NULL 로 비움
+
+UPDATE pothole_data
+SET detected_at = NULL
+WHERE detected_at IS NOT NULL
+  AND detected_at NOT REGEXP '^[0-9]{4}-[0-9]{2}-[0-9]{2}([ T][0-9]{2}:[0-9]{2}:[0-9]{2}([.][0-9]{1,6})?)?$';
+
+UPDATE pothole_data SET detected_at = REPLACE(detected_at, 'T', ' ') WHERE detected_at LIKE '%T%';
+
+-- 날짜만 저장되던 마지막 날짜 기록
+-- 이 날짜까지의 감지는 0시로 저장되어 있으므로, 적재 시 같은 날짜의 감지 시각을 0시로 맞춰야
+-- 과거 구간을 다시 적재(백필)할 때 유니크 키와 중복 필터가 기존 행과 일치함 (DetectedAtCutoverService)
+CREATE TABLE detected_at_cutover (
+    id                TINYINT NOT NULL,
+    date_only_through DATE,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+INSERT INTO detected_at_cutover (id, date_only_through)
+SELECT 1, MAX(DATE(detected_at))
+FROM pothole_data
+WHERE detected_at REGEXP '^[0-9]{4}-[0-9]{2}-[0-9]{2}$';
+
+ALTER TABLE pothole_data MODIFY COLUMN detected_at DATETIME(6);
+
+UPDATE pothole_cluster
+SET first_detected_at = NULL
+WHERE first_detected_at IS NOT NULL
+  AND first_detected_at NOT REGEXP '^[0-9]{4}-[0-9]{2}-[0-9]{2}([ T][0-9]{2}:[0-9]{2}:[0-9]{2}([.][0-9]{1,6})?)?$';
+
+UPDATE pothole_cluster
+SET last_detected_at = NULL
+WHERE last_detected_at IS NOT NULL
+  AND last_detected_at NOT REGEXP '^[0-9]{4}-[0-9]{2}-[0-9]{2}([ T][0-9]{2}:[0-9]{2}:[0-9]{2}([.][0-9]{1,6})?)?$';
+
+ALTER TABLE pothole_cluster
+    MODIFY COLUMN first_detected_at DATETIME(6),
+    MODIFY COLUMN last_detected_at DATETIME(6);
+
+-- 목록/커서/건수 조회 경로용 복합 인덱스
+--   findByDetectedAtBetween          : detected_at 범위 + (detected_at, id) 정렬
+--   findByDetectedAtBetweenAndStatus : status 동등 조건 + detected_at 범위 + (detected_at, id) 정렬
+-- Hibernate ddl-auto 로 이미 만들어진 DB 가 있으므로 없을 때만 생성
+SET @ddl = (SELECT IF(COUNT(*) = 0,
+        'CREATE INDEX idx_pothole_data_detected_at_id ON pothole_data (detected_at, id)',
+        'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'pothole_data' AND index_name = 'idx_pothole_data_detected_at_id');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = (SELECT IF(COUNT(*) = 0,
+        'CREATE INDEX idx_pothole_data_status_detected_at_id ON pothole_data (status, detected_at, id)',
+        'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'pothole_data' AND index_name = 'idx_pothole_data_status_detected_at_id');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
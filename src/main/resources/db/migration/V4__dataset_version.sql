@@ -0,0 +1,10 @@
+-- 데이터셋 버전 (적재/상태 변경마다 증가, 조회 응답 캐시 무효화에 사용)
+
+CREATE TABLE dataset_version (
+    dataset    VARCHAR(64) NOT NULL,
+    version    BIGINT      NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (dataset)
+) ENGINE = InnoDB;
+
+INSERT INTO dataset_version (dataset, version, updated_at) VALUES ('pothole_data', 0, NOW(6));
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
+import software.amazon.awssdk.services.athena.AthenaAsyncClient;
 import software.amazon.awssdk.services.athena.AthenaClient;
 import software.amazon.awssdk.services.s3.S3Client;
 
@@ -17,6 +18,11 @@ public class TestConfig {
         return mock(AthenaClient.class);
     }
 
+    @Bean
+    public AthenaAsyncClient athenaAsyncClient() {
+        return mock(AthenaAsyncClient.class);
+    }
+
     @Bean
     public S3Client s3Client() {
         return mock(S3Client.class);
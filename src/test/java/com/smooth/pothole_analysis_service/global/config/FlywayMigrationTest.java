@@ -0,0 +1,198 @@
+package com.smooth.pothole_analysis_service.global.config;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 마이그레이션을 실제 MySQL 에 적용해 검증 (H2 는 REGEXP/PREPARE 를 지원하지 않아 Testcontainers 사용, Docker 가 없으면 건너뜀)
+// 운영 DB 와 같은 조건을 만들기 위해 마이그레이션 도입 전 Hibernate 가 만든 스키마를 먼저 만들고 baseline-on-migrate 로 적용
+@Testcontainers(disabledWithoutDocker = true)
+class FlywayMigrationTest {
+
+    private static final String SCHEMA = "pothole_migration";
+
+    // 마이그레이션 도입 전 Hibernate ddl-auto 가 만들던 pothole_data
+    private static final String LEGACY_POTHOLE_DATA = """
+            CREATE TABLE pothole_data (
+                id BIGINT NOT NULL AUTO_INCREMENT,
+                car_id VARCHAR(255),
+                speed DOUBLE,
+                location_x DOUBLE,
+                location_y DOUBLE,
+                longitude DOUBLE,
+                latitude DOUBLE,
+                s3_url VARCHAR(255),
+                impact_force DOUBLE,
+                z_axis_vibration DOUBLE,
+                detected_at VARCHAR(255),
+                status TINYINT(1),
+                PRIMARY KEY (id),
+                CONSTRAINT uk_pothole_data_unique_fields UNIQUE (car_id, location_x, location_y, detected_at, impact_force)
+            ) ENGINE = InnoDB
+            """;
+
+    private static final List<String> SERIES_TABLES = List.of(
+            "pothole_cluster", "pothole_tile_cell", "ingestion_watermark", "ingestion_checkpoint",
+            "ingestion_lease", "backfill_slice", "detected_at_cutover", "dataset_version");
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @BeforeEach
+    void recreateSchema() throws SQLException {
+        try (Connection connection = rootConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("DROP DATABASE IF EXISTS " + SCHEMA);
+            statement.execute("CREATE DATABASE " + SCHEMA);
+        }
+    }
+
+    @Test
+    void emptyDatabaseIsMigratedFromBaseline() throws SQLException {
+        MigrateResult result = migrate();
+
+        assertThat(result.success).isTrue();
+        assertCurrentSchema();
+    }
+
+    @Test
+    void baselinedLegacySchemaIsMigratedToCurrentSchema() throws SQLException {
+        execute(LEGACY_POTHOLE_DATA);
+        execute("INSERT INTO pothole_data (car_id, location_x, location_y, impact_force, detected_at, status) VALUES "
+                + "('car-1', 1.0, 2.0, 3.0, '2025-07-01', 0), "
+                + "('car-2', 1.0, 2.0, 3.0, 'not-a-date', 0)");
+
+        MigrateResult result = migrate();
+
+        assertThat(result.success).isTrue();
+        assertThat(result.initialSchemaVersion).isEqualTo("1");
+        assertCurrentSchema();
+        assertThat(queryDetectedAt("car-1")).isEqualTo(LocalDateTime.of(2025, 7, 1, 0, 0));
+        assertThat(queryDetectedAt("car-2")).isNull();
+        // 날짜만 저장되던 마지막 날짜가 기록되어야 적재 시 같은 날짜의 감지 시각을 0시로 맞춤
+        assertThat(queryStrings("SELECT date_only_through FROM detected_at_cutover WHERE id = 1"))
+                .containsExactly("2025-07-01");
+
+        // 새 컬럼으로 적재 가능한지 확인
+        execute("INSERT INTO pothole_data (car_id, location_x, location_y, impact_force, detected_at, geohash, status) "
+                + "VALUES ('car-3', 1.0, 2.0, 3.0, '2025-07-02 10:15:30.123456', 'wydm9', 0)");
+    }
+
+    @Test
+    void objectsAlreadyCreatedByHibernateAreKept() throws SQLException {
+        // 마이그레이션 도입 전 ddl-auto update 로 일부 컬럼/테이블이 이미 만들어진 DB
+        execute(LEGACY_POTHOLE_DATA);
+        execute("ALTER TABLE pothole_data ADD COLUMN geohash VARCHAR(12)");
+        execute("CREATE INDEX idx_pothole_data_geohash ON pothole_data (geohash)");
+        execute("""
+                CREATE TABLE pothole_cluster (
+                    id BIGINT NOT NULL AUTO_INCREMENT,
+                    cell_key BIGINT NOT NULL,
+                    longitude DOUBLE NOT NULL,
+                    latitude DOUBLE NOT NULL,
+                    hit_count INT NOT NULL,
+                    max_impact_force DOUBLE,
+                    impact_force_sum DOUBLE,
+                    impact_force_count INT,
+                    max_z_axis_vibration DOUBLE,
+                    first_detected_at VARCHAR(255),
+                    last_detected_at VARCHAR(255),
+                    updated_at DATETIME(6),
+                    PRIMARY KEY (id)
+                ) ENGINE = InnoDB
+                """);
+        execute("INSERT INTO pothole_cluster (cell_key, longitude, latitude, hit_count, first_detected_at, last_detected_at) "
+                + "VALUES (1, 127.0, 37.5, 2, '2025-07-01', '2025-07-03')");
+
+        MigrateResult result = migrate();
+
+        assertThat(result.success).isTrue();
+        assertCurrentSchema();
+        assertThat(columnType("pothole_cluster", "last_detected_at")).isEqualTo("datetime");
+    }
+
+    private void assertCurrentSchema() throws SQLException {
+        assertThat(tables()).containsAll(SERIES_TABLES);
+        assertThat(columnType("pothole_data", "geohash")).isEqualTo("varchar");
+        assertThat(columnType("pothole_data", "detected_at")).isEqualTo("datetime");
+        assertThat(indexes("pothole_data")).contains(
+                "idx_pothole_data_geohash", "idx_pothole_data_detected_at_id", "idx_pothole_data_status_detected_at_id");
+        assertThat(indexes("pothole_cluster")).contains("idx_pothole_cluster_cell_key");
+    }
+
+    private MigrateResult migrate() {
+        return Flyway.configure()
+                .dataSource(schemaUrl(), "root", MYSQL.getPassword())
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+    }
+
+    private List<String> tables() throws SQLException {
+        return queryStrings("SELECT table_name FROM information_schema.tables WHERE table_schema = '" + SCHEMA + "'");
+    }
+
+    private List<String> indexes(String table) throws SQLException {
+        return queryStrings("SELECT DISTINCT index_name FROM information_schema.statistics "
+                + "WHERE table_schema = '" + SCHEMA + "' AND table_name = '" + table + "'");
+    }
+
+    private String columnType(String table, String column) throws SQLException {
+        List<String> types = queryStrings("SELECT data_type FROM information_schema.columns WHERE table_schema = '"
+                + SCHEMA + "' AND table_name = '" + table + "' AND column_name = '" + column + "'");
+        return types.isEmpty() ? null : types.get(0).toLowerCase();
+    }
+
+    private LocalDateTime queryDetectedAt(String carId) throws SQLException {
+        try (Connection connection = schemaConnection(); Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(
+                     "SELECT detected_at FROM pothole_data WHERE car_id = '" + carId + "'")) {
+            resultSet.next();
+            return resultSet.getObject(1, LocalDateTime.class);
+        }
+    }
+
+    private List<String> queryStrings(String sql) throws SQLException {
+        List<String> values = new ArrayList<>();
+        try (Connection connection = schemaConnection(); Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            while (resultSet.next()) {
+                values.add(resultSet.getString(1));
+            }
+        }
+        return values;
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Connection connection = schemaConnection(); Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static Connection rootConnection() throws SQLException {
+        return DriverManager.getConnection(MYSQL.getJdbcUrl(), "root", MYSQL.getPassword());
+    }
+
+    private static Connection schemaConnection() throws SQLException {
+        return DriverManager.getConnection(schemaUrl(), "root", MYSQL.getPassword());
+    }
+
+    private static String schemaUrl() {
+        return MYSQL.getJdbcUrl().replace("/" + MYSQL.getDatabaseName(), "/" + SCHEMA);
+    }
+}
@@ -0,0 +1,52 @@
+package com.smooth.pothole_analysis_service.global.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// DecimalParser 결과가 모든 입력에서 Double.parseDouble 과 비트 단위로 같은지 검증
+class DecimalParserTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            // 지수 표기
+            "1e5", "1E-5", "2.5e+10", "7e22", "7e-22", "1.5e23", "3e-23", "1.5e300", "1e-300", "1e400", "1e-400",
+            "12.5e0", "0.5E-0", "1e0010",
+            // 앞자리 0
+            "0007", "0.000123", "000.5e2", "00000000000000000000001", "0.0000000000000000000000001", "0", "0.0", "00.00",
+            // 부호
+            "+1.5", "-1.5", "-0", "-0.0", "+0.0", "-1e-400", "+7e22",
+            // 유효 숫자 15자리 이상
+            "123456789012345", "1234567890123456", "9007199254740991", "9007199254740993", "12345678901234567890",
+            "0.1234567890123456789", "3.141592653589793238", "127.123456789012345", "37.56789012345678901234",
+            "999999999999999999", "1000000000000000000",
+            // 소수점 위치
+            "1.", ".5", "-.5", "126.978",
+            // 앞뒤 공백
+            " 42.5 ", "\t-3.25\n",
+            // Double.parseDouble 로 넘기는 형식
+            "NaN", "-NaN", "Infinity", "-Infinity", "0x1p3", "0x1.8p-2", "1.5d", "2f"
+    })
+    void matchesDoubleParseDouble(String value) {
+        assertThat(Double.doubleToRawLongBits(DecimalParser.parseDouble(value)))
+                .as(value)
+                .isEqualTo(Double.doubleToRawLongBits(Double.parseDouble(value)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "   ", "abc", "1e", "1e+", "--1", "+-1", ".", "-", "1.2.3", "1,5", "1e5.0", "0x"})
+    void rejectsWhatDoubleParseDoubleRejects(String value) {
+        assertThatThrownBy(() -> Double.parseDouble(value)).isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> DecimalParser.parseDouble(value)).isInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    void isBlankIgnoresWhitespace() {
+        assertThat(DecimalParser.isBlank("")).isTrue();
+        assertThat(DecimalParser.isBlank(" \t\n")).isTrue();
+        assertThat(DecimalParser.isBlank(" 0 ")).isFalse();
+    }
+}
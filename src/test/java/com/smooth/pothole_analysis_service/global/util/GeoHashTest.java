@@ -0,0 +1,79 @@
+package com.smooth.pothole_analysis_service.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 지오해시 인코딩, 영역 접두사, 칸 경계 계산 검증
+class GeoHashTest {
+
+    @Test
+    void encodesKnownVector() {
+        assertThat(GeoHash.encode(57.64911, 10.40744, 11)).isEqualTo("u4pruydqqvj");
+        assertThat(GeoHash.encode(57.64911, 10.40744, 5)).isEqualTo("u4pru");
+    }
+
+    @Test
+    void boundsContainEncodedPoint() {
+        double[] cell = GeoHash.bounds("u4pruydqqvj");
+
+        assertThat(cell[0]).isLessThanOrEqualTo(57.64911);
+        assertThat(cell[2]).isGreaterThan(57.64911);
+        assertThat(cell[1]).isLessThanOrEqualTo(10.40744);
+        assertThat(cell[3]).isGreaterThan(10.40744);
+        assertThat(GeoHash.bounds("")).containsExactly(-90.0, -180.0, 90.0, 180.0);
+        // 1자리 칸은 경도 45도 x 위도 45도
+        assertThat(GeoHash.bounds("u")).containsExactly(45.0, 0.0, 90.0, 45.0);
+    }
+
+    @Test
+    void intersectsChecksCellAgainstBox() {
+        assertThat(GeoHash.intersects("u", 50.0, 10.0, 60.0, 20.0)).isTrue();
+        assertThat(GeoHash.intersects("u", 0.0, 10.0, 10.0, 20.0)).isFalse();
+        // 경계가 맞닿은 경우도 겹치는 것으로 봄
+        assertThat(GeoHash.intersects("u", 30.0, 45.0, 45.0, 50.0)).isTrue();
+    }
+
+    @Test
+    void coveringPrefixesCoverTheBoxWithinCellLimit() {
+        double minLat = 37.49, minLon = 126.98, maxLat = 37.51, maxLon = 127.02;
+
+        List<String> prefixes = GeoHash.coveringPrefixes(minLat, minLon, maxLat, maxLon, 16);
+
+        assertThat(prefixes).isNotEmpty().hasSizeLessThanOrEqualTo(16).doesNotHaveDuplicates();
+        int precision = prefixes.get(0).length();
+        assertThat(prefixes).allSatisfy(prefix -> {
+            assertThat(prefix).hasSize(precision);
+            assertThat(GeoHash.intersects(prefix, minLat, minLon, maxLat, maxLon)).isTrue();
+        });
+        assertThat((long) prefixes.size()).isEqualTo(GeoHash.cellCount(minLat, minLon, maxLat, maxLon, precision));
+        // 한 자리 더 길면 칸 수 제한을 넘어야 함 (가장 긴 자릿수 사용)
+        assertThat(GeoHash.cellCount(minLat, minLon, maxLat, maxLon, precision + 1)).isGreaterThan(16);
+
+        for (double lat = minLat; lat <= maxLat; lat += 0.005) {
+            for (double lon = minLon; lon <= maxLon; lon += 0.005) {
+                String stored = GeoHash.encode(lat, lon, GeoHash.STORED_PRECISION);
+                assertThat(prefixes).anySatisfy(prefix -> assertThat(stored).startsWith(prefix));
+            }
+        }
+    }
+
+    @Test
+    void coveringPrefixesFallBackToSingleCharacterCells() {
+        List<String> prefixes = GeoHash.coveringPrefixes(-90.0, -180.0, 90.0, 180.0, 16);
+
+        assertThat(prefixes).hasSize(32).allSatisfy(prefix -> assertThat(prefix).hasSize(1));
+    }
+
+    @Test
+    void prefixUpperBoundIsAboveEveryHashWithThePrefix() {
+        String upperBound = GeoHash.prefixUpperBound("wydm");
+
+        assertThat("wydm").isLessThan(upperBound);
+        assertThat("wydmzzzzz").isLessThan(upperBound);
+        assertThat("wydn").isGreaterThan(upperBound);
+        assertThat(GeoHash.encode(37.5665, 126.978, GeoHash.STORED_PRECISION)).startsWith("wydm");
+    }
+}
@@ -0,0 +1,81 @@
+package com.smooth.pothole_analysis_service.pothole.controller;
+
+import com.smooth.pothole_analysis_service.TestConfig;
+import com.smooth.pothole_analysis_service.pothole.entity.PotholeData;
+import com.smooth.pothole_analysis_service.pothole.repository.PotholeDataRepository;
+import com.smooth.pothole_analysis_service.pothole.service.DatasetVersionService;
+import com.smooth.pothole_analysis_service.pothole.service.PotholeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 조회 API 의 ETag 가 데이터셋 워터마크를 따라 바뀌고, 같은 ETag 로 다시 요청하면 304 로 응답하는지 검증
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+class ConditionalGetTest {
+
+    private static final String ALL_DATA_URL = "/api/pothole/data/all?start=2025-10-01&end=2025-10-31";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PotholeDataRepository repository;
+
+    @Autowired
+    private PotholeService potholeService;
+
+    @Autowired
+    private DatasetVersionService datasetVersionService;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAllInBatch();
+        datasetVersionService.bump();
+    }
+
+    @Test
+    void unchangedDataIsAnsweredWithNotModified() throws Exception {
+        PotholeData saved = repository.save(PotholeData.builder()
+                .locationX(1.0)
+                .locationY(1.0)
+                .impactForce(1.0)
+                .detectedAt(LocalDateTime.of(2025, 10, 1, 9, 0))
+                .status(false)
+                .build());
+
+        String eTag = mockMvc.perform(get(ALL_DATA_URL))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).isNotBlank();
+
+        mockMvc.perform(get(ALL_DATA_URL).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+
+        // 상태 변경으로 버전이 오르면 새 ETag 와 함께 다시 조회
+        potholeService.confirmPothole("p-" + saved.getId());
+        String changedETag = mockMvc.perform(get(ALL_DATA_URL).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(changedETag).isNotEqualTo(eTag);
+    }
+}
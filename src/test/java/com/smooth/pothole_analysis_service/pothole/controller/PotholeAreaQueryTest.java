@@ -0,0 +1,134 @@
+package com.smooth.pothole_analysis_service.pothole.controller;
+
+import com.smooth.pothole_analysis_service.TestConfig;
+import com.smooth.pothole_analysis_service.global.util.GeoHash;
+import com.smooth.pothole_analysis_service.pothole.entity.PotholeData;
+import com.smooth.pothole_analysis_service.pothole.repository.PotholeDataRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 영역 조회 API(/data/area) 의 사각 범위/반경 조건 검증
+// 반경 조회는 DB 의 근사 거리 조건을 통과했지만 실제 거리로는 반경 밖인 행을 건너뛰고 limit 건을 채워야 함
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+class PotholeAreaQueryTest {
+
+    private static final String AREA_URL = "/api/pothole/data/area";
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+    private static final double CENTER_LAT = 37.5;
+    private static final double CENTER_LON = 127.0;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PotholeDataRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAllInBatch();
+    }
+
+    @Test
+    void boundingBoxReturnsOnlyRowsInsideTheBox() throws Exception {
+        PotholeData inside = save(37.505, 127.005, 1);
+        PotholeData onEdge = save(37.51, 127.01, 2);
+        save(37.52, 127.005, 3);
+        save(37.505, 126.98, 4);
+
+        mockMvc.perform(get(AREA_URL).param("bbox", "126.99,37.49,127.01,37.51"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[*].potholeId")
+                        .value(containsInAnyOrder(potholeId(inside), potholeId(onEdge))));
+    }
+
+    @Test
+    void radiusExcludesBoxCornersAndOrdersByDetection() throws Exception {
+        PotholeData north = save(CENTER_LAT + metersToLatDegrees(500), CENTER_LON, 1);
+        PotholeData center = save(CENTER_LAT, CENTER_LON, 2);
+        // 사각 범위 안이지만 모서리라 반경(1km) 밖 - 약 1.25km
+        save(CENTER_LAT + metersToLatDegrees(890), CENTER_LON + 0.01, 3);
+        save(CENTER_LAT + metersToLatDegrees(2_000), CENTER_LON, 4);
+
+        mockMvc.perform(get(AREA_URL)
+                        .param("lat", String.valueOf(CENTER_LAT))
+                        .param("lon", String.valueOf(CENTER_LON))
+                        .param("radius", "1000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[*].potholeId").value(contains(potholeId(center), potholeId(north))));
+    }
+
+    @Test
+    void radiusKeepsFetchingUntilLimitRowsAreWithinDistance() throws Exception {
+        PotholeData within = save(CENTER_LAT + metersToLatDegrees(990), CENTER_LON, 1);
+        // 근사 거리 여유(1%) 안이라 DB 조건은 통과하지만 실제 거리는 반경 밖, 더 최근 감지
+        save(CENTER_LAT + metersToLatDegrees(1_004), CENTER_LON, 2);
+        save(CENTER_LAT - metersToLatDegrees(1_006), CENTER_LON, 3);
+
+        mockMvc.perform(get(AREA_URL)
+                        .param("lat", String.valueOf(CENTER_LAT))
+                        .param("lon", String.valueOf(CENTER_LON))
+                        .param("radius", "1000")
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[*].potholeId").value(contains(potholeId(within))));
+    }
+
+    @Test
+    void radiusAboveLimitIsRejected() throws Exception {
+        mockMvc.perform(get(AREA_URL)
+                        .param("lat", String.valueOf(CENTER_LAT))
+                        .param("lon", String.valueOf(CENTER_LON))
+                        .param("radius", "50001"))
+                .andExpect(status().is4xxClientError());
+    }
+
+    @Test
+    void boundingBoxWiderThanPrefixCapIsRejected() throws Exception {
+        mockMvc.perform(get(AREA_URL).param("bbox", "126.0,37.0,128.5,38.5"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void malformedDateIsRejectedAsBadRequest() throws Exception {
+        mockMvc.perform(get(AREA_URL).param("bbox", "126.99,37.49,127.01,37.51").param("start", "2025/10/01"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private PotholeData save(double latitude, double longitude, int hour) {
+        return repository.save(PotholeData.builder()
+                .locationX(longitude)
+                .locationY(latitude)
+                .latitude(latitude)
+                .longitude(longitude)
+                .geohash(GeoHash.encode(latitude, longitude, GeoHash.STORED_PRECISION))
+                .impactForce(1.0)
+                .detectedAt(LocalDateTime.of(2025, 10, 1, hour, 0))
+                .status(false)
+                .build());
+    }
+
+    private static double metersToLatDegrees(double meters) {
+        return Math.toDegrees(meters / EARTH_RADIUS_METERS);
+    }
+
+    private static String potholeId(PotholeData data) {
+        return "p-" + data.getId();
+    }
+}
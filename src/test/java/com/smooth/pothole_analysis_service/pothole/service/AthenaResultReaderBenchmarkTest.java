@@ -0,0 +1,248 @@
+package com.smooth.pothole_analysis_service.pothole.service;
+
+import com.smooth.pothole_analysis_service.pothole.dto.PotholeRecordBatch;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.athena.AthenaClient;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Athena 결과 조회 방식(API / S3 CSV) 처리량 비교 (./gradlew benchmark 로 실행)
+// 로컬 HTTP 서버가 S3 GetObject 와 Athena GetQueryResults/GetQueryExecution 응답을 흉내내며,
+// 실제 SDK 클라이언트의 요청/역직렬화 경로를 그대로 거침
+@Tag("benchmark")
+class AthenaResultReaderBenchmarkTest {
+
+    private static final int ROW_COUNT = 100_000;
+    private static final int PAGE_SIZE = 1_000;
+    private static final int CHUNK_SIZE = 1_000;
+    private static final int WARMUP_ITERATIONS = 2;
+    private static final int MEASURED_ITERATIONS = 5;
+    private static final String QUERY_EXECUTION_ID = "benchmark-query";
+    private static final String[] COLUMNS =
+            {"carid", "speed", "locationx", "locationy", "s3url", "impactforce", "zaxisvibration", "timestamp"};
+    private static final Pattern NEXT_TOKEN = Pattern.compile("\"NextToken\"\\s*:\\s*\"(\\d+)\"");
+
+    private HttpServer server;
+    private byte[] csvObject;
+    private List<byte[]> resultPages;
+    private AthenaQueryService athenaQueryService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        List<String[]> rows = generateRows();
+        csvObject = toCsv(rows);
+        resultPages = toResultPages(rows);
+
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+
+        URI endpoint = URI.create("http://localhost:" + server.getAddress().getPort());
+        StaticCredentialsProvider credentials =
+                StaticCredentialsProvider.create(AwsBasicCredentials.create("dummy", "dummy"));
+
+        AthenaClient athenaClient = AthenaClient.builder()
+                .endpointOverride(endpoint)
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(credentials)
+                .build();
+        S3Client s3Client = S3Client.builder()
+                .endpointOverride(endpoint)
+                .forcePathStyle(true)
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(credentials)
+                .build();
+
+        athenaQueryService = new AthenaQueryService(athenaClient, null, s3Client);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void compareApiAndS3ResultReaders() {
+        long apiChecksum = checksum(AthenaResultReaderMode.API);
+        long s3Checksum = checksum(AthenaResultReaderMode.S3);
+        assertThat(s3Checksum).isEqualTo(apiChecksum);
+
+        double apiRowsPerSecond = measure(AthenaResultReaderMode.API);
+        double s3RowsPerSecond = measure(AthenaResultReaderMode.S3);
+
+        System.out.printf("[benchmark] %d rows - API: %.0f rows/s, S3 CSV: %.0f rows/s (x%.1f)%n",
+                ROW_COUNT, apiRowsPerSecond, s3RowsPerSecond, s3RowsPerSecond / apiRowsPerSecond);
+    }
+
+    private double measure(AthenaResultReaderMode mode) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            checksum(mode);
+        }
+
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            checksum(mode);
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        return (double) ROW_COUNT * MEASURED_ITERATIONS / (elapsedNanos / 1_000_000_000.0);
+    }
+
+    // 두 방식이 같은 내용을 읽었는지 비교하기 위한 행 해시 합계
+    private long checksum(AthenaResultReaderMode mode) {
+        long[] checksum = new long[1];
+        long rows = athenaQueryService.streamQueryResults(QUERY_EXECUTION_ID, CHUNK_SIZE, batch -> {
+            for (int row = 0; row < batch.size(); row++) {
+                checksum[0] = checksum[0] * 31 + rowHash(batch, row);
+            }
+        }, mode);
+        assertThat(rows).isEqualTo(ROW_COUNT);
+        return checksum[0];
+    }
+
+    private long rowHash(PotholeRecordBatch batch, int row) {
+        long hash = Objects.hash(batch.getCarId(row), batch.getS3Url(row));
+        hash = hash * 31 + (batch.hasDetectedAt(row) ? Long.hashCode(batch.getDetectedAtMicros(row)) : -1);
+        for (int column : new int[]{PotholeRecordBatch.SPEED, PotholeRecordBatch.LOCATION_X,
+                PotholeRecordBatch.LOCATION_Y, PotholeRecordBatch.IMPACT_FORCE, PotholeRecordBatch.Z_AXIS_VIBRATION}) {
+            hash = hash * 31 + (batch.hasNumber(column, row) ? Double.hashCode(batch.getNumber(column, row)) : -1);
+        }
+        return hash;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        byte[] body;
+        String contentType;
+
+        if ("GET".equals(exchange.getRequestMethod())) {
+            body = csvObject;
+            contentType = "text/csv";
+        } else {
+            String target = exchange.getRequestHeaders().getFirst("X-Amz-Target");
+            String request = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            contentType = "application/x-amz-json-1.1";
+
+            if (target.endsWith("GetQueryExecution")) {
+                body = ("{\"QueryExecution\":{\"QueryExecutionId\":\"" + QUERY_EXECUTION_ID + "\","
+                        + "\"ResultConfiguration\":{\"OutputLocation\":\"s3://benchmark-bucket/results/"
+                        + QUERY_EXECUTION_ID + ".csv\"},\"Status\":{\"State\":\"SUCCEEDED\"}}}")
+                        .getBytes(StandardCharsets.UTF_8);
+            } else {
+                Matcher matcher = NEXT_TOKEN.matcher(request);
+                int page = matcher.find() ? Integer.parseInt(matcher.group(1)) : 0;
+                body = resultPages.get(page);
+            }
+        }
+
+        exchange.getResponseHeaders().add("Content-Type", contentType);
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private List<String[]> generateRows() {
+        List<String[]> rows = new ArrayList<>(ROW_COUNT);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            rows.add(new String[]{
+                    String.valueOf(i % 50 + 1),
+                    String.valueOf(30 + i % 40),
+                    String.valueOf(i * 0.5),
+                    String.valueOf(i * 0.25),
+                    i % 10 == 0 ? null : "s3://bucket/images/\"" + i + "\".jpg",
+                    String.valueOf(1.5 + (i % 100) / 10.0),
+                    String.valueOf(0.5 + (i % 30) / 10.0),
+                    timestamp(i)
+            });
+        }
+        return rows;
+    }
+
+    // 행마다 다른 감지 시각 (2025-08-27 부터 3.5초 간격, 밀리초 포함)
+    private static String timestamp(int i) {
+        long millis = i * 3_500L + i % 1_000;
+        long seconds = millis / 1_000;
+        return String.format("2025-08-%02d %02d:%02d:%02d.%03d", 27 + seconds / 86_400,
+                seconds / 3_600 % 24, seconds / 60 % 60, seconds % 60, millis % 1_000);
+    }
+
+    // Athena 결과 CSV 형식 - 값은 큰따옴표로 감싸고, NULL 은 따옴표 없는 빈 값
+    private byte[] toCsv(List<String[]> rows) {
+        StringBuilder csv = new StringBuilder(rows.size() * 160);
+        appendCsvRecord(csv, COLUMNS);
+        for (String[] row : rows) {
+            appendCsvRecord(csv, row);
+        }
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void appendCsvRecord(StringBuilder csv, String[] values) {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                csv.append(',');
+            }
+            if (values[i] != null) {
+                csv.append('"').append(values[i].replace("\"", "\"\"")).append('"');
+            }
+        }
+        csv.append('\n');
+    }
+
+    // GetQueryResults 응답 페이지 - 첫 페이지 첫 행은 헤더
+    private List<byte[]> toResultPages(List<String[]> rows) {
+        List<String[]> allRows = new ArrayList<>(rows.size() + 1);
+        allRows.add(COLUMNS);
+        allRows.addAll(rows);
+
+        List<byte[]> pages = new ArrayList<>();
+        for (int from = 0; from < allRows.size(); from += PAGE_SIZE) {
+            int to = Math.min(from + PAGE_SIZE, allRows.size());
+            StringBuilder json = new StringBuilder("{\"ResultSet\":{\"Rows\":[");
+            for (int i = from; i < to; i++) {
+                if (i > from) {
+                    json.append(',');
+                }
+                json.append("{\"Data\":[");
+                String[] values = allRows.get(i);
+                for (int j = 0; j < values.length; j++) {
+                    if (j > 0) {
+                        json.append(',');
+                    }
+                    if (values[j] == null) {
+                        json.append("{}");
+                    } else {
+                        json.append("{\"VarCharValue\":\"").append(values[j].replace("\"", "\\\"")).append("\"}");
+                    }
+                }
+                json.append("]}");
+            }
+            json.append("],\"ResultSetMetadata\":{\"ColumnInfo\":[]}}");
+            if (to < allRows.size()) {
+                json.append(",\"NextToken\":\"").append(pages.size() + 1).append('"');
+            }
+            json.append('}');
+            pages.add(json.toString().getBytes(StandardCharsets.UTF_8));
+        }
+        return pages;
+    }
+}
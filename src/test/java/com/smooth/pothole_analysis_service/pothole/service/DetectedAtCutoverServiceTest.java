@@ -0,0 +1,85 @@
+package com.smooth.pothole_analysis_service.pothole.service;
+
+import com.smooth.pothole_analysis_service.TestConfig;
+import com.smooth.pothole_analysis_service.pothole.dto.PotholeRecordBatch;
+import com.smooth.pothole_analysis_service.pothole.dto.SaveResultDto;
+import com.smooth.pothole_analysis_service.pothole.entity.DetectedAtCutover;
+import com.smooth.pothole_analysis_service.pothole.entity.PotholeData;
+import com.smooth.pothole_analysis_service.pothole.repository.DetectedAtCutoverRepository;
+import com.smooth.pothole_analysis_service.pothole.repository.PotholeDataRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 마이그레이션 전(날짜만 저장하던) 기간을 다시 적재할 때 기존 행과 중복으로 판별되는지 검증
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+class DetectedAtCutoverServiceTest {
+
+    @Autowired
+    private PotholeService potholeService;
+
+    @Autowired
+    private PotholeDataRepository repository;
+
+    @Autowired
+    private DetectedAtCutoverRepository cutoverRepository;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAllInBatch();
+        cutoverRepository.save(DetectedAtCutover.builder()
+                .id(DetectedAtCutover.ID)
+                .dateOnlyThrough(LocalDate.of(2025, 7, 1))
+                .build());
+        // 마이그레이션으로 0시가 된 기존 행
+        repository.save(PotholeData.builder()
+                .carId("car-1")
+                .locationX(1.0)
+                .locationY(2.0)
+                .impactForce(3.0)
+                .detectedAt(LocalDateTime.of(2025, 7, 1, 0, 0))
+                .status(false)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        cutoverRepository.deleteAllInBatch();
+        repository.deleteAllInBatch();
+    }
+
+    @Test
+    void reingestedLegacyDetectionIsDuplicateAndNewerDetectionKeepsTime() {
+        PotholeRecordBatch batch = new PotholeRecordBatch(2);
+        addRow(batch, LocalDateTime.of(2025, 7, 1, 10, 15, 30));
+        addRow(batch, LocalDateTime.of(2025, 7, 2, 10, 15, 30));
+
+        SaveResultDto result = potholeService.saveQueryResults("cutover", batch, potholeService.newDuplicateKeyFilter());
+
+        assertThat(result.getDuplicateCount()).isEqualTo(1);
+        assertThat(result.getSavedCount()).isEqualTo(1);
+        assertThat(repository.findAll())
+                .extracting(PotholeData::getDetectedAt)
+                .containsExactlyInAnyOrder(LocalDateTime.of(2025, 7, 1, 0, 0), LocalDateTime.of(2025, 7, 2, 10, 15, 30));
+    }
+
+    private static void addRow(PotholeRecordBatch batch, LocalDateTime detectedAt) {
+        int row = batch.addRow();
+        batch.setCarId(row, "car-1");
+        batch.setNumber(PotholeRecordBatch.LOCATION_X, row, 1.0);
+        batch.setNumber(PotholeRecordBatch.LOCATION_Y, row, 2.0);
+        batch.setNumber(PotholeRecordBatch.IMPACT_FORCE, row, 3.0);
+        batch.setDetectedAt(row, detectedAt);
+    }
+}
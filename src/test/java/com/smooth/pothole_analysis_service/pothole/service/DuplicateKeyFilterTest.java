@@ -0,0 +1,146 @@
+package com.smooth.pothole_analysis_service.pothole.service;
+
+import com.smooth.pothole_analysis_service.TestConfig;
+import com.smooth.pothole_analysis_service.pothole.dto.PotholeRecordBatch;
+import com.smooth.pothole_analysis_service.pothole.dto.SaveResultDto;
+import com.smooth.pothole_analysis_service.pothole.repository.PotholeClusterRepository;
+import com.smooth.pothole_analysis_service.pothole.repository.PotholeDataRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 중복 사전 필터가 실제로 저장(커밋)된 행만 중복으로 기억하는지 검증
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+class DuplicateKeyFilterTest {
+
+    private static final LocalDateTime DETECTED_AT = LocalDateTime.of(2025, 9, 1, 8, 30);
+
+    @Autowired
+    private PotholeService potholeService;
+
+    @Autowired
+    private PotholeDataRepository repository;
+
+    @Autowired
+    private PotholeClusterRepository clusterRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAllInBatch();
+        clusterRepository.deleteAllInBatch();
+        jdbcTemplate.update("DELETE FROM pothole_tile_cell");
+    }
+
+    @Test
+    void rowsOfRolledBackChunkAreSavedOnRetry() {
+        DuplicateKeyFilter filter = potholeService.newDuplicateKeyFilter();
+        PotholeRecordBatch batch = batch("car-1", "car-2");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            potholeService.saveQueryResults("rollback", batch, filter, IngestWriteMode.BULK);
+            status.setRollbackOnly();
+        });
+        assertThat(repository.count()).isZero();
+
+        SaveResultDto retry = potholeService.saveQueryResults("rollback", batch, filter, IngestWriteMode.BULK);
+
+        assertThat(retry.getSavedCount()).isEqualTo(2);
+        assertThat(retry.getDuplicateCount()).isZero();
+        assertThat(repository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void committedRowsAndRepeatsWithinChunkAreDuplicates() {
+        DuplicateKeyFilter filter = potholeService.newDuplicateKeyFilter();
+
+        SaveResultDto first = potholeService.saveQueryResults("commit", batch("car-1", "car-1"), filter, IngestWriteMode.BULK);
+        SaveResultDto second = potholeService.saveQueryResults("commit", batch("car-1", "car-2"), filter, IngestWriteMode.BULK);
+
+        assertThat(first.getSavedCount()).isEqualTo(1);
+        assertThat(first.getDuplicateCount()).isEqualTo(1);
+        assertThat(second.getSavedCount()).isEqualTo(1);
+        assertThat(second.getDuplicateCount()).isEqualTo(1);
+        assertThat(repository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void failedRowIsNotRememberedAsDuplicate() {
+        DuplicateKeyFilter filter = potholeService.newDuplicateKeyFilter();
+        // car_id(VARCHAR(255)) 길이를 넘는 행은 저장 실패
+        String tooLongCarId = "c".repeat(300);
+        PotholeRecordBatch batch = batch("car-1", tooLongCarId);
+
+        SaveResultDto result = potholeService.saveQueryResults("failed", batch, filter, IngestWriteMode.BULK);
+
+        assertThat(result.getSavedCount()).isEqualTo(1);
+        assertThat(result.getErrorCount()).isEqualTo(1);
+
+        PotholeRecordBatch next = batch("car-1", tooLongCarId);
+        filter.preload(next);
+        assertThat(filter.mayExist(next, 0)).isTrue();
+        assertThat(filter.mayExist(next, 1)).isFalse();
+    }
+
+    @Test
+    void filterHitMissingFromDatabaseIsSaved() {
+        DuplicateKeyFilter filter = potholeService.newDuplicateKeyFilter();
+        potholeService.saveQueryResults("stale", batch("car-1"), filter, IngestWriteMode.BULK);
+        // 필터는 car-1 을 저장된 키로 기억하지만 DB 에는 없는 상황 (지문 충돌, 다른 인스턴스의 롤백 등)
+        repository.deleteAllInBatch();
+
+        SaveResultDto result = potholeService.saveQueryResults("stale", batch("car-1", "car-2"), filter, IngestWriteMode.BULK);
+
+        assertThat(result.getSavedCount()).isEqualTo(2);
+        assertThat(result.getDuplicateCount()).isZero();
+        assertThat(repository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void rowsSavedByOverlappingIngestAreNotAggregatedTwice() {
+        // 이 적재가 날짜의 기존 키를 불러온 뒤 겹치는 다른 적재가 car-1 을 먼저 저장
+        DuplicateKeyFilter filter = potholeService.newDuplicateKeyFilter();
+        filter.preload(batch("car-1"));
+        potholeService.saveQueryResults("other", batch("car-1"), potholeService.newDuplicateKeyFilter(), IngestWriteMode.BULK);
+
+        SaveResultDto result = potholeService.saveQueryResults("overlap", batch("car-1", "car-2"), filter, IngestWriteMode.BULK);
+
+        assertThat(result.getSavedCount()).isEqualTo(1);
+        assertThat(result.getDuplicateCount()).isEqualTo(1);
+        assertThat(repository.count()).isEqualTo(2);
+        // 군집/타일 집계에는 저장된 두 행만 한 번씩 반영
+        assertThat(jdbcTemplate.queryForObject("SELECT SUM(hit_count) FROM pothole_cluster", Long.class)).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT SUM(hit_count) FROM pothole_tile_cell WHERE precision_level = ?", Long.class,
+                PotholeTileService.MIN_PRECISION)).isEqualTo(2);
+    }
+
+    private static PotholeRecordBatch batch(String... carIds) {
+        PotholeRecordBatch batch = new PotholeRecordBatch(carIds.length);
+        for (String carId : carIds) {
+            int row = batch.addRow();
+            batch.setCarId(row, carId);
+            batch.setNumber(PotholeRecordBatch.LOCATION_X, row, 10.0);
+            batch.setNumber(PotholeRecordBatch.LOCATION_Y, row, 20.0);
+            batch.setNumber(PotholeRecordBatch.IMPACT_FORCE, row, 3.0);
+            batch.setDetectedAt(row, DETECTED_AT);
+        }
+        return batch;
+    }
+}
@@ -0,0 +1,173 @@
+package com.smooth.pothole_analysis_service.pothole.service;
+
+import com.smooth.pothole_analysis_service.TestConfig;
+import com.smooth.pothole_analysis_service.global.exception.BusinessException;
+import com.smooth.pothole_analysis_service.pothole.dto.PotholeRecordBatch;
+import com.smooth.pothole_analysis_service.pothole.dto.SaveResultDto;
+import com.smooth.pothole_analysis_service.pothole.entity.IngestionCheckpoint;
+import com.smooth.pothole_analysis_service.pothole.exception.PotholeErrorCode;
+import com.smooth.pothole_analysis_service.pothole.repository.IngestionCheckpointRepository;
+import com.smooth.pothole_analysis_service.pothole.repository.IngestionLeaseRepository;
+import com.smooth.pothole_analysis_service.pothole.repository.PotholeDataRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.services.athena.model.QueryExecution;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+// 적재 체크포인트의 재개/초기화, 청크 롤백, 재개 횟수 제한과 같은 조건의 동시 적재 차단 검증
+@SpringBootTest(properties = "pothole.ingest.checkpoint.max-resume-attempts=3")
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+class IngestionCheckpointServiceTest {
+
+    private static final String WHERE_CLAUSE = "\"timestamp\" >= '2025-09-01 00:00:00' AND \"timestamp\" < '2025-09-02 00:00:00'";
+
+    @Autowired
+    private IngestionCheckpointService checkpointService;
+
+    @Autowired
+    private IngestionCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private DataProcessingService dataProcessingService;
+
+    @Autowired
+    private PotholeService potholeService;
+
+    @Autowired
+    private PotholeDataRepository potholeDataRepository;
+
+    @Autowired
+    private IngestionLeaseRepository leaseRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        checkpointRepository.deleteAllInBatch();
+        potholeDataRepository.deleteAllInBatch();
+        jdbcTemplate.update("DELETE FROM ingestion_lease");
+    }
+
+    @Test
+    void failedRunResumesFromCommittedRowsOfSameQuery() {
+        String jobKey = checkpointService.start(WHERE_CLAUSE, "query-1").getJobKey();
+        commitChunk(jobKey, 1_000, new SaveResultDto(900, 100, 0));
+        checkpointService.fail(jobKey, "중단");
+
+        IngestionCheckpoint resumable = checkpointService.findResumable(WHERE_CLAUSE).orElseThrow();
+        assertThat(resumable.getQueryExecutionId()).isEqualTo("query-1");
+        assertThat(resumable.getCommittedRows()).isEqualTo(1_000);
+
+        IngestionCheckpoint resumed = checkpointService.start(WHERE_CLAUSE, "query-1");
+        assertThat(resumed.getCommittedRows()).isEqualTo(1_000);
+        assertThat(resumed.getSavedCount()).isEqualTo(900);
+        assertThat(resumed.getDuplicateCount()).isEqualTo(100);
+        assertThat(resumed.getAttempts()).isEqualTo(2);
+    }
+
+    @Test
+    void newQueryStartsFromTheBeginning() {
+        String jobKey = checkpointService.start(WHERE_CLAUSE, "query-1").getJobKey();
+        commitChunk(jobKey, 1_000, new SaveResultDto(1_000, 0, 0));
+        checkpointService.fail(jobKey, "중단");
+
+        IngestionCheckpoint restarted = checkpointService.start(WHERE_CLAUSE, "query-2");
+
+        assertThat(restarted.getCommittedRows()).isZero();
+        assertThat(restarted.getSavedCount()).isZero();
+        assertThat(restarted.getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    void completedCheckpointIsNotResumed() {
+        String jobKey = checkpointService.start(WHERE_CLAUSE, "query-1").getJobKey();
+        checkpointService.complete(jobKey);
+
+        assertThat(checkpointService.findResumable(WHERE_CLAUSE)).isEmpty();
+    }
+
+    @Test
+    void rolledBackChunkLeavesNoRowsAndNoProgress() {
+        String jobKey = checkpointService.start(WHERE_CLAUSE, "query-1").getJobKey();
+        commitChunk(jobKey, 1, new SaveResultDto(1, 0, 0));
+        PotholeRecordBatch batch = new PotholeRecordBatch(1);
+        int row = batch.addRow();
+        batch.setCarId(row, "car-1");
+        batch.setNumber(PotholeRecordBatch.LOCATION_X, row, 1.0);
+        batch.setNumber(PotholeRecordBatch.LOCATION_Y, row, 2.0);
+        batch.setNumber(PotholeRecordBatch.IMPACT_FORCE, row, 3.0);
+        batch.setDetectedAt(row, LocalDateTime.of(2025, 9, 1, 9, 0));
+
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            SaveResultDto result = potholeService.saveQueryResults("query-1", batch, potholeService.newDuplicateKeyFilter());
+            checkpointService.recordChunk(jobKey, batch.size(), result);
+            throw new IllegalStateException("청크 커밋 전 실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(potholeDataRepository.count()).isZero();
+        IngestionCheckpoint checkpoint = checkpointRepository.findById(jobKey).orElseThrow();
+        assertThat(checkpoint.getCommittedRows()).isEqualTo(1);
+        assertThat(checkpoint.getSavedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void checkpointIsNotResumedAfterMaxAttempts() {
+        for (int attempt = 1; attempt <= 3; attempt++) {
+            String jobKey = checkpointService.start(WHERE_CLAUSE, "query-1").getJobKey();
+            checkpointService.fail(jobKey, "중단");
+            if (attempt < 3) {
+                assertThat(checkpointService.findResumable(WHERE_CLAUSE)).isPresent();
+            }
+        }
+
+        assertThat(checkpointService.findResumable(WHERE_CLAUSE)).isEmpty();
+    }
+
+    @Test
+    void sameConditionRunningOnAnotherInstanceIsRejected() {
+        String leaseKey = DataProcessingService.checkpointLeaseKey(IngestionCheckpointService.jobKey(WHERE_CLAUSE));
+        IngestionLeaseService otherInstance = new IngestionLeaseService(leaseRepository, "other-instance", 300, 60_000);
+        assertThat(otherInstance.tryAcquire(leaseKey)).isTrue();
+
+        assertThatThrownBy(() -> dataProcessingService.saveQueryResultsToRds(WHERE_CLAUSE,
+                QueryExecution.builder().queryExecutionId("query-1").build(), IngestProgressListener.NONE))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(PotholeErrorCode.INGESTION_ALREADY_RUNNING);
+        // 체크포인트를 건드리지 않음
+        assertThat(checkpointRepository.findById(IngestionCheckpointService.jobKey(WHERE_CLAUSE))).isEmpty();
+    }
+
+    @Test
+    void checkpointLeaseIsReleasedWhenRunEnds() throws InterruptedException {
+        // Athena 클라이언트는 목이라 결과 조회 단계에서 실패하거나 빈 결과로 끝남 - 어느 쪽이든 임대는 반환되어야 함
+        catchThrowable(() -> dataProcessingService.saveQueryResultsToRds(WHERE_CLAUSE,
+                QueryExecution.builder().queryExecutionId("query-1").build(), IngestProgressListener.NONE));
+
+        // 반환된 임대는 만료 시각이 반환 시점이므로 시계가 넘어간 뒤 다른 인스턴스가 가져감
+        Thread.sleep(10);
+        String leaseKey = DataProcessingService.checkpointLeaseKey(IngestionCheckpointService.jobKey(WHERE_CLAUSE));
+        IngestionLeaseService otherInstance = new IngestionLeaseService(leaseRepository, "other-instance", 300, 60_000);
+        assertThat(otherInstance.tryAcquire(leaseKey)).isTrue();
+    }
+
+    private void commitChunk(String jobKey, int rows, SaveResultDto result) {
+        transactionTemplate.executeWithoutResult(status -> checkpointService.recordChunk(jobKey, rows, result));
+    }
+}
@@ -0,0 +1,178 @@
+package com.smooth.pothole_analysis_service.pothole.service;
+
+import com.smooth.pothole_analysis_service.TestConfig;
+import com.smooth.pothole_analysis_service.pothole.repository.IngestionLeaseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 여러 인스턴스가 같은 DB 로 구간 임대를 경쟁하는 상황 검증 (인스턴스마다 소유자 ID 가 다른 서비스를 직접 생성)
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+class IngestionLeaseServiceTest {
+
+    @Autowired
+    private IngestionLeaseRepository leaseRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM ingestion_lease");
+    }
+
+    @Test
+    void onlyOneInstanceAcquiresLease() {
+        IngestionLeaseService first = instance("instance-a", 300);
+        IngestionLeaseService second = instance("instance-b", 300);
+
+        assertThat(first.tryAcquire("test:slice-1")).isTrue();
+        assertThat(second.tryAcquire("test:slice-1")).isFalse();
+        // 자신이 가진 임대는 다시 획득(연장) 가능
+        assertThat(first.tryAcquire("test:slice-1")).isTrue();
+    }
+
+    @Test
+    void expiredLeaseCanBeTakenOver() throws InterruptedException {
+        IngestionLeaseService crashed = instance("instance-a", 0);
+        IngestionLeaseService survivor = instance("instance-b", 300);
+
+        assertThat(crashed.tryAcquire("test:slice-1")).isTrue();
+        Thread.sleep(20);
+
+        assertThat(survivor.tryAcquire("test:slice-1")).isTrue();
+        assertThat(survivor.find("test:slice-1")).get()
+                .extracting(lease -> lease.getOwner())
+                .isEqualTo("instance-b");
+    }
+
+    @Test
+    void releasedLeaseIsClaimableAndCompletedLeaseIsNot() {
+        IngestionLeaseService first = instance("instance-a", 300);
+        IngestionLeaseService second = instance("instance-b", 300);
+
+        assertThat(first.tryAcquire("test:slice-1")).isTrue();
+        first.release("test:slice-1");
+        assertThat(second.tryAcquire("test:slice-1")).isTrue();
+
+        second.complete("test:slice-1");
+        assertThat(first.tryAcquire("test:slice-1")).isFalse();
+        assertThat(second.tryAcquire("test:slice-1")).isFalse();
+    }
+
+    @Test
+    void purgeCompletedMatchesPrefixLiterally() {
+        IngestionLeaseService service = instance("instance-a", 300);
+        LocalDateTime sliceEnd = LocalDateTime.of(2025, 8, 1, 1, 0);
+        List<String> leaseKeys = List.of(
+                "incremental:dummy_data:2025-08-01T00:00:00",
+                "incremental:late:dummy_data:2025-08-01T00:00:00",
+                "incremental:dummyXdata:2025-08-01T00:00:00");
+        for (String leaseKey : leaseKeys) {
+            assertThat(service.tryAcquire(leaseKey, sliceEnd)).isTrue();
+            service.complete(leaseKey);
+        }
+
+        assertThat(service.purgeCompleted("incremental:dummy_data:", sliceEnd.plusDays(1))).isEqualTo(1);
+        assertThat(service.find(leaseKeys.get(0))).isEmpty();
+        assertThat(service.find(leaseKeys.get(1))).isPresent();
+        assertThat(service.find(leaseKeys.get(2))).isPresent();
+    }
+
+    @Test
+    void heldLeaseIsRenewedWhileDefaultSchedulerIsBusy() throws InterruptedException {
+        // 스프링 기본 스케줄러(스레드 1개)를 임대 시간보다 오래 붙잡아 긴 증분 적재/백필 작업을 흉내냄
+        CountDownLatch schedulerBusy = new CountDownLatch(1);
+        CountDownLatch releaseScheduler = new CountDownLatch(1);
+        taskScheduler.schedule(() -> {
+            schedulerBusy.countDown();
+            try {
+                releaseScheduler.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, Instant.now());
+        assertThat(schedulerBusy.await(5, TimeUnit.SECONDS)).isTrue();
+
+        IngestionLeaseService worker = new IngestionLeaseService(leaseRepository, "instance-a", 1, 200);
+        IngestionLeaseService other = instance("instance-b", 300);
+        try {
+            worker.startRenewal();
+            assertThat(worker.tryAcquire("test:slice-1")).isTrue();
+
+            // 구간 처리가 임대 시간(1초)보다 오래 걸려도 임대가 유지되어야 함
+            Thread.sleep(2_500);
+            assertThat(other.tryAcquire("test:slice-1")).isFalse();
+            assertThat(worker.find("test:slice-1")).get()
+                    .extracting(lease -> lease.getOwner())
+                    .isEqualTo("instance-a");
+        } finally {
+            releaseScheduler.countDown();
+            worker.shutdown();
+        }
+    }
+
+    @Test
+    void concurrentInstancesClaimDisjointSlices() throws InterruptedException {
+        int instanceCount = 4;
+        int sliceCount = 50;
+        List<Set<String>> claimedByInstance = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(instanceCount);
+        CountDownLatch start = new CountDownLatch(1);
+
+        for (int i = 0; i < instanceCount; i++) {
+            IngestionLeaseService service = instance("instance-" + i, 300);
+            Set<String> claimed = ConcurrentHashMap.newKeySet();
+            claimedByInstance.add(claimed);
+            executor.submit(() -> {
+                start.await();
+                for (int slice = 0; slice < sliceCount; slice++) {
+                    String leaseKey = "test:slice-" + slice;
+                    if (service.tryAcquire(leaseKey)) {
+                        claimed.add(leaseKey);
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        Set<String> allClaimed = ConcurrentHashMap.newKeySet();
+        int total = 0;
+        for (Set<String> claimed : claimedByInstance) {
+            allClaimed.addAll(claimed);
+            total += claimed.size();
+        }
+        assertThat(total).isEqualTo(sliceCount);
+        assertThat(allClaimed).hasSize(sliceCount);
+    }
+
+    private IngestionLeaseService instance(String instanceId, long ttlSeconds) {
+        return new IngestionLeaseService(leaseRepository, instanceId, ttlSeconds, 60_000);
+    }
+}
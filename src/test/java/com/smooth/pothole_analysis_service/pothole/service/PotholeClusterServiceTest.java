@@ -0,0 +1,120 @@
+package com.smooth.pothole_analysis_service.pothole.service;
+
+import com.smooth.pothole_analysis_service.TestConfig;
+import com.smooth.pothole_analysis_service.pothole.dto.PotholeRecordBatch;
+import com.smooth.pothole_analysis_service.pothole.entity.PotholeCluster;
+import com.smooth.pothole_analysis_service.pothole.repository.PotholeClusterRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+// 감지가 거리/기간 허용 범위에 따라 기존 군집에 합쳐지거나 새 군집이 되는지 검증 (기본 설정: 10m, 30일)
+// 적재처럼 배치마다 별도 트랜잭션으로 반영해 DB 에서 다시 읽은 군집과 비교
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+class PotholeClusterServiceTest {
+
+    private static final double METERS_PER_LON_DEGREE = 89000.0;
+    private static final double METERS_PER_LAT_DEGREE = 111139.0;
+    private static final double TOLERANCE_METERS = 10.0;
+
+    // 127.0 * 89000 / 10 은 정수이므로 경도 127.0 이 격자 칸 경계
+    private static final double BOUNDARY_LONGITUDE = 127.0;
+    private static final double LATITUDE = 37.5;
+
+    @Autowired
+    private PotholeClusterService clusterService;
+
+    @Autowired
+    private PotholeClusterRepository clusterRepository;
+
+    @BeforeEach
+    void setUp() {
+        clusterRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void detectionWithinDistanceToleranceMergesIntoExistingCluster() {
+        add(eastOf(0.5), LocalDateTime.of(2025, 6, 1, 9, 0), 3.0);
+        add(eastOf(6.5), LocalDateTime.of(2025, 6, 2, 9, 0), 5.0);
+
+        List<PotholeCluster> clusters = clusterRepository.findAll();
+        assertThat(clusters).singleElement().satisfies(cluster -> {
+            assertThat(cluster.getHitCount()).isEqualTo(2);
+            assertThat(cluster.getMaxImpactForce()).isEqualTo(5.0);
+            assertThat(cluster.getFirstDetectedAt()).isEqualTo(LocalDateTime.of(2025, 6, 1, 9, 0));
+            assertThat(cluster.getLastDetectedAt()).isEqualTo(LocalDateTime.of(2025, 6, 2, 9, 0));
+        });
+    }
+
+    @Test
+    void detectionOutsideDistanceToleranceStartsNewCluster() {
+        add(eastOf(0.5), LocalDateTime.of(2025, 6, 1, 9, 0), 3.0);
+        add(eastOf(15.5), LocalDateTime.of(2025, 6, 1, 10, 0), 3.0);
+
+        assertThat(clusterRepository.findAll()).hasSize(2);
+    }
+
+    @Test
+    void detectionOutsideTimeToleranceStartsNewCluster() {
+        add(eastOf(0.5), LocalDateTime.of(2025, 1, 1, 9, 0), 3.0);
+        // 같은 위치지만 마지막 감지일로부터 30일을 넘김 (보수 후 다시 생긴 포트홀)
+        add(eastOf(0.5), LocalDateTime.of(2025, 2, 1, 9, 0), 3.0);
+
+        assertThat(clusterRepository.findAll())
+                .hasSize(2)
+                .allSatisfy(cluster -> assertThat(cluster.getHitCount()).isEqualTo(1));
+    }
+
+    @Test
+    void centroidMovingAcrossCellBoundaryIsStoredInNewCell() {
+        // 경계 서쪽 2m 에서 시작한 군집의 중심이 경계 동쪽 2m 로 옮겨 감
+        add(eastOf(-2.0), LocalDateTime.of(2025, 6, 1, 9, 0), 3.0);
+        PotholeCluster created = clusterRepository.findAll().get(0);
+        assertThat(created.getCellKey()).isEqualTo(cellKeyOf(eastOf(-2.0)));
+
+        add(eastOf(6.0), LocalDateTime.of(2025, 6, 1, 10, 0), 3.0);
+        PotholeCluster moved = clusterRepository.findById(created.getId()).orElseThrow();
+        assertThat(moved.getHitCount()).isEqualTo(2);
+        assertThat(moved.getLongitude()).isCloseTo(eastOf(2.0), offset(1e-9));
+        assertThat(moved.getCellKey()).isEqualTo(cellKeyOf(eastOf(2.0)));
+
+        // 옮겨 간 칸에서 다시 찾아 합쳐야 함
+        add(eastOf(4.0), LocalDateTime.of(2025, 6, 1, 11, 0), 3.0);
+        assertThat(clusterRepository.findAll())
+                .singleElement()
+                .satisfies(cluster -> assertThat(cluster.getHitCount()).isEqualTo(3));
+    }
+
+    private void add(double longitude, LocalDateTime detectedAt, double impactForce) {
+        PotholeRecordBatch batch = new PotholeRecordBatch(1);
+        int row = batch.addRow();
+        batch.setCarId(row, "car-1");
+        batch.setNumber(PotholeRecordBatch.LOCATION_X, row, longitude);
+        batch.setNumber(PotholeRecordBatch.LOCATION_Y, row, LATITUDE);
+        batch.setNumber(PotholeRecordBatch.IMPACT_FORCE, row, impactForce);
+        batch.setDetectedAt(row, detectedAt);
+        batch.setCoordinates(row, longitude, LATITUDE);
+        clusterService.addDetections(batch, new int[]{row}, 1);
+    }
+
+    private static double eastOf(double meters) {
+        return BOUNDARY_LONGITUDE + meters / METERS_PER_LON_DEGREE;
+    }
+
+    private static long cellKeyOf(double longitude) {
+        long cellX = (long) Math.floor(longitude * METERS_PER_LON_DEGREE / TOLERANCE_METERS);
+        long cellY = (long) Math.floor(LATITUDE * METERS_PER_LAT_DEGREE / TOLERANCE_METERS);
+        return (cellX << 32) | (cellY & 0xFFFFFFFFL);
+    }
+}
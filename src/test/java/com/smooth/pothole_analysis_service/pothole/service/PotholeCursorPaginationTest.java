@@ -0,0 +1,212 @@
+package com.smooth.pothole_analysis_service.pothole.service;
+
+import com.smooth.pothole_analysis_service.TestConfig;
+import com.smooth.pothole_analysis_service.global.exception.BusinessException;
+import com.smooth.pothole_analysis_service.pothole.dto.PotholeCursor;
+import com.smooth.pothole_analysis_service.pothole.dto.PotholeCursorPageResponseDto;
+import com.smooth.pothole_analysis_service.pothole.dto.PotholeQueryResponseDto;
+import com.smooth.pothole_analysis_service.pothole.entity.PotholeData;
+import com.smooth.pothole_analysis_service.pothole.exception.PotholeErrorCode;
+import com.smooth.pothole_analysis_service.pothole.repository.PotholeDataRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 커서(키셋) 페이지네이션 검증 - 감지 시각이 같은 행이 많아도 건너뛰거나 반복하지 않아야 함
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+class PotholeCursorPaginationTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 9, 1);
+    private static final LocalDate END = LocalDate.of(2025, 9, 30);
+
+    @Autowired
+    private PotholeQueryService potholeQueryService;
+
+    @Autowired
+    private PotholeDataRepository repository;
+
+    @Autowired
+    private DatasetVersionService datasetVersionService;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAllInBatch();
+        // 다른 테스트가 캐시한 응답을 쓰지 않도록 버전을 올림 (테스트는 저장을 마친 뒤 조회)
+        datasetVersionService.bump();
+    }
+
+    @Test
+    void cursorTokenRoundTrips() {
+        PotholeCursor cursor = new PotholeCursor(LocalDateTime.of(2025, 9, 1, 13, 35, 52, 123_456_000), 42L);
+
+        String token = cursor.encode();
+
+        assertThat(token).doesNotContain("=", "+", "/");
+        assertThat(PotholeCursor.decode(token)).isEqualTo(cursor);
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        String withoutSeparator = Base64.getUrlEncoder().encodeToString("2025-09-01T00:00".getBytes(StandardCharsets.UTF_8));
+        String badDate = Base64.getUrlEncoder().encodeToString("yesterday|1".getBytes(StandardCharsets.UTF_8));
+
+        for (String token : List.of("not a token!", withoutSeparator, badDate)) {
+            assertThatThrownBy(() -> PotholeCursor.decode(token))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting(e -> ((BusinessException) e).getErrorCode())
+                    .isEqualTo(PotholeErrorCode.INVALID_REQUEST_PARAMETER);
+        }
+    }
+
+    @Test
+    void pagesExposeNextCursorUntilLastPage() {
+        for (int day = 1; day <= 5; day++) {
+            save(LocalDateTime.of(2025, 9, day, 10, 0), false);
+        }
+
+        PotholeCursorPageResponseDto first = page(null, 2, null, false);
+        PotholeCursorPageResponseDto second = page(first.getNextCursor(), 2, null, false);
+        PotholeCursorPageResponseDto last = page(second.getNextCursor(), 2, null, false);
+
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getNextCursor()).isNotNull();
+        assertThat(second.isHasNext()).isTrue();
+        assertThat(last.isHasNext()).isFalse();
+        assertThat(last.getNextCursor()).isNull();
+        assertThat(last.getContent()).hasSize(1);
+        assertThat(detectedDays(first, second, last)).containsExactly(5, 4, 3, 2, 1);
+    }
+
+    @Test
+    void rowsWithSameDetectedAtArePagedByIdWithoutGapsOrRepeats() {
+        LocalDateTime sameTime = LocalDateTime.of(2025, 9, 10, 8, 0);
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            expected.add(0, "p-" + save(sameTime, false).getId());
+        }
+
+        assertThat(collectAll(3, null)).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void confirmedFilterAppliesToEveryPage() {
+        List<String> confirmed = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            PotholeData saved = save(LocalDateTime.of(2025, 9, 1 + i, 9, 0), i % 2 == 0);
+            if (i % 2 == 0) {
+                confirmed.add(0, "p-" + saved.getId());
+            }
+        }
+
+        assertThat(collectAll(3, true)).containsExactlyElementsOf(confirmed);
+    }
+
+    @Test
+    void totalCountIsOnlyCalculatedWhenRequested() {
+        save(LocalDateTime.of(2025, 9, 1, 9, 0), true);
+        save(LocalDateTime.of(2025, 9, 2, 9, 0), false);
+        save(LocalDateTime.of(2025, 9, 3, 9, 0), false);
+
+        assertThat(page(null, 1, null, false).getTotalCount()).isNull();
+        assertThat(page(null, 1, null, true).getTotalCount()).isEqualTo(3);
+        assertThat(page(null, 1, false, true).getTotalCount()).isEqualTo(2);
+    }
+
+    @Test
+    void detectionAtNextMidnightIsOutsideTheRange() {
+        PotholeData lastMoment = save(END.atTime(23, 59, 59, 999_999_000), false);
+        save(END.plusDays(1).atStartOfDay(), false);
+        save(START.minusDays(1).atTime(23, 59, 59), false);
+        PotholeData firstMoment = save(START.atStartOfDay(), false);
+
+        PotholeCursorPageResponseDto page = page(null, 10, null, true);
+
+        assertThat(page.getContent())
+                .extracting(PotholeQueryResponseDto.PotholeContentDto::getPotholeId)
+                .containsExactly("p-" + lastMoment.getId(), "p-" + firstMoment.getId());
+        assertThat(page.getTotalCount()).isEqualTo(2);
+        assertThat(page.isHasNext()).isFalse();
+    }
+
+    @Test
+    void repositoryKeysetWalksDuplicateTimestampsExactlyOnce() {
+        List<PotholeData> saved = new ArrayList<>();
+        for (int hour = 0; hour < 3; hour++) {
+            for (int i = 0; i < 4; i++) {
+                saved.add(save(LocalDateTime.of(2025, 9, 15, 6 + hour, 0), false));
+            }
+        }
+        List<Long> expected = saved.stream()
+                .sorted(Comparator.comparing(PotholeData::getDetectedAt).thenComparing(PotholeData::getId).reversed())
+                .map(PotholeData::getId)
+                .toList();
+
+        LocalDateTime from = START.atStartOfDay();
+        LocalDateTime to = END.plusDays(1).atStartOfDay();
+        LocalDateTime cursorDetectedAt = to;
+        long cursorId = Long.MAX_VALUE;
+        List<Long> visited = new ArrayList<>();
+        while (true) {
+            List<PotholeData> rows = repository.findPageAfter(from, to, cursorDetectedAt, cursorId, PageRequest.of(0, 5));
+            if (rows.isEmpty()) {
+                break;
+            }
+            rows.forEach(row -> visited.add(row.getId()));
+            PotholeData last = rows.get(rows.size() - 1);
+            cursorDetectedAt = last.getDetectedAt();
+            cursorId = last.getId();
+        }
+
+        assertThat(visited).containsExactlyElementsOf(expected);
+    }
+
+    private List<String> collectAll(int size, Boolean confirmed) {
+        List<String> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            PotholeCursorPageResponseDto page = page(cursor, size, confirmed, false);
+            page.getContent().forEach(content -> ids.add(content.getPotholeId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+
+    private PotholeCursorPageResponseDto page(String cursor, int size, Boolean confirmed, boolean includeTotal) {
+        return potholeQueryService.getPotholeDataByCursor(cursor, size, START, END, confirmed, includeTotal);
+    }
+
+    private static List<Integer> detectedDays(PotholeCursorPageResponseDto... pages) {
+        List<Integer> days = new ArrayList<>();
+        for (PotholeCursorPageResponseDto page : pages) {
+            page.getContent().forEach(content -> days.add(content.getDetectedAt().getDayOfMonth()));
+        }
+        return days;
+    }
+
+    private PotholeData save(LocalDateTime detectedAt, boolean confirmed) {
+        return repository.save(PotholeData.builder()
+                .locationX(1.0)
+                .locationY(1.0)
+                .impactForce(1.0)
+                .detectedAt(detectedAt)
+                .status(confirmed)
+                .build());
+    }
+}
@@ -0,0 +1,100 @@
+package com.smooth.pothole_analysis_service.pothole.service;
+
+import com.smooth.pothole_analysis_service.TestConfig;
+import com.smooth.pothole_analysis_service.pothole.dto.PotholeRecordBatch;
+import com.smooth.pothole_analysis_service.pothole.dto.SaveResultDto;
+import com.smooth.pothole_analysis_service.pothole.repository.PotholeDataRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// ROW / BULK 저장 방식 처리량 비교 (./gradlew benchmark 로 실행)
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+class PotholeIngestBenchmarkTest {
+
+    private static final int ROW_COUNT = 20_000;
+    private static final int CHUNK_SIZE = 1_000;
+    private static final List<String> COLUMNS =
+            List.of("carid", "speed", "locationx", "locationy", "s3url", "impactforce", "zaxisvibration", "timestamp");
+
+    @Autowired
+    private PotholeService potholeService;
+
+    @Autowired
+    private PotholeDataRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAllInBatch();
+    }
+
+    @Test
+    void compareRowAndBulkWriteModes() {
+        List<List<String>> rows = generateRows(ROW_COUNT);
+
+        double rowModeFresh = ingest(rows, IngestWriteMode.ROW, ROW_COUNT, 0);
+        double rowModeRerun = ingest(rows, IngestWriteMode.ROW, 0, ROW_COUNT);
+        repository.deleteAllInBatch();
+        double bulkModeFresh = ingest(rows, IngestWriteMode.BULK, ROW_COUNT, 0);
+        double bulkModeRerun = ingest(rows, IngestWriteMode.BULK, 0, ROW_COUNT);
+
+        System.out.printf("[benchmark] %d rows - ROW: %.0f rows/s (rerun %.0f rows/s), BULK: %.0f rows/s (rerun %.0f rows/s)%n",
+                ROW_COUNT, rowModeFresh, rowModeRerun, bulkModeFresh, bulkModeRerun);
+    }
+
+    private double ingest(List<List<String>> rows, IngestWriteMode mode, int expectedSaved, int expectedDuplicates) {
+        SaveResultDto total = SaveResultDto.empty();
+        DuplicateKeyFilter duplicateKeyFilter = potholeService.newDuplicateKeyFilter();
+        PotholeRowDecoder decoder = PotholeRowDecoder.forHeader(COLUMNS);
+        PotholeRecordBatch batch = new PotholeRecordBatch(CHUNK_SIZE);
+        long startNanos = System.nanoTime();
+        for (int from = 0; from < rows.size(); from += CHUNK_SIZE) {
+            batch.clear();
+            for (List<String> row : rows.subList(from, Math.min(from + CHUNK_SIZE, rows.size()))) {
+                decoder.decode(row, batch);
+            }
+            total.add(potholeService.saveQueryResults("benchmark", batch, duplicateKeyFilter, mode));
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        assertThat(total.getSavedCount()).isEqualTo(expectedSaved);
+        assertThat(total.getDuplicateCount()).isEqualTo(expectedDuplicates);
+        assertThat(total.getErrorCount()).isZero();
+
+        return rows.size() / (elapsedNanos / 1_000_000_000.0);
+    }
+
+    private List<List<String>> generateRows(int count) {
+        List<List<String>> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(List.of(
+                    String.valueOf(i % 50 + 1),
+                    String.valueOf(30 + i % 40),
+                    String.valueOf(i * 0.5),
+                    String.valueOf(i * 0.25),
+                    "s3://bucket/images/" + i + ".jpg",
+                    String.valueOf(1.5 + (i % 100) / 10.0),
+                    String.valueOf(0.5 + (i % 30) / 10.0),
+                    timestamp(i)));
+        }
+        return rows;
+    }
+
+    // 행마다 다른 감지 시각 (2025-08-27 부터 4초 간격, 같은 날짜 안에서 증가)
+    private static String timestamp(int i) {
+        int seconds = i * 4;
+        return String.format("2025-08-27 %02d:%02d:%02d", seconds / 3_600, seconds / 60 % 60, seconds % 60);
+    }
+}
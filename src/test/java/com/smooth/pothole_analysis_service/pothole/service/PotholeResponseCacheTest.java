@@ -0,0 +1,110 @@
+package com.smooth.pothole_analysis_service.pothole.service;
+
+import com.smooth.pothole_analysis_service.TestConfig;
+import com.smooth.pothole_analysis_service.pothole.dto.PotholeCursorPageResponseDto;
+import com.smooth.pothole_analysis_service.pothole.dto.PotholeQueryResponseDto;
+import com.smooth.pothole_analysis_service.pothole.entity.PotholeData;
+import com.smooth.pothole_analysis_service.pothole.repository.PotholeDataRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 조회 응답 캐시가 데이터셋 버전이 바뀔 때만 다시 계산되는지 검증
+// 리포지토리로 직접 저장한 행은 버전을 올리지 않으므로 캐시된 응답에 보이지 않아야 함
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+class PotholeResponseCacheTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 9, 1);
+    private static final LocalDate END = LocalDate.of(2025, 9, 30);
+
+    @Autowired
+    private PotholeQueryService potholeQueryService;
+
+    @Autowired
+    private PotholeService potholeService;
+
+    @Autowired
+    private PotholeDataRepository repository;
+
+    @Autowired
+    private DatasetVersionService datasetVersionService;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAllInBatch();
+        datasetVersionService.bump();
+    }
+
+    @Test
+    void pageIsServedFromCacheUntilStatusChanges() {
+        PotholeData first = repository.save(pothole(1));
+        PotholeQueryResponseDto cached = potholeQueryService.getPotholeData(0, START, END, null);
+        assertThat(cached.getContent()).hasSize(1);
+
+        repository.save(pothole(2));
+        assertThat(potholeQueryService.getPotholeData(0, START, END, null)).isSameAs(cached);
+
+        potholeService.confirmPothole("p-" + first.getId());
+        PotholeQueryResponseDto refreshed = potholeQueryService.getPotholeData(0, START, END, null);
+        assertThat(refreshed.getContent()).hasSize(2);
+        assertThat(refreshed.getContent())
+                .filteredOn(content -> content.getPotholeId().equals("p-" + first.getId()))
+                .singleElement()
+                .satisfies(content -> assertThat(content.isConfirmed()).isTrue());
+    }
+
+    @Test
+    void cacheKeyIncludesConfirmedFilter() {
+        repository.save(pothole(1));
+
+        PotholeQueryResponseDto all = potholeQueryService.getPotholeData(0, START, END, null);
+        PotholeQueryResponseDto confirmed = potholeQueryService.getPotholeData(0, START, END, true);
+
+        assertThat(all.getContent()).hasSize(1);
+        assertThat(confirmed.getContent()).isEmpty();
+    }
+
+    @Test
+    void unboundedListIsNotCached() {
+        repository.save(pothole(1));
+        assertThat(potholeQueryService.getAllPotholeData(START, END, null)).hasSize(1);
+
+        repository.save(pothole(2));
+        List<PotholeQueryResponseDto.PotholeContentDto> all = potholeQueryService.getAllPotholeData(START, END, null);
+
+        assertThat(all).hasSize(2);
+    }
+
+    @Test
+    void cursorPageIsServedFromCacheUntilVersionChanges() {
+        repository.save(pothole(1));
+        PotholeCursorPageResponseDto cached = potholeQueryService.getPotholeDataByCursor(null, 10, START, END, null, false);
+
+        repository.save(pothole(2));
+        assertThat(potholeQueryService.getPotholeDataByCursor(null, 10, START, END, null, false)).isSameAs(cached);
+
+        datasetVersionService.bump();
+        assertThat(potholeQueryService.getPotholeDataByCursor(null, 10, START, END, null, false).getContent()).hasSize(2);
+    }
+
+    private static PotholeData pothole(int day) {
+        return PotholeData.builder()
+                .locationX((double) day)
+                .locationY((double) day)
+                .impactForce(1.0)
+                .detectedAt(LocalDateTime.of(2025, 9, day, 10, 0))
+                .status(false)
+                .build();
+    }
+}
@@ -0,0 +1,79 @@
+package com.smooth.pothole_analysis_service.pothole.service;
+
+import com.smooth.pothole_analysis_service.pothole.dto.PotholeRecordBatch;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 고정 자리 타임스탬프 변환이 DateTimeFormatter 변환(마이크로초 절사)과 같은 값을 만드는지 검증
+class PotholeRowDecoderTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "2025-08-27 13:35:52", "2025-08-27T13:35:52", "2025-08-27", " 2025-08-27 13:35:52.5 ",
+            "2025-08-27 13:35:52.1", "2025-08-27 13:35:52.123", "2025-08-27 13:35:52.123456",
+            "2025-08-27 13:35:52.1234567", "2025-08-27 13:35:52.123456789",
+            "2024-02-29 23:59:59.999999", "2000-02-29", "2100-02-28", "2025-12-31 23:59:59", "2026-01-01 00:00:00",
+            "1970-01-01 00:00:00", "1969-12-31 23:59:59.000001", "1900-03-01", "0001-01-01 00:00:00",
+            // 고정 자리 형식이 아니어서 DateTimeFormatter 로 변환되는 값
+            "2025-08-27 13:35", "2025-08-27T13:35:52.12"
+    })
+    void matchesFormatterResult(String timestamp) {
+        LocalDateTime expected = isoParse(timestamp);
+
+        long epochMicros = PotholeRowDecoder.parseTimestampMicros(timestamp);
+
+        assertThat(epochMicros).isEqualTo(PotholeRecordBatch.toEpochMicros(expected));
+        assertThat(PotholeRecordBatch.fromEpochMicros(epochMicros))
+                .isEqualTo(expected.withNano(expected.getNano() / 1_000 * 1_000));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "", "  ", "garbage", "2025-13-01", "2025-00-10", "2025-08-32", "2025-08-27 13:60:00", "2025-08-27 13:35:60",
+            "2025-08-27 13:35:52.1234567890", "2025-08-27 13:35:52.12a", "2025/08/27 13:35:52", "2025-08-27X13:35:52"
+    })
+    void unexpectedFormatHasNoValue(String timestamp) {
+        assertThat(PotholeRowDecoder.parseTimestampMicros(timestamp)).isEqualTo(PotholeRowDecoder.NO_TIMESTAMP);
+    }
+
+    @Test
+    void decodedRowsKeepTheirOwnTimestamp() {
+        PotholeRowDecoder decoder = PotholeRowDecoder.forHeader(List.of("carid", "timestamp"));
+        PotholeRecordBatch batch = new PotholeRecordBatch(3);
+
+        decoder.decode(List.of("1", "2025-08-27 13:35:52.123456"), batch);
+        decoder.decode(List.of("2", "2025-08-27 13:35:53"), batch);
+        decoder.decode(List.of("3", "not a timestamp"), batch);
+
+        assertThat(batch.getDetectedAt(0)).isEqualTo(LocalDateTime.of(2025, 8, 27, 13, 35, 52, 123_456_000));
+        assertThat(batch.getDetectedAt(1)).isEqualTo(LocalDateTime.of(2025, 8, 27, 13, 35, 53));
+        assertThat(batch.hasDetectedAt(2)).isFalse();
+        assertThat(batch.getDetectedAt(2)).isNull();
+    }
+
+    @Test
+    void fieldsAreDecodedByColumnType() {
+        PotholeRowDecoder decoder = PotholeRowDecoder.forHeader(List.of("s3url", "IMPACTFORCE", "unused", "carid", "speed"));
+        PotholeRecordBatch batch = new PotholeRecordBatch(1);
+
+        decoder.decode(List.of("s3://bucket/a.jpg", " 3.5 ", "ignored", "car-1", "fast"), batch);
+
+        assertThat(batch.getS3Url(0)).isEqualTo("s3://bucket/a.jpg");
+        assertThat(batch.getCarId(0)).isEqualTo("car-1");
+        assertThat(batch.getNumber(PotholeRecordBatch.IMPACT_FORCE, 0)).isEqualTo(3.5);
+        assertThat(batch.hasNumber(PotholeRecordBatch.SPEED, 0)).isFalse();
+    }
+
+    // 기대값은 ISO 형식으로 바꿔 표준 파서로 계산
+    private static LocalDateTime isoParse(String timestamp) {
+        String iso = timestamp.trim().replace(' ', 'T');
+        return iso.length() == 10 ? LocalDate.parse(iso).atStartOfDay() : LocalDateTime.parse(iso);
+    }
+}
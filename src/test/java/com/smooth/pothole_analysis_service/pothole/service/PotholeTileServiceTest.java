@@ -0,0 +1,110 @@
+package com.smooth.pothole_analysis_service.pothole.service;
+
+import com.smooth.pothole_analysis_service.TestConfig;
+import com.smooth.pothole_analysis_service.global.util.GeoHash;
+import com.smooth.pothole_analysis_service.pothole.dto.PotholeRecordBatch;
+import com.smooth.pothole_analysis_service.pothole.dto.PotholeTileResponseDto;
+import com.smooth.pothole_analysis_service.pothole.entity.PotholeData;
+import com.smooth.pothole_analysis_service.pothole.repository.PotholeDataRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 지도 타일 조회가 화면 영역에 맞게 자릿수를 제한하고 영역 밖 칸을 걸러내는지 검증
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+class PotholeTileServiceTest {
+
+    @Autowired
+    private PotholeTileService tileService;
+
+    @Autowired
+    private DatasetVersionService datasetVersionService;
+
+    @Autowired
+    private PotholeDataRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM pothole_tile_cell");
+        // 집계 칸을 직접 바꾸므로 캐시된 타일 응답을 쓰지 않도록 버전을 올림
+        datasetVersionService.bump();
+    }
+
+    @Test
+    void wideBoundingBoxLowersPrecisionRegardlessOfZoom() {
+        PotholeTileResponseDto world = tileService.getTiles(22, -90.0, -180.0, 90.0, 180.0);
+
+        assertThat(world.getPrecision()).isEqualTo(PotholeTileService.MIN_PRECISION);
+        assertThat(PotholeTileService.precisionForBox(37.45, 126.95, 37.55, 127.05))
+                .isEqualTo(PotholeTileService.precisionForZoom(12));
+    }
+
+    @Test
+    void cellsOutsideBoundingBoxAreClipped() {
+        // 127.07 은 화면 영역을 덮는 5자리 접두사 칸 안에 있지만 영역 밖
+        PotholeRecordBatch batch = new PotholeRecordBatch(2);
+        addRow(batch, 37.5, 127.0);
+        addRow(batch, 37.5, 127.07);
+        tileService.addDetections(batch, new int[]{0, 1}, 2);
+
+        PotholeTileResponseDto tiles = tileService.getTiles(12, 37.45, 126.95, 37.55, 127.05);
+
+        assertThat(tiles.isTruncated()).isFalse();
+        assertThat(tiles.getCells()).singleElement().satisfies(cell -> {
+            assertThat(cell.getCount()).isEqualTo(1);
+            assertThat(cell.getLocation().getLongitude()).isEqualTo(127.0);
+        });
+    }
+
+    @Test
+    void rebuildReplacesPartialCellsOnceAndLeavesMarker() {
+        repository.deleteAllInBatch();
+        jdbcTemplate.update("DELETE FROM ingestion_watermark WHERE source_table = ?", PotholeTileService.REBUILD_MARKER);
+        jdbcTemplate.update("DELETE FROM ingestion_lease WHERE lease_key = ?", PotholeTileService.REBUILD_MARKER);
+        repository.save(PotholeData.builder()
+                .latitude(37.5)
+                .longitude(127.0)
+                .geohash(GeoHash.encode(37.5, 127.0, GeoHash.STORED_PRECISION))
+                .status(false)
+                .build());
+        // 집계 도입 후 일부 감지만 반영된 칸 (비어 있지 않아도 다시 집계해야 함)
+        PotholeRecordBatch partial = new PotholeRecordBatch(1);
+        addRow(partial, 37.5, 127.07);
+        tileService.addDetections(partial, new int[]{0}, 1);
+
+        tileService.rebuildOnce();
+
+        assertThat(minPrecisionHitCount()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ingestion_watermark WHERE source_table = ?",
+                Long.class, PotholeTileService.REBUILD_MARKER)).isEqualTo(1);
+
+        // 완료 표시가 남았으므로 다시 호출해도 집계 칸을 지우지 않음
+        tileService.addDetections(partial, new int[]{0}, 1);
+        tileService.rebuildOnce();
+
+        assertThat(minPrecisionHitCount()).isEqualTo(2);
+    }
+
+    private long minPrecisionHitCount() {
+        return jdbcTemplate.queryForObject("SELECT SUM(hit_count) FROM pothole_tile_cell WHERE precision_level = ?",
+                Long.class, PotholeTileService.MIN_PRECISION);
+    }
+
+    private static void addRow(PotholeRecordBatch batch, double latitude, double longitude) {
+        int row = batch.addRow();
+        batch.setNumber(PotholeRecordBatch.LOCATION_X, row, longitude);
+        batch.setNumber(PotholeRecordBatch.LOCATION_Y, row, latitude);
+        batch.setCoordinates(row, longitude, latitude);
+    }
+}
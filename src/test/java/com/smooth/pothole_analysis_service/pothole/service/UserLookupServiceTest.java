@@ -0,0 +1,301 @@
+package com.smooth.pothole_analysis_service.pothole.service;
+
+import com.smooth.pothole_analysis_service.TestConfig;
+import com.smooth.pothole_analysis_service.global.util.CircuitBreaker;
+import com.smooth.pothole_analysis_service.pothole.client.UserServiceClient;
+import com.smooth.pothole_analysis_service.pothole.client.UserServiceGateway;
+import com.smooth.pothole_analysis_service.pothole.dto.PotholeQueryResponseDto;
+import com.smooth.pothole_analysis_service.pothole.dto.UserCacheStatsDto;
+import com.smooth.pothole_analysis_service.pothole.entity.PotholeData;
+import com.smooth.pothole_analysis_service.pothole.repository.PotholeDataRepository;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 로컬 스텁 user-service 로 사용자 정보 일괄 조회와 캐시의 호출 횟수 검증
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+class UserLookupServiceTest {
+
+    private static final Pattern SINGLE_USER_PATH = Pattern.compile("/internal/v1/users/(\\d+)/admin-info");
+    private static final Pattern USER_ID_PARAM = Pattern.compile("userIds=([^&]+)");
+    private static final Map<String, String> USER_NAMES = Map.of("1", "김철수", "2", "이영희", "3", "박민수");
+
+    private static final AtomicInteger batchRequests = new AtomicInteger();
+    private static final AtomicInteger singleRequests = new AtomicInteger();
+    private static volatile boolean batchSupported = true;
+    private static volatile long responseDelayMs = 0;
+
+    private static final HttpServer stubUserService = startStubUserService();
+
+    @Autowired
+    private PotholeQueryService potholeQueryService;
+
+    @Autowired
+    private PotholeDataRepository repository;
+
+    @Autowired
+    private UserServiceClient userServiceClient;
+
+    @DynamicPropertySource
+    static void userServiceUrl(DynamicPropertyRegistry registry) {
+        registry.add("user.service.url", () -> "http://localhost:" + stubUserService.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopStubUserService() {
+        stubUserService.stop(0);
+    }
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAllInBatch();
+        batchRequests.set(0);
+        singleRequests.set(0);
+        batchSupported = true;
+        responseDelayMs = 0;
+    }
+
+    @Test
+    void pageLooksUpDistinctUsersInOneCall() {
+        List<PotholeData> rows = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            rows.add(pothole(i, String.valueOf(i % 3 + 1)));
+        }
+        rows.set(9, pothole(9, "999"));
+        repository.saveAll(rows);
+
+        PotholeQueryResponseDto page = potholeQueryService.getPotholeData(
+                0, LocalDate.of(2025, 8, 1), LocalDate.of(2025, 8, 31), null);
+
+        assertThat(batchRequests.get()).isEqualTo(1);
+        assertThat(singleRequests.get()).isZero();
+        assertThat(page.getContent()).hasSize(10);
+        for (PotholeQueryResponseDto.PotholeContentDto content : page.getContent()) {
+            String expectedName = USER_NAMES.getOrDefault(content.getUser().getUserId(), UserLookupService.UNKNOWN_USER_NAME);
+            assertThat(content.getUser().getUserName()).isEqualTo(expectedName);
+        }
+    }
+
+    @Test
+    void fallsBackToDistinctSingleLookupsWhenBatchApiIsMissing() {
+        batchSupported = false;
+        UserLookupService lookupService = newLookupService(30);
+
+        Map<String, PotholeQueryResponseDto.UserDto> users =
+                lookupService.findUsers(List.of("1", "2", "1", "3", "2", "abc"));
+        Map<String, PotholeQueryResponseDto.UserDto> secondPage = lookupService.findUsers(List.of("1", "4"));
+
+        // 일괄 조회는 처음 한 번만 시도하고, 이후에는 캐시에 없는 ID 만 한 건씩 조회
+        assertThat(batchRequests.get()).isEqualTo(1);
+        assertThat(singleRequests.get()).isEqualTo(4);
+        assertThat(users.get("2").getUserName()).isEqualTo("이영희");
+        assertThat(users.get("abc").getUserName()).isEqualTo(UserLookupService.UNKNOWN_USER_NAME);
+        assertThat(secondPage.get("1").getUserName()).isEqualTo("김철수");
+        assertThat(secondPage.get("4").getUserName()).isEqualTo(UserLookupService.UNKNOWN_USER_NAME);
+    }
+
+    @Test
+    void cachesFoundAndMissingUsers() {
+        UserLookupService lookupService = newLookupService(30);
+
+        lookupService.findUsers(List.of("1", "999"));
+        Map<String, PotholeQueryResponseDto.UserDto> users = lookupService.findUsers(List.of("1", "999"));
+
+        assertThat(batchRequests.get()).isEqualTo(1);
+        assertThat(users.get("1").getUserName()).isEqualTo("김철수");
+        assertThat(users.get("999").getUserName()).isEqualTo(UserLookupService.UNKNOWN_USER_NAME);
+
+        UserCacheStatsDto stats = lookupService.getCacheStats();
+        assertThat(stats.getHitCount()).isEqualTo(2);
+        assertThat(stats.getMissCount()).isEqualTo(2);
+        assertThat(stats.getNegativeEntries()).isEqualTo(1);
+    }
+
+    @Test
+    void missingUsersAreRetriedAfterNegativeTtl() {
+        UserLookupService lookupService = newLookupService(0);
+
+        lookupService.findUsers(List.of("1", "999"));
+        lookupService.findUsers(List.of("1", "999"));
+
+        // 찾은 사용자는 캐시에서, 없는 사용자만 다시 요청
+        assertThat(batchRequests.get()).isEqualTo(2);
+        assertThat(lookupService.getCacheStats().getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentLookupsOfSameUserShareOneRequest() throws InterruptedException {
+        UserLookupService lookupService = newLookupService(30);
+        responseDelayMs = 200;
+
+        int threadCount = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Map<String, PotholeQueryResponseDto.UserDto>>> results = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return lookupService.findUsers(List.of("2"));
+            }));
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(batchRequests.get()).isEqualTo(1);
+        for (Future<Map<String, PotholeQueryResponseDto.UserDto>> result : results) {
+            assertThat(result.resultNow().get("2").getUserName()).isEqualTo("이영희");
+        }
+    }
+
+    @Test
+    void slowUserServiceDegradesToUnknownUsersWithinTimeout() {
+        responseDelayMs = 2_000;
+        batchSupported = false;
+        UserLookupService lookupService = new UserLookupService(
+                new UserServiceGateway(userServiceClient, 100, 300, 16, 100, 30), 1_000, 600, 0);
+
+        long startedAt = System.nanoTime();
+        Map<String, PotholeQueryResponseDto.UserDto> users = lookupService.findUsers(List.of("1", "2", "3"));
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // 일괄 조회 시간 초과 - 사용자별 조회로 넘어가지 않고 제한 시간 안에 carId 만 채워 반환
+        assertThat(elapsedMs).isLessThan(1_500);
+        assertThat(users.get("1").getUserId()).isEqualTo("1");
+        assertThat(users.get("1").getUserName()).isEqualTo(UserLookupService.UNKNOWN_USER_NAME);
+        assertThat(singleRequests.get()).isZero();
+    }
+
+    @Test
+    void circuitOpensAfterConsecutiveTimeouts() {
+        responseDelayMs = 1_000;
+        UserServiceGateway gateway = new UserServiceGateway(userServiceClient, 100, 100, 16, 2, 30);
+        UserLookupService lookupService = new UserLookupService(gateway, 1_000, 600, 0);
+
+        lookupService.findUsers(List.of("1"));
+        lookupService.findUsers(List.of("2"));
+        assertThat(gateway.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        // 서킷이 열린 동안에는 user-service 를 호출하지 않음
+        responseDelayMs = 0;
+        int requestsBefore = batchRequests.get();
+        Map<String, PotholeQueryResponseDto.UserDto> users = lookupService.findUsers(List.of("3"));
+        assertThat(batchRequests.get()).isEqualTo(requestsBefore);
+        assertThat(users.get("3").getUserName()).isEqualTo(UserLookupService.UNKNOWN_USER_NAME);
+        assertThat(lookupService.getCacheStats().getCircuitState()).isEqualTo("OPEN");
+    }
+
+    private UserLookupService newLookupService(long negativeTtlSeconds) {
+        return new UserLookupService(new UserServiceGateway(userServiceClient, 100, 5_000, 16, 5, 30),
+                1_000, 600, negativeTtlSeconds);
+    }
+
+    private static PotholeData pothole(int index, String carId) {
+        return PotholeData.builder()
+                .carId(carId)
+                .locationX((double) index)
+                .locationY((double) index)
+                .impactForce(1.0)
+                .detectedAt(LocalDate.of(2025, 8, index + 1).atTime(12, 0))
+                .status(false)
+                .build();
+    }
+
+    private static HttpServer startStubUserService() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/internal/v1/users", UserLookupServiceTest::handle);
+            // 요청마다 별도 스레드에서 처리 (지연 응답 중에도 다음 요청을 바로 받아 집계)
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        if (responseDelayMs > 0) {
+            try {
+                Thread.sleep(responseDelayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        String path = exchange.getRequestURI().getPath();
+        Matcher single = SINGLE_USER_PATH.matcher(path);
+
+        if (single.matches()) {
+            singleRequests.incrementAndGet();
+            String userName = USER_NAMES.get(single.group(1));
+            if (userName == null) {
+                respond(exchange, 404, "{}");
+            } else {
+                respond(exchange, 200, userJson(single.group(1), userName));
+            }
+        } else if (path.equals("/internal/v1/users/admin-info")) {
+            batchRequests.incrementAndGet();
+            if (!batchSupported) {
+                respond(exchange, 404, "{}");
+                return;
+            }
+            List<String> userIds = new ArrayList<>();
+            Matcher param = USER_ID_PARAM.matcher(exchange.getRequestURI().getRawQuery());
+            while (param.find()) {
+                for (String userId : param.group(1).split("%2C|,")) {
+                    userIds.add(userId);
+                }
+            }
+            respond(exchange, 200, userIds.stream()
+                    .filter(USER_NAMES::containsKey)
+                    .map(userId -> userJson(userId, USER_NAMES.get(userId)))
+                    .collect(Collectors.joining(",", "[", "]")));
+        } else {
+            respond(exchange, 404, "{}");
+        }
+    }
+
+    private static String userJson(String userId, String userName) {
+        return "{\"userId\":\"" + userId + "\",\"userName\":\"" + userName + "\"}";
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}